@@ -1,10 +1,12 @@
 package com.topicosavancados.auth_service.config;
 
+import com.topicosavancados.auth_service.service.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,6 +14,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -19,10 +23,17 @@ import java.util.UUID;
 @Component
 public class AuthServiceJwtFilter extends OncePerRequestFilter {
 
+    public static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final byte[] serviceToken;
 
-    public AuthServiceJwtFilter(JwtTokenProvider jwtTokenProvider) {
+    public AuthServiceJwtFilter(JwtTokenProvider jwtTokenProvider, TokenRevocationService tokenRevocationService,
+                                @Value("${auth.service-token:}") String serviceToken) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationService = tokenRevocationService;
+        this.serviceToken = serviceToken.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -32,7 +43,18 @@ public class AuthServiceJwtFilter extends OncePerRequestFilter {
         
         // Skip JWT processing for public endpoints
         String path = request.getRequestURI();
-        if (path != null && (path.equals("/api/auth/login") || path.equals("/api/auth/register") || path.equals("/api/auth/validate-token"))) {
+        if (path != null && (path.equals("/api/auth/login") || path.equals("/api/auth/register") || path.equals("/api/auth/validate-token")
+                || path.equals("/api/auth/introspect"))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // O feed de revogação expõe ids de usuários: só os serviços internos, com a credencial compartilhada, o leem
+        if ("/api/auth/revocations".equals(path)) {
+            if (isServiceRequest(request)) {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "service", null, List.of(new SimpleGrantedAuthority("ROLE_SERVICE"))));
+            }
             filterChain.doFilter(request, response);
             return;
         }
@@ -46,6 +68,11 @@ public class AuthServiceJwtFilter extends OncePerRequestFilter {
 
         try {
             Claims claims = jwtTokenProvider.validateToken(token);
+            if (tokenRevocationService.isRevoked(claims)) {
+                SecurityContextHolder.clearContext();
+                filterChain.doFilter(request, response);
+                return;
+            }
             String username = claims.getSubject();
             String role = claims.get("role", String.class);
             if (role == null) {
@@ -69,4 +96,11 @@ public class AuthServiceJwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Credencial vazia desativa o acesso; a comparação é em tempo constante
+    private boolean isServiceRequest(HttpServletRequest request) {
+        String header = request.getHeader(SERVICE_TOKEN_HEADER);
+        return serviceToken.length > 0 && header != null
+                && MessageDigest.isEqual(serviceToken, header.getBytes(StandardCharsets.UTF_8));
+    }
+
 }
@@ -0,0 +1,30 @@
+package com.topicosavancados.auth_service.config;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal do login: o UserDetails padrão do Spring Security acrescido do id e do papel (sem ROLE_),
+ * para que a emissão do token use o usuário já autenticado em vez de buscá-lo de novo.
+ */
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final UUID id;
+    private final String role;
+
+    public AuthenticatedUser(UUID id, String username, String password, String role) {
+        super(username, password, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        this.id = id;
+        this.role = role;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getRole() {
+        return role;
+    }
+}
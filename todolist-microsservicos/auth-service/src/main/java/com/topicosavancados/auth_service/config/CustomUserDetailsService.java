@@ -3,29 +3,51 @@ package com.topicosavancados.auth_service.config;
 import com.topicosavancados.auth_service.model.User;
 import com.topicosavancados.auth_service.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        AuthenticatedUser cached = userDetailsCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities("ROLE_" + user.getRole())
-                .build();
+        userDetailsCache.put(user);
+        return toUserDetails(user);
     }
 
-}
\ No newline at end of file
+    /**
+     * Chamado pelo DaoAuthenticationProvider após um login válido cujo hash está com algoritmo
+     * ou custo desatualizado: grava o novo hash, calculado a partir da senha que acabou de ser conferida.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        User saved = userRepository.save(user);
+        userDetailsCache.put(saved);
+        return toUserDetails(saved);
+    }
+
+    private static AuthenticatedUser toUserDetails(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(), user.getRole());
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.topicosavancados.auth_service.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,34 +16,38 @@ import java.util.UUID;
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final long JWT_EXPIRATION_MS = 86400000; // 1 dia
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    // Chave e parser são criados uma vez; o JwtParser é imutável e thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateToken(String username, UUID userId, String role) {
-        long jwtExpirationMs = 86400000; // 1 dia
-        SecretKey key = getSigningKey();
-
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti usado pelo feed de revogação
                 .setSubject(username)
                 .claim("userId", userId.toString())
                 .claim("role", role) // Adiciona a role no token
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION_MS))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    public long getExpirationMs() {
+        return JWT_EXPIRATION_MS;
+    }
+
     public Claims validateToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
             throw new RuntimeException("Invalid JWT token: " + e.getMessage(), e);
         }
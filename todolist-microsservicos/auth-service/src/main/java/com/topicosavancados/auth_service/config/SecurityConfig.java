@@ -1,5 +1,8 @@
 package com.topicosavancados.auth_service.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,19 +11,26 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
     private final AuthenticationConfiguration authenticationConfiguration;
     private final AuthServiceJwtFilter authServiceJwtFilter;
 
@@ -41,8 +51,10 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/auth/login",
                                 "/api/auth/register",
-                                "/api/auth/validate-token"
+                                "/api/auth/validate-token",
+                                "/api/auth/introspect"
                         ).permitAll()
+                        .requestMatchers("/api/auth/revocations").hasRole("SERVICE")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
@@ -58,9 +70,45 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * Encoder de senhas configurável. Novos hashes usam auth.password.algorithm ("bcrypt" ou "argon2");
+     * hashes antigos sem prefixo {id} continuam válidos como BCrypt. Quando o algoritmo ou o custo mudam,
+     * o DaoAuthenticationProvider refaz o hash no próximo login (CustomUserDetailsService.updatePassword).
+     * Todo hash roda no pool limitado do BoundedPasswordEncoder.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${auth.password.algorithm:bcrypt}") String algorithm,
+            @Value("${auth.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${auth.password.hashing.threads:0}") int threads,
+            @Value("${auth.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.hashing.timeout-ms:5000}") long timeoutMillis) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        if ("argon2".equals(algorithm)) {
+            // Argon2PasswordEncoder depende do BouncyCastle (org.bouncycastle:bcprov-jdk18on) no classpath
+            if (!ClassUtils.isPresent("org.bouncycastle.crypto.generators.Argon2BytesGenerator", null)) {
+                throw new IllegalStateException("auth.password.algorithm=argon2 requires BouncyCastle on the classpath");
+            }
+            encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        } else if (!"bcrypt".equals(algorithm)) {
+            throw new IllegalStateException("Unsupported auth.password.algorithm: " + algorithm);
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        logger.info("Password hashing: {} (bcrypt strength {}), {} threads, queue {}, ~{} ms per hash",
+                algorithm, bcryptStrength, poolSize, queueCapacity, benchmarkMillis(encoders.get(algorithm)));
+        return new BoundedPasswordEncoder(delegating, poolSize, queueCapacity, timeoutMillis);
+    }
+
+    // Mede um hash na inicialização, para calibrar custo e tamanho do pool a partir do log
+    private static long benchmarkMillis(PasswordEncoder encoder) {
+        long start = System.nanoTime();
+        encoder.encode("benchmark-password");
+        return (System.nanoTime() - start) / 1_000_000;
     }
 
     @Bean
@@ -0,0 +1,103 @@
+package com.topicosavancados.auth_service.config;
+
+import com.topicosavancados.auth_service.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache LRU limitado dos dados de login (id, hash da senha e papel), chaveado pelo username.
+ * Cada leitura devolve um AuthenticatedUser novo: o ProviderManager apaga a senha do principal
+ * autenticado, então a instância nunca pode ser compartilhada entre logins.
+ * Entradas expiram após o TTL, para limitar a defasagem de alterações feitas fora deste serviço.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public UserDetailsCache(@Value("${auth.user-details-cache.max-size:10000}") int maxSize,
+                            @Value("${auth.user-details-cache.ttl-ms:300000}") long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserDetailsCache.this.maxSize;
+            }
+        };
+    }
+
+    public AuthenticatedUser get(String username) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry != null && now < entry.expiresAt()) {
+                hits.incrementAndGet();
+                return entry.toPrincipal();
+            }
+            if (entry != null) {
+                entries.remove(username);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(User user) {
+        if (maxSize <= 0) {
+            return;
+        }
+        Entry entry = new Entry(user.getId(), user.getUsername(), user.getPassword(), user.getRole(),
+                System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(user.getUsername(), entry);
+        }
+    }
+
+    public void evict(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("size", size());
+        metrics.put("maxSize", maxSize);
+        metrics.put("ttlMs", ttlMillis);
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        return metrics;
+    }
+
+    private record Entry(UUID id, String username, String password, String role, long expiresAt) {
+        AuthenticatedUser toPrincipal() {
+            return new AuthenticatedUser(id, username, password, role);
+        }
+    }
+}
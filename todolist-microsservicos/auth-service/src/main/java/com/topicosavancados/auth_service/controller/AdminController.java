@@ -1,25 +1,48 @@
 package com.topicosavancados.auth_service.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.topicosavancados.auth_service.config.BoundedPasswordEncoder;
+import com.topicosavancados.auth_service.config.UserDetailsCache;
 import com.topicosavancados.auth_service.dto.AdminStatsResponse;
+import com.topicosavancados.auth_service.dto.UserPageResponse;
 import com.topicosavancados.auth_service.dto.UserSummaryResponse;
-import com.topicosavancados.auth_service.model.User;
+import com.topicosavancados.auth_service.service.TokenRevocationService;
 import com.topicosavancados.auth_service.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/admin")
 public class AdminController {
 
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ObjectWriter userWriter;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
 
-    public AdminController(UserService userService) {
+    public AdminController(UserService userService, TokenRevocationService tokenRevocationService,
+                           ObjectMapper objectMapper, BoundedPasswordEncoder passwordEncoder,
+                           UserDetailsCache userDetailsCache) {
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userWriter = objectMapper.writerFor(UserSummaryResponse.class);
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @GetMapping("/dashboard")
@@ -31,19 +54,57 @@ public class AdminController {
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN')")
     public AdminStatsResponse getSystemStats() {
-        long totalUsers = userService.getTotalUsers();
-        long totalAdmins = userService.getTotalAdmins();
-        long totalRegularUsers = userService.getTotalRegularUsers();
-        
-        return new AdminStatsResponse(totalUsers, totalAdmins, totalRegularUsers);
+        return userService.getUserStats();
+    }
+
+    // Fila, rejeições e tempo médio do pool de hash de senhas
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getPasswordHashingMetrics() {
+        return passwordEncoder.getMetrics();
+    }
+
+    // Acertos e faltas do cache de dados de login
+    @GetMapping("/user-details-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getUserDetailsCacheMetrics() {
+        return userDetailsCache.getMetrics();
     }
 
     @GetMapping("/users")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<UserSummaryResponse> getAllUsers() {
-        return userService.getAllUsers().stream()
-                .map(user -> new UserSummaryResponse(user.getId(), user.getUsername(), user.getRole()))
-                .collect(Collectors.toList());
+    public UserPageResponse getAllUsers(@RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "50") int size) {
+        return userService.getUserSummaries(page, size);
     }
-}
 
+    // Exportação completa em NDJSON (um usuário JSON por linha), escrita à medida que o banco entrega as linhas
+    @GetMapping(value = "/users/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+        try {
+            userService.forEachUserSummary(user -> {
+                try {
+                    // writeValueAsBytes: writeValue(out, ...) fecharia o stream da resposta
+                    out.write(userWriter.writeValueAsBytes(user));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    @PostMapping("/users/{id}/revoke-tokens")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable UUID id) {
+        tokenRevocationService.revokeAllForUser(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,10 +1,19 @@
 package com.topicosavancados.auth_service.controller;
 
+import com.topicosavancados.auth_service.config.AuthenticatedUser;
 import com.topicosavancados.auth_service.dto.AuthRequest;
 import com.topicosavancados.auth_service.dto.JwtResponse;
+import com.topicosavancados.auth_service.dto.RevocationFeedResponse;
+import com.topicosavancados.auth_service.dto.TokenIntrospectionRequest;
+import com.topicosavancados.auth_service.dto.TokenIntrospectionResponse;
+import com.topicosavancados.auth_service.exception.PasswordHashingUnavailableException;
 import com.topicosavancados.auth_service.model.User;
 import com.topicosavancados.auth_service.service.AuthService;
+import com.topicosavancados.auth_service.service.TokenRevocationService;
 import com.topicosavancados.auth_service.service.UserService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,13 +28,21 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final AuthService authService;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // Limite de tokens por chamada de introspecção em lote
+    private final int maxIntrospectionBatchSize;
 
     public AuthController(AuthenticationManager authenticationManager,
                           AuthService authService,
-                          UserService userService) {
+                          UserService userService,
+                          TokenRevocationService tokenRevocationService,
+                          @Value("${auth.introspection.max-batch-size:100}") int maxIntrospectionBatchSize) {
         this.authenticationManager = authenticationManager;
         this.authService = authService;
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.maxIntrospectionBatchSize = maxIntrospectionBatchSize;
     }
 
     // LOGIN (recebe username e password em JSON)
@@ -37,8 +54,10 @@ public class AuthController {
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // 2) Gera o token JWT
-        String jwt = authService.createJwtForUser(request.getUsername());
+        // 2) Gera o token JWT a partir do principal autenticado (já traz id e papel)
+        String jwt = authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? authService.createJwtForUser(user)
+                : authService.createJwtForUser(request.getUsername());
 
         // 3) Retorna em JSON
         return ResponseEntity.ok(new JwtResponse(jwt));
@@ -69,4 +88,37 @@ public class AuthController {
             return ResponseEntity.ok(false);
         }
     }
-}
\ No newline at end of file
+
+    // INTROSPECÇÃO EM LOTE (tokens no corpo; validade e claims de cada um, na mesma ordem)
+    @PostMapping("/introspect")
+    public ResponseEntity<TokenIntrospectionResponse> introspect(@RequestBody TokenIntrospectionRequest request) {
+        if (request.getTokens() == null || request.getTokens().size() > maxIntrospectionBatchSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(new TokenIntrospectionResponse(authService.introspect(request.getTokens())));
+    }
+
+    // LOGOUT (revoga o token usado na requisição)
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authorizationHeader) {
+        if (!authorizationHeader.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().build();
+        }
+        authService.logout(authorizationHeader.substring(7));
+        return ResponseEntity.noContent().build();
+    }
+
+    // FEED DE REVOGAÇÃO (consumido pelos serviços de recursos)
+    @GetMapping("/revocations")
+    public RevocationFeedResponse getRevocations(@RequestParam(defaultValue = "0") long since) {
+        return tokenRevocationService.getRevocationsSince(since);
+    }
+
+    // Pool de hash de senhas saturado: o cliente deve tentar de novo em instantes
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<String> handleHashingUnavailable(PasswordHashingUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Too many login attempts in progress, try again shortly");
+    }
+}
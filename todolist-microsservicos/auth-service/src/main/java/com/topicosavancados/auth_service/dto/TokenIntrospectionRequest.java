@@ -0,0 +1,21 @@
+package com.topicosavancados.auth_service.dto;
+
+import java.util.List;
+
+public class TokenIntrospectionRequest {
+    private List<String> tokens;
+
+    public TokenIntrospectionRequest() {}
+
+    public TokenIntrospectionRequest(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    public void setTokens(List<String> tokens) {
+        this.tokens = tokens;
+    }
+}
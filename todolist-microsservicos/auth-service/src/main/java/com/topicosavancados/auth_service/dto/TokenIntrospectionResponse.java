@@ -0,0 +1,24 @@
+package com.topicosavancados.auth_service.dto;
+
+import java.util.List;
+
+/**
+ * Resultado da introspecção em lote: um item por token, na mesma ordem da requisição.
+ */
+public class TokenIntrospectionResponse {
+    private List<TokenIntrospectionResult> results;
+
+    public TokenIntrospectionResponse() {}
+
+    public TokenIntrospectionResponse(List<TokenIntrospectionResult> results) {
+        this.results = results;
+    }
+
+    public List<TokenIntrospectionResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<TokenIntrospectionResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,51 @@
+package com.topicosavancados.auth_service.dto;
+
+import java.util.List;
+
+public class UserPageResponse {
+    private List<UserSummaryResponse> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public UserPageResponse() {}
+
+    public UserPageResponse(List<UserSummaryResponse> items, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public List<UserSummaryResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<UserSummaryResponse> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
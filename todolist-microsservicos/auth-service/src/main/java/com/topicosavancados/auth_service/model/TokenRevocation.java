@@ -0,0 +1,109 @@
+package com.topicosavancados.auth_service.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entrada do feed de revogação. Cada linha revoga um token específico (jti)
+ * ou todos os tokens de um usuário emitidos antes de issuedBefore.
+ * O id é sequencial e funciona como versão do feed consumido pelos outros serviços; como ids são
+ * alocados no insert mas só ficam visíveis no commit, createdAt indica quando uma entrada já está assentada.
+ */
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_jti", columnList = "jti"),
+        @Index(name = "idx_token_revocations_user_id", columnList = "userId")
+})
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    @Column
+    private String jti;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column
+    private Instant issuedBefore;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    // Nulo em linhas anteriores à coluna, tratadas como assentadas
+    @Column
+    private Instant createdAt;
+
+    public TokenRevocation() {
+    }
+
+    public static TokenRevocation forToken(String jti, UUID userId, Instant expiresAt) {
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setJti(jti);
+        revocation.setUserId(userId);
+        revocation.setExpiresAt(expiresAt);
+        revocation.setCreatedAt(Instant.now());
+        return revocation;
+    }
+
+    public static TokenRevocation forUser(UUID userId, Instant issuedBefore, Instant expiresAt) {
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setUserId(userId);
+        revocation.setIssuedBefore(issuedBefore);
+        revocation.setExpiresAt(expiresAt);
+        revocation.setCreatedAt(Instant.now());
+        return revocation;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Instant getIssuedBefore() {
+        return issuedBefore;
+    }
+
+    public void setIssuedBefore(Instant issuedBefore) {
+        this.issuedBefore = issuedBefore;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,27 @@
+package com.topicosavancados.auth_service.repository;
+
+import com.topicosavancados.auth_service.model.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    List<TokenRevocation> findByVersionGreaterThanAndExpiresAtAfterOrderByVersionAsc(Long version, Instant now);
+
+    boolean existsByJti(String jti);
+
+    // Existe marca d'água posterior à emissão do token?
+    boolean existsByUserIdAndIssuedBeforeGreaterThan(UUID userId, Instant issuedAt);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,18 +1,38 @@
 package com.topicosavancados.auth_service.repository;
 
+import com.topicosavancados.auth_service.dto.UserSummaryResponse;
 import com.topicosavancados.auth_service.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username); // Atualizado para retornar Optional
     boolean existsByUsername(String username);     // Para verificar se o usuário já existe
-    
-    // Admin methods
-    long countByRole(String role);
+
+    // Todas as contagens do painel admin em uma única consulta
+    @Query("SELECT u.role AS role, COUNT(u) AS total FROM User u GROUP BY u.role")
+    List<UserRoleCount> countGroupedByRole();
+
+    // Listagem admin: só id, username e role (a coluna password nunca é lida).
+    // Slice evita o COUNT(*) que um Page exigiria.
+    @Query("SELECT new com.topicosavancados.auth_service.dto.UserSummaryResponse(u.id, u.username, u.role) FROM User u")
+    Slice<UserSummaryResponse> findUserSummaries(Pageable pageable);
+
+    // Exportação: percorre o resultado com cursor do JDBC em vez de carregar tudo em memória
+    @Query("SELECT new com.topicosavancados.auth_service.dto.UserSummaryResponse(u.id, u.username, u.role) FROM User u ORDER BY u.username")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<UserSummaryResponse> streamUserSummaries();
 }
 
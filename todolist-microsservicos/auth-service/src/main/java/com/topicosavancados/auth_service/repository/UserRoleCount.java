@@ -0,0 +1,10 @@
+package com.topicosavancados.auth_service.repository;
+
+/**
+ * Projeção da contagem de usuários agrupada por papel.
+ */
+public interface UserRoleCount {
+    String getRole();
+
+    long getTotal();
+}
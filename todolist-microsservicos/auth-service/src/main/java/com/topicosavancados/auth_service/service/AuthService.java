@@ -1,11 +1,15 @@
 package com.topicosavancados.auth_service.service;
 
+import com.topicosavancados.auth_service.config.AuthenticatedUser;
 import com.topicosavancados.auth_service.config.JwtTokenProvider;
+import com.topicosavancados.auth_service.dto.TokenIntrospectionResult;
 import com.topicosavancados.auth_service.model.User;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -14,10 +18,13 @@ public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthService(JwtTokenProvider jwtTokenProvider, UserService userService) {
+    public AuthService(JwtTokenProvider jwtTokenProvider, UserService userService,
+                       TokenRevocationService tokenRevocationService) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     public String createJwtForUser(String username) {
@@ -28,13 +35,48 @@ public class AuthService {
         return jwtTokenProvider.generateToken(username, userId, roleWithPrefix);
     }
 
+    // Emite o token a partir do principal recém-autenticado, sem nova consulta ao banco
+    public String createJwtForUser(AuthenticatedUser user) {
+        return jwtTokenProvider.generateToken(user.getUsername(), user.getId(), "ROLE_" + user.getRole());
+    }
+
     public boolean validateToken(String token) {
         try {
-            jwtTokenProvider.validateToken(token);
-            return true;
+            Claims claims = jwtTokenProvider.validateToken(token);
+            return !tokenRevocationService.isRevoked(claims);
         } catch (Exception e) {
             logger.debug("Token validation failed: {}", e.getMessage());
             return false;
         }
     }
+
+    /**
+     * Introspecção em lote: cada token é verificado localmente (assinatura, expiração e revogação)
+     * e o resultado traz os claims dos tokens ativos, na mesma ordem da entrada.
+     */
+    public List<TokenIntrospectionResult> introspect(List<String> tokens) {
+        return tokens.stream().map(this::introspect).toList();
+    }
+
+    private TokenIntrospectionResult introspect(String token) {
+        try {
+            Claims claims = jwtTokenProvider.validateToken(token);
+            if (tokenRevocationService.isRevoked(claims)) {
+                return TokenIntrospectionResult.inactive();
+            }
+            String userId = claims.get("userId", String.class);
+            return new TokenIntrospectionResult(true, claims.getSubject(),
+                    userId != null ? UUID.fromString(userId) : null,
+                    claims.get("role", String.class),
+                    claims.getExpiration() != null ? claims.getExpiration().getTime() : null);
+        } catch (Exception e) {
+            logger.debug("Token introspection failed: {}", e.getMessage());
+            return TokenIntrospectionResult.inactive();
+        }
+    }
+
+    public void logout(String token) {
+        Claims claims = jwtTokenProvider.validateToken(token);
+        tokenRevocationService.revokeToken(claims);
+    }
 }
\ No newline at end of file
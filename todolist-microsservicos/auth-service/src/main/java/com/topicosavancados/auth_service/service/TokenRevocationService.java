@@ -0,0 +1,119 @@
+package com.topicosavancados.auth_service.service;
+
+import com.topicosavancados.auth_service.config.JwtTokenProvider;
+import com.topicosavancados.auth_service.dto.RevocationEntryResponse;
+import com.topicosavancados.auth_service.dto.RevocationFeedResponse;
+import com.topicosavancados.auth_service.model.TokenRevocation;
+import com.topicosavancados.auth_service.repository.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mantém o feed de revogação de tokens. Os serviços de recursos consomem
+ * GET /api/auth/revocations?since={versão} e validam tokens localmente.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long settleWindowMillis;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  JwtTokenProvider jwtTokenProvider,
+                                  @Value("${revocation.feed.settle-window-ms:5000}") long settleWindowMillis) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.settleWindowMillis = settleWindowMillis;
+    }
+
+    // Revoga um único token (logout)
+    public void revokeToken(Claims claims) {
+        UUID userId = UUID.fromString(claims.get("userId", String.class));
+        if (claims.getId() == null) {
+            // Tokens antigos não têm jti: revoga todos os tokens do usuário
+            revokeAllForUser(userId);
+            return;
+        }
+        Instant expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().toInstant()
+                : Instant.now().plusMillis(jwtTokenProvider.getExpirationMs());
+        tokenRevocationRepository.save(TokenRevocation.forToken(claims.getId(), userId, expiresAt));
+    }
+
+    /**
+     * Revoga todos os tokens do usuário emitidos antes do segundo atual. O iat do JWT tem precisão de
+     * segundos, então a marca d'água também: um token emitido logo depois, no mesmo segundo, continua
+     * válido (o custo é que um emitido no mesmo segundo, antes da revogação, também continua).
+     */
+    public void revokeAllForUser(UUID userId) {
+        Instant issuedBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = issuedBefore.plusMillis(jwtTokenProvider.getExpirationMs());
+        tokenRevocationRepository.save(TokenRevocation.forUser(userId, issuedBefore, expiresAt));
+        logger.info("All tokens revoked for user: {}", userId);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && tokenRevocationRepository.existsByJti(claims.getId())) {
+            return true;
+        }
+        String userIdStr = claims.get("userId", String.class);
+        if (userIdStr == null || claims.getIssuedAt() == null) {
+            return false;
+        }
+        // iat e marca d'água em segundos inteiros: revogado só se emitido num segundo anterior
+        return tokenRevocationRepository.existsByUserIdAndIssuedBeforeGreaterThan(
+                UUID.fromString(userIdStr), claims.getIssuedAt().toInstant());
+    }
+
+    /**
+     * Retorna as entradas após {@code since}. Um id menor pode ficar visível depois de um maior (ids são
+     * alocados no insert e publicados no commit), então a versão devolvida só avança sobre entradas criadas
+     * há mais de settle-window-ms; as mais recentes são enviadas, mas reenviadas na próxima consulta,
+     * e o consumidor as aplica de forma idempotente. A janela deve exceder a transação de revogação mais longa.
+     */
+    public RevocationFeedResponse getRevocationsSince(long since) {
+        Instant now = Instant.now();
+        List<TokenRevocation> revocations = tokenRevocationRepository
+                .findByVersionGreaterThanAndExpiresAtAfterOrderByVersionAsc(since, now);
+        Instant settledBefore = now.minusMillis(settleWindowMillis);
+        long version = since;
+        for (TokenRevocation revocation : revocations) {
+            if (revocation.getCreatedAt() != null && revocation.getCreatedAt().isAfter(settledBefore)) {
+                break;
+            }
+            version = revocation.getVersion();
+        }
+        List<RevocationEntryResponse> entries = revocations.stream().map(this::toEntry).toList();
+        return new RevocationFeedResponse(version, entries);
+    }
+
+    // Entradas de tokens já expirados não precisam mais ser distribuídas
+    @Scheduled(fixedDelayString = "${revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int removed = tokenRevocationRepository.deleteExpired(Instant.now());
+        if (removed > 0) {
+            logger.info("Purged {} expired token revocations", removed);
+        }
+    }
+
+    private RevocationEntryResponse toEntry(TokenRevocation revocation) {
+        Long issuedBefore = revocation.getIssuedBefore() != null
+                ? revocation.getIssuedBefore().toEpochMilli()
+                : null;
+        return new RevocationEntryResponse(revocation.getVersion(), revocation.getJti(), revocation.getUserId(),
+                issuedBefore, revocation.getExpiresAt().toEpochMilli());
+    }
+}
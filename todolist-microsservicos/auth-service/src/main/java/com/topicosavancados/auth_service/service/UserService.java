@@ -1,34 +1,62 @@
 package com.topicosavancados.auth_service.service;
 
+import com.topicosavancados.auth_service.config.UserDetailsCache;
+import com.topicosavancados.auth_service.dto.AdminStatsResponse;
+import com.topicosavancados.auth_service.dto.UserPageResponse;
+import com.topicosavancados.auth_service.dto.UserSummaryResponse;
 import com.topicosavancados.auth_service.exception.ResourceNotFoundException;
 import com.topicosavancados.auth_service.model.User;
 import com.topicosavancados.auth_service.repository.UserRepository;
+import com.topicosavancados.auth_service.repository.UserRoleCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class UserService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+
+    // Snapshot das estatísticas do painel admin, recalculado no máximo uma vez por TTL
+    private final long statsCacheTtlMillis;
+    private volatile StatsSnapshot statsSnapshot;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       UserDetailsCache userDetailsCache,
+                       @Value("${admin.stats.cache-ttl-ms:10000}") long statsCacheTtlMillis) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+        this.statsCacheTtlMillis = statsCacheTtlMillis;
     }
 
     public User createUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword())); // Criptografa a senha
         user.setRole("USER"); // Define o papel padrão como USER (sem ROLE_)
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userDetailsCache.evict(saved.getUsername());
+        invalidateStats();
+        return saved;
     }
 
     public User createAdmin(User admin) {
         admin.setPassword(passwordEncoder.encode(admin.getPassword()));
         admin.setRole("ADMIN"); // Define o papel como ADMIN (sem ROLE_)
-        return userRepository.save(admin);
+        User saved = userRepository.save(admin);
+        userDetailsCache.evict(saved.getUsername());
+        invalidateStats();
+        return saved;
     }
 
     // Busca usuário por nome de usuário
@@ -41,20 +69,68 @@ public class UserService {
         return userRepository.existsByUsername(username);
     }
 
-    // Admin methods
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public UserPageResponse getUserSummaries(int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Slice<UserSummaryResponse> slice = userRepository.findUserSummaries(
+                PageRequest.of(Math.max(page, 0), pageSize, Sort.by("username")));
+        return new UserPageResponse(slice.getContent(), slice.getNumber(), pageSize, slice.hasNext());
+    }
+
+    /**
+     * Entrega todos os usuários, um por vez, sem montar a lista inteira em memória.
+     * O stream do banco precisa de uma transação aberta enquanto é consumido.
+     */
+    @Transactional(readOnly = true)
+    public void forEachUserSummary(Consumer<UserSummaryResponse> consumer) {
+        try (Stream<UserSummaryResponse> users = userRepository.streamUserSummaries()) {
+            users.forEach(consumer);
+        }
+    }
+
+    /**
+     * Estatísticas de usuários por papel a partir de um único GROUP BY role.
+     * O resultado fica em cache por admin.stats.cache-ttl-ms; painéis que fazem polling
+     * não geram uma varredura da tabela users a cada chamada.
+     */
+    public AdminStatsResponse getUserStats() {
+        StatsSnapshot snapshot = statsSnapshot;
+        if (snapshot != null && !snapshot.isExpired(System.currentTimeMillis())) {
+            return snapshot.stats();
+        }
+        synchronized (this) {
+            // Outra thread pode ter recalculado enquanto esta esperava
+            snapshot = statsSnapshot;
+            long now = System.currentTimeMillis();
+            if (snapshot == null || snapshot.isExpired(now)) {
+                snapshot = new StatsSnapshot(computeUserStats(), now + statsCacheTtlMillis);
+                statsSnapshot = snapshot;
+            }
+            return snapshot.stats();
+        }
     }
 
-    public long getTotalUsers() {
-        return userRepository.count();
+    private AdminStatsResponse computeUserStats() {
+        long total = 0;
+        long admins = 0;
+        long regularUsers = 0;
+        for (UserRoleCount count : userRepository.countGroupedByRole()) {
+            total += count.getTotal();
+            if ("ADMIN".equals(count.getRole())) {
+                admins = count.getTotal();
+            } else if ("USER".equals(count.getRole())) {
+                regularUsers = count.getTotal();
+            }
+        }
+        return new AdminStatsResponse(total, admins, regularUsers);
     }
 
-    public long getTotalAdmins() {
-        return userRepository.countByRole("ADMIN");
+    private void invalidateStats() {
+        statsSnapshot = null;
     }
 
-    public long getTotalRegularUsers() {
-        return userRepository.countByRole("USER");
+    private record StatsSnapshot(AdminStatsResponse stats, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.topicosavancados.auth_service.config;
 
 import com.topicosavancados.auth_service.config.JwtTokenProvider;
 import com.topicosavancados.auth_service.config.AuthServiceJwtFilter;
+import com.topicosavancados.auth_service.service.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,9 @@ class AuthServiceJwtFilterTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -36,7 +40,7 @@ class AuthServiceJwtFilterTest {
     @BeforeEach
     void setUp() {
         // Instancia manualmente a classe a ser testada, injetando o jwtTokenProvider mock
-        authServiceJwtFilter = new AuthServiceJwtFilter(jwtTokenProvider);
+        authServiceJwtFilter = new AuthServiceJwtFilter(jwtTokenProvider, tokenRevocationService, "service-secret");
         // Limpa o contexto de segurança antes de cada teste
         SecurityContextHolder.clearContext();
         // Mock do requestURI para evitar NullPointerException
@@ -73,6 +77,19 @@ class AuthServiceJwtFilterTest {
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
+    @Test
+    void doFilterInternal_withRevokedToken() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer revokedToken");
+        Claims claims = mock(Claims.class);
+        when(jwtTokenProvider.validateToken("revokedToken")).thenReturn(claims);
+        when(tokenRevocationService.isRevoked(claims)).thenReturn(true);
+
+        authServiceJwtFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
     @Test
     void doFilterInternal_withMissingHeader() throws Exception {
         // Não tem Authorization
@@ -125,4 +142,28 @@ class AuthServiceJwtFilterTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
+    @Test
+    void doFilterInternal_revocationFeedWithServiceToken() throws Exception {
+        when(request.getRequestURI()).thenReturn("/api/auth/revocations");
+        when(request.getHeader(AuthServiceJwtFilter.SERVICE_TOKEN_HEADER)).thenReturn("service-secret");
+
+        authServiceJwtFilter.doFilterInternal(request, response, filterChain);
+
+        assertTrue(SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_SERVICE")));
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_revocationFeedWithoutServiceToken() throws Exception {
+        when(request.getRequestURI()).thenReturn("/api/auth/revocations");
+        when(request.getHeader(AuthServiceJwtFilter.SERVICE_TOKEN_HEADER)).thenReturn("wrong-secret");
+
+        authServiceJwtFilter.doFilterInternal(request, response, filterChain);
+
+        // Sem autenticação, o SecurityConfig (hasRole SERVICE) rejeita a requisição
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
 }
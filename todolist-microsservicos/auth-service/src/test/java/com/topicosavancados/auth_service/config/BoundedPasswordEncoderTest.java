@@ -0,0 +1,101 @@
+package com.topicosavancados.auth_service.config;
+
+import com.topicosavancados.auth_service.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void testDelegatesEncodeAndMatches() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 4, 5_000);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(3L, encoder.getMetrics().get("completed"));
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 5_000);
+
+        // Uma tarefa em execução e uma na fila ocupam o pool inteiro
+        CompletableFuture.runAsync(() -> encoder.encode("a"));
+        waitUntil(() -> (int) encoder.getMetrics().get("active") == 1);
+        CompletableFuture.runAsync(() -> encoder.encode("b"));
+        waitUntil(() -> (int) encoder.getMetrics().get("queueDepth") == 1);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("c"));
+        assertEquals(1L, encoder.getMetrics().get("rejected"));
+    }
+
+    @Test
+    void testTimesOutWhenHashingTakesTooLong() {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 50);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("a", "hash"));
+        assertEquals(1L, encoder.getMetrics().get("timedOut"));
+    }
+
+    @Test
+    void testUpgradeEncodingFollowsDelegate() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, 5_000);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")));
+        assertEquals(1L, encoder.getMetrics().get("rehashes"));
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return true;
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not reached");
+            Thread.sleep(10);
+        }
+    }
+}
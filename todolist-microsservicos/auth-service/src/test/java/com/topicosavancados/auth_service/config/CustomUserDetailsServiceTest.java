@@ -6,10 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,6 +22,9 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(100, 60_000);
+
     // O @InjectMocks faz com que o userRepository seja injetado
     // automaticamente dentro de customUserDetailsService.
     @InjectMocks
@@ -61,4 +66,43 @@ class CustomUserDetailsServiceTest {
         verify(userRepository, times(1)).findByUsername(username);
     }
 
+    @Test
+    void updatePassword_StoresNewHash() {
+        User user = new User();
+        user.setUsername("testuser");
+        user.setPassword("oldHash");
+        user.setRole("USER");
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        var updated = customUserDetailsService.updatePassword(
+                customUserDetailsService.loadUserByUsername("testuser"), "{bcrypt}newHash");
+
+        assertEquals("{bcrypt}newHash", updated.getPassword());
+        assertEquals("{bcrypt}newHash", user.getPassword());
+        verify(userRepository, times(1)).save(user);
+    }
+
+    @Test
+    void loadUserByUsername_SecondLoginServedFromCache() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("testuser");
+        user.setPassword("encryptedPass");
+        user.setRole("USER");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        var first = (AuthenticatedUser) customUserDetailsService.loadUserByUsername("testuser");
+        // O ProviderManager apaga a senha do principal autenticado; o cache não pode ser afetado
+        first.eraseCredentials();
+        var second = (AuthenticatedUser) customUserDetailsService.loadUserByUsername("testuser");
+
+        assertEquals(user.getId(), second.getId());
+        assertEquals("USER", second.getRole());
+        assertEquals("encryptedPass", second.getPassword());
+        assertNotSame(first, second);
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
 }
@@ -14,11 +14,9 @@ class JwtTokenProviderTest {
 
     @BeforeEach
     void setUp() {
-        jwtTokenProvider = new JwtTokenProvider();
         // O jwt.secret precisa ter ao menos 32 bytes (256 bits).
         String testSecret = "MyUltraSecureSecretWithAtLeast32Bytes!!";
-        // Injeta o valor manualmente (usando reflection).
-        TestReflectionUtils.setField(jwtTokenProvider, "jwtSecret", testSecret);
+        jwtTokenProvider = new JwtTokenProvider(testSecret);
     }
 
     @Test
@@ -65,16 +63,3 @@ class JwtTokenProviderTest {
         assertTrue(thrown.getMessage().contains("Invalid JWT token"));
     }
 }
-
-class TestReflectionUtils {
-    private TestReflectionUtils() {}
-    public static void setField(Object target, String fieldName, Object value) {
-        try {
-            var field = target.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(target, value);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-    }
-}
\ No newline at end of file
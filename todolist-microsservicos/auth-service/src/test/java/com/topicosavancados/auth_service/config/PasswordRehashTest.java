@@ -0,0 +1,45 @@
+package com.topicosavancados.auth_service.config;
+
+import com.topicosavancados.auth_service.model.User;
+import com.topicosavancados.auth_service.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hashes gravados com parâmetros antigos (BCrypt sem prefixo e custo menor) são refeitos no login.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PasswordRehashTest {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void loginRehashesLegacyBcryptHash() {
+        User user = new User();
+        user.setUsername("legacy-hash-user");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        user.setRole("USER");
+        userRepository.save(user);
+
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("legacy-hash-user", "secret"));
+
+        String stored = userRepository.findByUsername("legacy-hash-user").orElseThrow().getPassword();
+        assertTrue(stored.startsWith("{bcrypt}$2a$10$"), stored);
+
+        // O novo hash continua aceitando a mesma senha e não é refeito de novo
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("legacy-hash-user", "secret"));
+        assertEquals(stored, userRepository.findByUsername("legacy-hash-user").orElseThrow().getPassword());
+    }
+}
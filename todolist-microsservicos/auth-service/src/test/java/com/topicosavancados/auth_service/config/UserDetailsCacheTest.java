@@ -0,0 +1,88 @@
+package com.topicosavancados.auth_service.config;
+
+import com.topicosavancados.auth_service.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsCacheTest {
+
+    private User user(String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        user.setPassword("hash");
+        user.setRole("USER");
+        return user;
+    }
+
+    @Test
+    void testMetricsReportCounters() {
+        UserDetailsCache cache = new UserDetailsCache(10, 60_000);
+        cache.put(user("testuser"));
+        cache.get("testuser");
+        cache.get("other");
+
+        Map<String, Object> metrics = cache.getMetrics();
+        assertEquals(1, metrics.get("size"));
+        assertEquals(10, metrics.get("maxSize"));
+        assertEquals(60_000L, metrics.get("ttlMs"));
+        assertEquals(1L, metrics.get("hits"));
+        assertEquals(1L, metrics.get("misses"));
+    }
+
+    @Test
+    void testReturnsFreshPrincipalPerLookup() {
+        UserDetailsCache cache = new UserDetailsCache(10, 60_000);
+        User user = user("testuser");
+        cache.put(user);
+
+        AuthenticatedUser first = cache.get("testuser");
+        first.eraseCredentials();
+        AuthenticatedUser second = cache.get("testuser");
+
+        assertEquals(user.getId(), second.getId());
+        assertEquals("hash", second.getPassword());
+        assertNull(cache.get("other"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testExpiredEntryIsEvicted() throws InterruptedException {
+        UserDetailsCache cache = new UserDetailsCache(10, 20);
+        cache.put(user("testuser"));
+
+        Thread.sleep(40);
+
+        assertNull(cache.get("testuser"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testEvictRemovesEntry() {
+        UserDetailsCache cache = new UserDetailsCache(10, 60_000);
+        cache.put(user("testuser"));
+
+        cache.evict("testuser");
+
+        assertNull(cache.get("testuser"));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedWhenFull() {
+        UserDetailsCache cache = new UserDetailsCache(2, 60_000);
+
+        cache.put(user("a"));
+        cache.put(user("b"));
+        cache.get("a");
+        cache.put(user("c"));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+}
@@ -1,5 +1,7 @@
 package com.topicosavancados.auth_service.controller;
 
+import com.topicosavancados.auth_service.model.User;
+import com.topicosavancados.auth_service.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -8,6 +10,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -19,6 +25,9 @@ class AdminControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private UserService userService;
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetAdminDashboard_withAdminRole() throws Exception {
@@ -34,4 +43,92 @@ class AdminControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetSystemStats_withAdminRole() throws Exception {
+        mockMvc.perform(get("/admin/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalUsers").isNumber())
+                .andExpect(jsonPath("$.totalAdmins").isNumber())
+                .andExpect(jsonPath("$.totalRegularUsers").isNumber());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testGetSystemStats_withoutAdminRole() throws Exception {
+        mockMvc.perform(get("/admin/stats"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetPasswordHashingMetrics_withAdminRole() throws Exception {
+        mockMvc.perform(get("/admin/password-hashing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.threads").isNumber())
+                .andExpect(jsonPath("$.queueCapacity").value(64))
+                .andExpect(jsonPath("$.rejected").isNumber());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testGetPasswordHashingMetrics_withoutAdminRole() throws Exception {
+        mockMvc.perform(get("/admin/password-hashing"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetUserDetailsCacheMetrics_withAdminRole() throws Exception {
+        mockMvc.perform(get("/admin/user-details-cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").isNumber())
+                .andExpect(jsonPath("$.hits").isNumber())
+                .andExpect(jsonPath("$.misses").isNumber());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testGetUserDetailsCacheMetrics_withoutAdminRole() throws Exception {
+        mockMvc.perform(get("/admin/user-details-cache"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetAllUsers_paginatedSummaries() throws Exception {
+        mockMvc.perform(get("/admin/users").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.items[*].password").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testExportUsers_ndjson() throws Exception {
+        User user = new User();
+        user.setUsername("export-" + UUID.randomUUID());
+        user.setPassword("secret123");
+        userService.createUser(user);
+
+        String body = mockMvc.perform(get("/admin/users/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.trim().split("\n");
+        assertTrue(lines.length >= 1);
+        assertTrue(Arrays.stream(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+        assertTrue(body.contains(user.getUsername()));
+        assertFalse(body.contains("password"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testExportUsers_withoutAdminRole() throws Exception {
+        mockMvc.perform(get("/admin/users/export"))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -1,9 +1,16 @@
 package com.topicosavancados.auth_service.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.topicosavancados.auth_service.config.AuthenticatedUser;
 import com.topicosavancados.auth_service.dto.AuthRequest;
+import com.topicosavancados.auth_service.dto.RevocationEntryResponse;
+import com.topicosavancados.auth_service.dto.RevocationFeedResponse;
+import com.topicosavancados.auth_service.dto.TokenIntrospectionRequest;
+import com.topicosavancados.auth_service.dto.TokenIntrospectionResult;
+import com.topicosavancados.auth_service.exception.PasswordHashingUnavailableException;
 import com.topicosavancados.auth_service.model.User;
 import com.topicosavancados.auth_service.service.AuthService;
+import com.topicosavancados.auth_service.service.TokenRevocationService;
 import com.topicosavancados.auth_service.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,10 +24,12 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -36,7 +45,9 @@ class AuthControllerTest {
     @Mock
     private UserService userService;
 
-    @InjectMocks
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     private AuthController authController;
 
     private MockMvc mockMvc;
@@ -44,12 +55,58 @@ class AuthControllerTest {
 
     @BeforeEach
     void setUp() {
+        authController = new AuthController(authenticationManager, authService, userService, tokenRevocationService, 100);
         // Monta um MockMvc standalone sem filtros de segurança
         mockMvc = MockMvcBuilders.standaloneSetup(authController)
                 .build();
         objectMapper = new ObjectMapper();
     }
 
+    @Test
+    @DisplayName("Retorna 503 com Retry-After quando o pool de hash de senhas está saturado")
+    void testAuthenticateUser_HashingUnavailable() throws Exception {
+        AuthRequest request = new AuthRequest();
+        request.setUsername("testuser");
+        request.setPassword("testpass");
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new PasswordHashingUnavailableException("Password hashing queue is full"));
+
+        mockMvc.perform(
+                        post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(authService, never()).createJwtForUser(any(String.class));
+        verify(authService, never()).createJwtForUser(any(AuthenticatedUser.class));
+    }
+
+    @Test
+    @DisplayName("Emite o JWT a partir do principal autenticado, sem buscar o usuário de novo")
+    void testAuthenticateUser_UsesAuthenticatedPrincipal() throws Exception {
+        AuthRequest request = new AuthRequest();
+        request.setUsername("testuser");
+        request.setPassword("testpass");
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.randomUUID(), "testuser", "hash", "USER");
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(authService.createJwtForUser(principal)).thenReturn("principal-jwt-token");
+
+        mockMvc.perform(
+                        post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("principal-jwt-token"));
+
+        verify(authService, never()).createJwtForUser("testuser");
+    }
+
     @Test
     @DisplayName("Retorna 200 e um JWT ao fazer login com credenciais válidas (standalone)")
     void testAuthenticateUser_Valid() throws Exception {
@@ -112,4 +169,62 @@ class AuthControllerTest {
                 .andExpect(content().string("Registration successful!"));
     }
 
+    @Test
+    @DisplayName("Retorna 204 e revoga o token ao fazer logout (standalone)")
+    void testLogout() throws Exception {
+        mockMvc.perform(
+                        post("/api/auth/logout")
+                                .header("Authorization", "Bearer some-jwt-token")
+                )
+                .andExpect(status().isNoContent());
+
+        verify(authService).logout("some-jwt-token");
+    }
+
+    @Test
+    @DisplayName("Retorna as revogações posteriores à versão informada (standalone)")
+    void testGetRevocations() throws Exception {
+        UUID userId = UUID.randomUUID();
+        RevocationFeedResponse feed = new RevocationFeedResponse(7L, List.of(
+                new RevocationEntryResponse(7L, "jti-1", userId, null, 1_000L)
+        ));
+        when(tokenRevocationService.getRevocationsSince(5L)).thenReturn(feed);
+
+        mockMvc.perform(get("/api/auth/revocations").param("since", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(7))
+                .andExpect(jsonPath("$.entries[0].jti").value("jti-1"))
+                .andExpect(jsonPath("$.entries[0].userId").value(userId.toString()));
+    }
+
+    @Test
+    @DisplayName("Introspecção em lote retorna um resultado por token")
+    void testIntrospect() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(authService.introspect(List.of("t1", "t2"))).thenReturn(List.of(
+                new TokenIntrospectionResult(true, "testuser", userId, "ROLE_USER", 1000L),
+                TokenIntrospectionResult.inactive()));
+
+        mockMvc.perform(post("/api/auth/introspect")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenIntrospectionRequest(List.of("t1", "t2")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].active").value(true))
+                .andExpect(jsonPath("$.results[0].userId").value(userId.toString()))
+                .andExpect(jsonPath("$.results[1].active").value(false));
+    }
+
+    @Test
+    @DisplayName("Introspecção em lote rejeita lotes acima do limite")
+    void testIntrospect_BatchTooLarge() throws Exception {
+        List<String> tokens = java.util.Collections.nCopies(101, "t");
+
+        mockMvc.perform(post("/api/auth/introspect")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenIntrospectionRequest(tokens))))
+                .andExpect(status().isBadRequest());
+
+        verify(authService, never()).introspect(any());
+    }
 }
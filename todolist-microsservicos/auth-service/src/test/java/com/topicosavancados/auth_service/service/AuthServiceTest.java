@@ -1,5 +1,6 @@
 package com.topicosavancados.auth_service.service;
 
+import com.topicosavancados.auth_service.config.AuthenticatedUser;
 import com.topicosavancados.auth_service.config.JwtTokenProvider;
 import com.topicosavancados.auth_service.model.User;
 import io.jsonwebtoken.Claims;
@@ -27,9 +28,22 @@ class AuthServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private AuthService authService;
 
+    @Test
+    void testCreateJwtForAuthenticatedPrincipal() {
+        UUID userId = UUID.randomUUID();
+        AuthenticatedUser principal = new AuthenticatedUser(userId, "testuser", "hash", "USER");
+        when(jwtTokenProvider.generateToken("testuser", userId, "ROLE_USER")).thenReturn("mockJwtToken");
+
+        assertEquals("mockJwtToken", authService.createJwtForUser(principal));
+        verifyNoInteractions(userService);
+    }
+
     @Test
     void testCreateJwtForUser() {
         String username = "testuser";
@@ -63,6 +77,29 @@ class AuthServiceTest {
         verify(jwtTokenProvider).validateToken(token);
     }
     
+    @Test
+    void testValidateToken_RevokedToken() {
+        String token = "revokedToken";
+        Claims claimsMock = mock(Claims.class);
+        when(jwtTokenProvider.validateToken(token)).thenReturn(claimsMock);
+        when(tokenRevocationService.isRevoked(claimsMock)).thenReturn(true);
+
+        boolean isValid = authService.validateToken(token);
+
+        assertFalse(isValid);
+    }
+
+    @Test
+    void testLogout_RevokesToken() {
+        String token = "validToken";
+        Claims claimsMock = mock(Claims.class);
+        when(jwtTokenProvider.validateToken(token)).thenReturn(claimsMock);
+
+        authService.logout(token);
+
+        verify(tokenRevocationService).revokeToken(claimsMock);
+    }
+
     @Test
     void testValidateToken_InvalidToken() {
         String token = "invalidToken";
@@ -74,4 +111,32 @@ class AuthServiceTest {
         verify(jwtTokenProvider).validateToken(token);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testIntrospect_ReturnsClaimsInRequestOrder() {
+        UUID userId = UUID.randomUUID();
+        Claims claimsMock = mock(Claims.class);
+        when(claimsMock.getSubject()).thenReturn("testuser");
+        when(claimsMock.get("userId", String.class)).thenReturn(userId.toString());
+        when(claimsMock.get("role", String.class)).thenReturn("ROLE_USER");
+        when(claimsMock.getExpiration()).thenReturn(new java.util.Date(123_000L));
+        Claims revokedClaims = mock(Claims.class);
+        when(jwtTokenProvider.validateToken("valid")).thenReturn(claimsMock);
+        when(jwtTokenProvider.validateToken("revoked")).thenReturn(revokedClaims);
+        when(tokenRevocationService.isRevoked(claimsMock)).thenReturn(false);
+        when(tokenRevocationService.isRevoked(revokedClaims)).thenReturn(true);
+        doThrow(new RuntimeException("Invalid token")).when(jwtTokenProvider).validateToken("garbage");
+
+        var results = authService.introspect(java.util.List.of("valid", "revoked", "garbage"));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isActive());
+        assertEquals("testuser", results.get(0).getUsername());
+        assertEquals(userId, results.get(0).getUserId());
+        assertEquals("ROLE_USER", results.get(0).getRole());
+        assertEquals(123_000L, results.get(0).getExpiresAt());
+        assertFalse(results.get(1).isActive());
+        assertNull(results.get(1).getUsername());
+        assertFalse(results.get(2).isActive());
+    }
+
+}
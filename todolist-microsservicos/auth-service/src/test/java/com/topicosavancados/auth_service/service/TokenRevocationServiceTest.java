@@ -0,0 +1,157 @@
+package com.topicosavancados.auth_service.service;
+
+import com.topicosavancados.auth_service.config.JwtTokenProvider;
+import com.topicosavancados.auth_service.dto.RevocationFeedResponse;
+import com.topicosavancados.auth_service.model.TokenRevocation;
+import com.topicosavancados.auth_service.repository.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(tokenRevocationRepository, jwtTokenProvider, 5000);
+    }
+
+    @Test
+    void testRevokeToken_StoresJtiUntilTokenExpiration() {
+        UUID userId = UUID.randomUUID();
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.get("userId", String.class)).thenReturn(userId.toString());
+        when(claims.getExpiration()).thenReturn(expiration);
+
+        tokenRevocationService.revokeToken(claims);
+
+        ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(tokenRevocationRepository).save(captor.capture());
+        assertEquals("jti-1", captor.getValue().getJti());
+        assertEquals(userId, captor.getValue().getUserId());
+        assertNull(captor.getValue().getIssuedBefore());
+        assertEquals(expiration.toInstant(), captor.getValue().getExpiresAt());
+    }
+
+    @Test
+    void testRevokeAllForUser_StoresWatermark() {
+        UUID userId = UUID.randomUUID();
+        when(jwtTokenProvider.getExpirationMs()).thenReturn(86400000L);
+
+        tokenRevocationService.revokeAllForUser(userId);
+
+        ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(tokenRevocationRepository).save(captor.capture());
+        assertNull(captor.getValue().getJti());
+        assertNotNull(captor.getValue().getIssuedBefore());
+        assertTrue(captor.getValue().getExpiresAt().isAfter(captor.getValue().getIssuedBefore()));
+        // Mesma precisão do iat do JWT
+        assertEquals(captor.getValue().getIssuedBefore().truncatedTo(ChronoUnit.SECONDS),
+                captor.getValue().getIssuedBefore());
+    }
+
+    @Test
+    void testIsRevoked_ByJti() {
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("jti-1");
+        when(tokenRevocationRepository.existsByJti("jti-1")).thenReturn(true);
+
+        assertTrue(tokenRevocationService.isRevoked(claims));
+    }
+
+    @Test
+    void testIsRevoked_ByUserWatermark() {
+        UUID userId = UUID.randomUUID();
+        Date issuedAt = new Date();
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.get("userId", String.class)).thenReturn(userId.toString());
+        when(claims.getIssuedAt()).thenReturn(issuedAt);
+        when(tokenRevocationRepository.existsByJti("jti-1")).thenReturn(false);
+        when(tokenRevocationRepository.existsByUserIdAndIssuedBeforeGreaterThan(userId, issuedAt.toInstant()))
+                .thenReturn(true);
+
+        assertTrue(tokenRevocationService.isRevoked(claims));
+    }
+
+    @Test
+    void testIsRevoked_NotRevoked() {
+        UUID userId = UUID.randomUUID();
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.get("userId", String.class)).thenReturn(userId.toString());
+        when(claims.getIssuedAt()).thenReturn(new Date());
+
+        assertFalse(tokenRevocationService.isRevoked(claims));
+    }
+
+    @Test
+    void testGetRevocationsSince_ReturnsLastEntryVersion() {
+        UUID userId = UUID.randomUUID();
+        TokenRevocation revocation = TokenRevocation.forToken("jti-1", userId, Instant.now().plusSeconds(60));
+        revocation.setVersion(12L);
+        revocation.setCreatedAt(Instant.now().minusSeconds(60));
+        when(tokenRevocationRepository.findByVersionGreaterThanAndExpiresAtAfterOrderByVersionAsc(eq(10L), any(Instant.class)))
+                .thenReturn(List.of(revocation));
+
+        RevocationFeedResponse feed = tokenRevocationService.getRevocationsSince(10L);
+
+        assertEquals(12L, feed.getVersion());
+        assertEquals(1, feed.getEntries().size());
+        assertEquals("jti-1", feed.getEntries().get(0).getJti());
+    }
+
+    @Test
+    void testGetRevocationsSince_EmptyKeepsVersion() {
+        when(tokenRevocationRepository.findByVersionGreaterThanAndExpiresAtAfterOrderByVersionAsc(eq(10L), any(Instant.class)))
+                .thenReturn(List.of());
+
+        RevocationFeedResponse feed = tokenRevocationService.getRevocationsSince(10L);
+
+        assertEquals(10L, feed.getVersion());
+        assertTrue(feed.getEntries().isEmpty());
+    }
+
+    @Test
+    void testGetRevocationsSince_RecentEntriesDoNotAdvanceVersion() {
+        UUID userId = UUID.randomUUID();
+        TokenRevocation settled = TokenRevocation.forToken("jti-1", userId, Instant.now().plusSeconds(60));
+        settled.setVersion(11L);
+        settled.setCreatedAt(Instant.now().minusSeconds(60));
+        TokenRevocation recent = TokenRevocation.forToken("jti-2", userId, Instant.now().plusSeconds(60));
+        recent.setVersion(13L);
+        when(tokenRevocationRepository.findByVersionGreaterThanAndExpiresAtAfterOrderByVersionAsc(eq(10L), any(Instant.class)))
+                .thenReturn(List.of(settled, recent));
+
+        RevocationFeedResponse feed = tokenRevocationService.getRevocationsSince(10L);
+
+        // A entrada recente já é entregue, mas a versão fica antes dela: um id 12 ainda não commitado não se perde
+        assertEquals(11L, feed.getVersion());
+        assertEquals(2, feed.getEntries().size());
+    }
+}
@@ -1,21 +1,30 @@
 package com.topicosavancados.auth_service.service;
 
+import com.topicosavancados.auth_service.config.UserDetailsCache;
+import com.topicosavancados.auth_service.dto.AdminStatsResponse;
+import com.topicosavancados.auth_service.dto.UserPageResponse;
+import com.topicosavancados.auth_service.dto.UserSummaryResponse;
 import com.topicosavancados.auth_service.exception.ResourceNotFoundException;
 import com.topicosavancados.auth_service.model.User;
 import com.topicosavancados.auth_service.repository.UserRepository;
+import com.topicosavancados.auth_service.repository.UserRoleCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,12 +40,20 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
-    @InjectMocks
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     private UserService userService;
 
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, passwordEncoder, userDetailsCache, 10_000);
+    }
+
     @Test
     void testCreateUser() {
         User user = new User();
+        user.setUsername("newuser");
         user.setPassword("plainPassword");
 
         when(passwordEncoder.encode("plainPassword")).thenReturn("encodedPassword");
@@ -52,6 +69,7 @@ class UserServiceTest {
         assertEquals("encodedPassword", createdUser.getPassword());
         assertEquals("USER", createdUser.getRole());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userDetailsCache).evict("newuser");
     }
 
     @Test
@@ -123,4 +141,80 @@ class UserServiceTest {
         assertFalse(exists);
         verify(userRepository, times(1)).existsByUsername(nonExistentUser);
     }
-}
\ No newline at end of file
+
+    private UserRoleCount roleCount(String role, long total) {
+        return new UserRoleCount() {
+            @Override
+            public String getRole() {
+                return role;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    @Test
+    void testGetUserStats_SingleGroupedQueryCachedWithinTtl() {
+        when(userRepository.countGroupedByRole()).thenReturn(List.of(roleCount("ADMIN", 2L), roleCount("USER", 8L)));
+
+        AdminStatsResponse first = userService.getUserStats();
+        AdminStatsResponse second = userService.getUserStats();
+
+        assertEquals(10L, first.getTotalUsers());
+        assertEquals(2L, first.getTotalAdmins());
+        assertEquals(8L, first.getTotalRegularUsers());
+        assertSame(first, second);
+        verify(userRepository, times(1)).countGroupedByRole();
+        verify(userRepository, never()).count();
+    }
+
+    @Test
+    void testGetUserStats_InvalidatedWhenUserIsCreated() {
+        when(userRepository.countGroupedByRole())
+                .thenReturn(List.of(roleCount("USER", 1L)))
+                .thenReturn(List.of(roleCount("USER", 2L)));
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(1L, userService.getUserStats().getTotalRegularUsers());
+        User user = new User();
+        user.setPassword("pass");
+        userService.createUser(user);
+
+        assertEquals(2L, userService.getUserStats().getTotalRegularUsers());
+        verify(userRepository, times(2)).countGroupedByRole();
+    }
+
+    @Test
+    void testGetUserSummaries_PageSizeIsCapped() {
+        UserSummaryResponse summary = new UserSummaryResponse(UUID.randomUUID(), "alice", "USER");
+        when(userRepository.findUserSummaries(any(Pageable.class))).thenAnswer(invocation ->
+                new SliceImpl<>(List.of(summary), invocation.getArgument(0), true));
+
+        UserPageResponse page = userService.getUserSummaries(2, 10_000);
+
+        assertEquals(2, page.getPage());
+        assertEquals(UserService.MAX_PAGE_SIZE, page.getSize());
+        assertTrue(page.isHasNext());
+        assertEquals("alice", page.getItems().get(0).getUsername());
+        verify(userRepository).findUserSummaries(argThat((Pageable p) ->
+                p.getPageSize() == UserService.MAX_PAGE_SIZE && p.getSort().getOrderFor("username") != null));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void testForEachUserSummary_StreamsAllRows() {
+        List<UserSummaryResponse> rows = List.of(
+                new UserSummaryResponse(UUID.randomUUID(), "alice", "USER"),
+                new UserSummaryResponse(UUID.randomUUID(), "bob", "ADMIN"));
+        when(userRepository.streamUserSummaries()).thenReturn(rows.stream());
+
+        List<UserSummaryResponse> received = new ArrayList<>();
+        userService.forEachUserSummary(received::add);
+
+        assertEquals(rows, received);
+    }
+}
@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from "react";
-import api from "../../services/taskService";
+import { getAllTasks } from "../../services/taskService";
 
 const CreateSessionModal = ({ show, onHide, onCreateSession, userSettings }) => {
   const [sessionType, setSessionType] = useState("FOCUS");
@@ -43,8 +43,7 @@ const CreateSessionModal = ({ show, onHide, onCreateSession, userSettings }) =>
   const fetchTasks = async () => {
     setLoadingTasks(true);
     try {
-      const response = await api.get("/tasks");
-      setAvailableTasks(response.data || []);
+      setAvailableTasks(await getAllTasks());
     } catch (error) {
       console.error("Error fetching tasks:", error);
       setAvailableTasks([]);
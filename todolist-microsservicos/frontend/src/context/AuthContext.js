@@ -1,4 +1,5 @@
 import React, { createContext, useState, useEffect } from "react";
+import { logout as revokeToken } from "../services/authService";
 
 export const AuthContext = createContext();
 
@@ -36,6 +37,10 @@ export const AuthProvider = ({ children }) => {
   };  
 
   const logout = () => {
+    if (token) {
+      // Revoga o token no auth-service; a sessão local é encerrada mesmo se falhar
+      revokeToken(token).catch(() => {});
+    }
     localStorage.removeItem("jwt");
     setToken(null);
   };
@@ -8,6 +8,8 @@ const AdminDashboard = () => {
   const [userStats, setUserStats] = useState(null);
   const [taskStats, setTaskStats] = useState(null);
   const [users, setUsers] = useState([]);
+  const [usersPage, setUsersPage] = useState(0);
+  const [hasMoreUsers, setHasMoreUsers] = useState(false);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
 
@@ -23,7 +25,9 @@ const AdminDashboard = () => {
 
         setUserStats(userStatsData);
         setTaskStats(taskStatsData);
-        setUsers(usersData);
+        setUsers(usersData.items || []);
+        setUsersPage(usersData.page);
+        setHasMoreUsers(usersData.hasNext);
       } catch (err) {
         console.error("Error fetching admin data:", err);
         setError("You are not authorized or an error occurred.");
@@ -35,6 +39,17 @@ const AdminDashboard = () => {
     fetchAdminData();
   }, []);
 
+  const loadMoreUsers = async () => {
+    try {
+      const nextPage = await getAllUsers(usersPage + 1);
+      setUsers((current) => [...current, ...(nextPage.items || [])]);
+      setUsersPage(nextPage.page);
+      setHasMoreUsers(nextPage.hasNext);
+    } catch (err) {
+      console.error("Error fetching users:", err);
+    }
+  };
+
   if (loading) {
     return (
       <div className="d-flex flex-column min-vh-100">
@@ -241,6 +256,13 @@ const AdminDashboard = () => {
                       </tbody>
                     </table>
                   </div>
+                  {hasMoreUsers && (
+                    <div className="text-center">
+                      <button className="btn btn-outline-primary btn-sm" onClick={loadMoreUsers}>
+                        Load more users
+                      </button>
+                    </div>
+                  )}
                 </div>
               </div>
             </div>
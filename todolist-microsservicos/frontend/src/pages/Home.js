@@ -39,23 +39,16 @@ const Home = () => {
   const navigate = useNavigate();
 
   useEffect(() => {
-    // Busca info do usuário e frase inspiradora
-    api.get("/home/user-info")
+    // Usuário, frase inspiradora e tarefas de hoje em uma única requisição
+    api.get("/home/dashboard")
       .then((response) => {
         setUsername(response.data.username || "Guest");
         setIdea(response.data.idea);
+        // Se a fonte de tarefas não respondeu a tempo, o backend devolve null (resposta parcial)
+        setTasks(response.data.todayTasks || []);
       })
       .catch((error) => {
-        console.error("Error fetching user info:", error);
-      });
-
-    // Tarefas de hoje
-    api.get("/home/tasks/today")
-      .then((response) => {
-        setTasks(response.data);
-      })
-      .catch((error) => {
-        console.error("Error fetching tasks:", error);
+        console.error("Error fetching home dashboard:", error);
       });
   }, []);
 
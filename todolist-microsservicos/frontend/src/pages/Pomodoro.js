@@ -6,7 +6,7 @@ import SessionControls from "../components/pomodoro/SessionControls";
 import CreateSessionModal from "../components/pomodoro/CreateSessionModal";
 import PomodoroSettings from "../components/pomodoro/PomodoroSettings";
 import pomodoroService from "../services/pomodoroService";
-import api from "../services/taskService";
+import api, { getAllTasks } from "../services/taskService";
 
 const Pomodoro = () => {
   const [currentSession, setCurrentSession] = useState(null);
@@ -18,33 +18,24 @@ const Pomodoro = () => {
   const [showSettingsModal, setShowSettingsModal] = useState(false);
   const [showSessionReplaceModal, setShowSessionReplaceModal] = useState(false);
   const [pendingSessionData, setPendingSessionData] = useState(null);
-  const [timerInterval, setTimerInterval] = useState(null);
   const [showTaskLinkModal, setShowTaskLinkModal] = useState(false);
   const [availableTasks, setAvailableTasks] = useState([]);
   const [selectedTasks, setSelectedTasks] = useState([]);
   const [loadingTasks, setLoadingTasks] = useState(false);
   
-  // Use ref to avoid closure issues in timer interval
+  // Use ref to avoid closure issues in stream event handlers
   const currentSessionRef = useRef(null);
 
   useEffect(() => {
     initializePomodoro();
-    return () => {
-      if (timerInterval) {
-        clearInterval(timerInterval);
-      }
-    };
+    // Session state and remaining time are pushed by the server (no polling)
+    const unsubscribe = pomodoroService.subscribeToSessionStream(handleStreamEvent);
+    return () => unsubscribe();
   }, []);
 
   useEffect(() => {
     // Update ref whenever currentSession changes
     currentSessionRef.current = currentSession;
-    
-    if (currentSession && currentSession.status === "RUNNING") {
-      startTimer();
-    } else {
-      stopTimer();
-    }
   }, [currentSession]);
 
   const initializePomodoro = async () => {
@@ -53,57 +44,56 @@ const Pomodoro = () => {
       const settings = await pomodoroService.getUserSettings();
       setUserSettings(settings);
 
-      // Load current session
-      const session = await pomodoroService.getCurrentSession();
-      
-      if (session) {
-        // Try to restore task info from sessionStorage
-        const savedTaskInfo = sessionStorage.getItem(`pomodoro_tasks_${session.id}`);
-        if (savedTaskInfo) {
-          try {
-            const taskInfo = JSON.parse(savedTaskInfo);
-            const sessionWithTasks = { ...session, ...taskInfo };
-            setCurrentSession(sessionWithTasks);
-            calculateRemainingTime(sessionWithTasks);
-          } catch (e) {
-            console.error("Error parsing saved task info:", e);
-            setCurrentSession(session);
-            calculateRemainingTime(session);
-          }
-        } else {
-          setCurrentSession(session);
-          calculateRemainingTime(session);
-        }
-      } else {
-        setCurrentSession(null);
-      }
-
-      // Load recent sessions
-      const sessions = await pomodoroService.getUserSessions();
-      setRecentSessions(sessions.slice(0, 5));
+      // Load recent sessions (the active session arrives as the stream snapshot)
+      const page = await pomodoroService.getUserSessions({ limit: 5 });
+      setRecentSessions(page.items);
     } catch (error) {
       console.error("Error initializing pomodoro:", error);
     }
   };
 
-  const startTimer = () => {
-    stopTimer(); // Clear any existing timer
-    
-    const interval = setInterval(() => {
-      // Use ref to get latest session data and avoid closure issues
-      const session = currentSessionRef.current;
-      if (session && session.status === "RUNNING") {
-        calculateRemainingTime(session);
-      }
-    }, 1000);
-    
-    setTimerInterval(interval);
+  // Restore linked task info saved in sessionStorage (tasks are only kept client-side)
+  const restoreTaskInfo = (session) => {
+    const savedTaskInfo = sessionStorage.getItem(`pomodoro_tasks_${session.id}`);
+    if (!savedTaskInfo) return session;
+    try {
+      return { ...session, ...JSON.parse(savedTaskInfo) };
+    } catch (e) {
+      console.error("Error parsing saved task info:", e);
+      return session;
+    }
   };
 
-  const stopTimer = () => {
-    if (timerInterval) {
-      clearInterval(timerInterval);
-      setTimerInterval(null);
+  const handleStreamEvent = (name, event) => {
+    if (name === "tick") {
+      const session = currentSessionRef.current;
+      if (!session || session.id !== event.sessionId) return;
+      // Completion at zero is done by the server timer and arrives as a "completed" event
+      setRemainingTime(event.remainingSeconds / 60);
+      return;
+    }
+
+    if (name === "snapshot" && !event.session) {
+      // No active session on the server: clear a stale RUNNING/PAUSED one, keep finished ones on screen
+      setCurrentSession((prev) =>
+        prev && ["RUNNING", "PAUSED"].includes(prev.status) ? null : prev
+      );
+      return;
+    }
+
+    const session = restoreTaskInfo(event.session);
+    const current = currentSessionRef.current;
+    const sessionWithTasks = current && current.id === session.id
+      ? { ...session, taskId: current.taskId, taskTitle: current.taskTitle, taskIds: current.taskIds, taskTitles: current.taskTitles }
+      : session;
+    currentSessionRef.current = sessionWithTasks;
+    setCurrentSession(sessionWithTasks);
+    if (event.remainingSeconds !== null && event.remainingSeconds !== undefined) {
+      setRemainingTime(event.remainingSeconds / 60);
+    }
+
+    if (name === "completed" || name === "stopped") {
+      refreshRecentSessions();
     }
   };
 
@@ -158,35 +148,15 @@ const Pomodoro = () => {
       remaining = plannedMinutes - activeMinutes;
     }
 
-    // If timer has gone negative (session should have ended), auto-complete it
-    if (remaining <= 0 && session.status === 'RUNNING') {
-      handleAutoComplete(session);
-      setRemainingTime(0);
-      return 0;
-    }
-    
     const finalRemaining = Math.max(0, remaining);
     setRemainingTime(finalRemaining);
     return finalRemaining;
   };
 
-  const handleAutoComplete = async (session) => {
-    try {
-      const completedSession = await pomodoroService.completeSession(session.id, "Auto-completed when timer reached zero");
-      setCurrentSession(completedSession);
-      
-
-      // Refresh recent sessions
-      refreshRecentSessions();
-    } catch (error) {
-      console.error("Error auto-completing session:", error);
-    }
-  };
-
   const refreshRecentSessions = async () => {
     try {
-      const sessions = await pomodoroService.getUserSessions();
-      setRecentSessions(sessions.slice(0, 5));
+      const page = await pomodoroService.getUserSessions({ limit: 5 });
+      setRecentSessions(page.items);
     } catch (error) {
       console.error("Error refreshing sessions:", error);
     }
@@ -241,11 +211,8 @@ const Pomodoro = () => {
   const fetchTasks = async () => {
     setLoadingTasks(true);
     try {
-      const response = await api.get("/tasks");
-      // Filter out completed tasks - only show TODO and IN_PROGRESS
-      const activeTasks = (response.data || []).filter(task => 
-        task.status === "TODO" || task.status === "IN_PROGRESS"
-      );
+      // Only show TODO and IN_PROGRESS tasks (filtered by the backend)
+      const activeTasks = await getAllTasks({ status: "TODO,IN_PROGRESS" });
       setAvailableTasks(activeTasks);
     } catch (error) {
       console.error("Error fetching tasks:", error);
@@ -313,8 +280,8 @@ const Pomodoro = () => {
 
       
       // First, get the current task details
-      const taskResponse = await api.get(`/tasks`);
-      const currentTask = taskResponse.data.find(task => task.id === taskId);
+      const taskResponse = await api.get(`/tasks/${taskId}`);
+      const currentTask = taskResponse.data;
       
       if (!currentTask) {
         throw new Error(`Task with ID ${taskId} not found`);
@@ -515,7 +482,6 @@ const Pomodoro = () => {
     try {
       const completedSession = await pomodoroService.completeSession(currentSession.id, notes);
       setCurrentSession(completedSession);
-      refreshRecentSessions();
     } catch (error) {
       console.error("Error completing session:", error);
     } finally {
@@ -530,7 +496,6 @@ const Pomodoro = () => {
     try {
       const stoppedSession = await pomodoroService.stopSession(currentSession.id, notes);
       setCurrentSession(stoppedSession);
-      refreshRecentSessions();
     } catch (error) {
       console.error("Error stopping session:", error);
     } finally {
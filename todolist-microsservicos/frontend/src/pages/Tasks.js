@@ -2,7 +2,7 @@ import React, { useState, useEffect } from "react";
 import { useLocation } from "react-router-dom";
 import Header from "../components/Header";
 import Footer from "../components/Footer";
-import api from "../services/taskService";
+import api, { getAllTasks } from "../services/taskService";
 import TaskColumn from "../components/tasks/TaskColumn";
 import AddTaskModal from "../components/tasks/AddTaskModal";
 import EditTaskModal from "../components/tasks/EditTaskModal";
@@ -127,11 +127,11 @@ const Tasks = () => {
   const fetchTasks = async () => {
     setLoading(true);
     try {
-      const response = await api.get("/tasks");
-      setTasks(response.data);
+      const allTasks = await getAllTasks();
+      setTasks(allTasks);
       // Simple console log instead of notification
       if (!isInitialLoad) {
-        console.log(`Tasks updated: Found ${response.data.length} tasks`);
+        console.log(`Tasks updated: Found ${allTasks.length} tasks`);
       }
     } catch (error) {
       console.error("Error fetching tasks:", error);
@@ -30,6 +30,15 @@ export const register = async (username, password) => {
   return response.data; // ex: "Registration successful!"
 };
 
+/**
+ * Faz logout chamando POST /api/auth/logout, que revoga o token atual.
+ */
+export const logout = async (token) => {
+  await axios.post(`${API_URL}/api/auth/logout`, null, {
+    headers: { Authorization: `Bearer ${token}` },
+  });
+};
+
 /**
  * Chama GET /admin/dashboard com o token do localStorage (se houver).
  * Retorna a string do painel de admin.
@@ -56,12 +65,12 @@ export const getAdminStats = async () => {
 };
 
 /**
- * Busca lista de todos os usuários para admin
+ * Busca uma página de usuários para admin ({ items, page, size, hasNext })
  */
-export const getAllUsers = async () => {
+export const getAllUsers = async (page = 0, size = 50) => {
   const token = localStorage.getItem("jwt");
   const headers = token ? { Authorization: `Bearer ${token}` } : {};
 
-  const response = await axios.get(`${API_URL}/admin/users`, { headers });
+  const response = await axios.get(`${API_URL}/admin/users`, { headers, params: { page, size } });
   return response.data;
 };
\ No newline at end of file
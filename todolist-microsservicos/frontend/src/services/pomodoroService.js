@@ -53,34 +53,88 @@ const pomodoroService = {
   getCurrentSession: async () => {
     const api = createAuthenticatedRequest();
     try {
-      // Get all sessions and find the active one (RUNNING or PAUSED)
-      const response = await api.get("/sessions");
-      const sessions = response.data;
-      
-      // Find the most recent active session (RUNNING or PAUSED)
-      // Sort by createdAt descending to get the newest session first
-      const activeSessions = sessions.filter(session => 
-        session.status === 'RUNNING' || session.status === 'PAUSED'
-      ).sort((a, b) => new Date(b.createdAt || b.startTime) - new Date(a.createdAt || a.startTime));
-      
-      const activeSession = activeSessions[0];
-      
-      return activeSession || null;
+      // 204 No Content when the user has no RUNNING or PAUSED session
+      const response = await api.get("/sessions/current");
+      return response.status === 204 ? null : response.data;
     } catch (error) {
       console.error('Error getting current session:', error);
       return null;
     }
   },
 
-  getUserSessions: async () => {
+  // Server-Sent Events stream with session transitions and remaining-time ticks.
+  // Uses fetch instead of EventSource so the JWT can travel in the Authorization header.
+  // Returns a function that closes the stream.
+  subscribeToSessionStream: (onEvent) => {
+    const controller = new AbortController();
+    let retryDelay = 1000;
+
+    const dispatch = (rawEvent) => {
+      let name = "message";
+      const data = [];
+      rawEvent.split("\n").forEach((line) => {
+        if (line.startsWith("event:")) name = line.slice(6).trim();
+        else if (line.startsWith("data:")) data.push(line.slice(5));
+      });
+      if (data.length === 0) return;
+      try {
+        onEvent(name, JSON.parse(data.join("\n")));
+      } catch (e) {
+        console.error("Error parsing session stream event:", e);
+      }
+    };
+
+    const connect = async () => {
+      const token = localStorage.getItem("jwt") || localStorage.getItem("token");
+      try {
+        const response = await fetch(`${API_BASE_URL}/sessions/stream`, {
+          headers: { Authorization: `Bearer ${token}`, Accept: "text/event-stream" },
+          signal: controller.signal,
+        });
+        if (!response.ok) {
+          throw new Error(`Session stream failed with status ${response.status}`);
+        }
+        retryDelay = 1000;
+
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = "";
+        while (true) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += decoder.decode(value, { stream: true }).replace(/\r\n/g, "\n");
+          let boundary;
+          while ((boundary = buffer.indexOf("\n\n")) >= 0) {
+            dispatch(buffer.slice(0, boundary));
+            buffer = buffer.slice(boundary + 2);
+          }
+        }
+      } catch (error) {
+        if (controller.signal.aborted) return;
+        console.error("Session stream error:", error);
+      }
+      // Server timeout or network failure: reconnect with backoff
+      if (!controller.signal.aborted) {
+        setTimeout(connect, retryDelay);
+        retryDelay = Math.min(retryDelay * 2, 30000);
+      }
+    };
+
+    connect();
+    return () => controller.abort();
+  },
+
+  // Returns one page: { items, nextCursor, hasMore }. Pass nextCursor back to get the next page;
+  // from/to (ISO date-time) restrict the createdAt window.
+  getUserSessions: async ({ limit, cursor, from, to } = {}) => {
     const api = createAuthenticatedRequest();
-    const response = await api.get("/sessions");
+    const response = await api.get("/sessions", { params: { limit, cursor, from, to } });
     return response.data;
   },
 
-  getSessionsByTask: async (taskId) => {
+  getSessionsByTask: async (taskId, { limit, cursor, from, to } = {}) => {
     const api = createAuthenticatedRequest();
-    const response = await api.get(`/sessions/task/${taskId}`);
+    const response = await api.get(`/sessions/task/${taskId}`, { params: { limit, cursor, from, to } });
     return response.data;
   },
 
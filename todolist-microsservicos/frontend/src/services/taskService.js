@@ -16,6 +16,25 @@ const api = axios.create({
     (error) => Promise.reject(error)
   );  
 
+// Uma página de tarefas. params: status (ex.: "TODO,IN_PROGRESS"), priority, dueFrom, dueTo,
+// sort ("dueDate" | "title"), direction ("asc" | "desc"), cursor, limit
+export const getTasksPage = async (params = {}) => {
+  const response = await api.get("/tasks", { params });
+  return response.data;
+};
+
+// Percorre todas as páginas seguindo o nextCursor
+export const getAllTasks = async (params = {}) => {
+  const tasks = [];
+  let cursor;
+  do {
+    const page = await getTasksPage({ limit: 200, ...params, cursor });
+    tasks.push(...(page.items || []));
+    cursor = page.nextCursor;
+  } while (cursor);
+  return tasks;
+};
+
 // Admin function for task statistics
 export const getTaskStats = async () => {
   const response = await api.get("/tasks/admin/stats");
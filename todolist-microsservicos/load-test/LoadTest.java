@@ -0,0 +1,162 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Harness de carga em loop fechado: N usuários simultâneos repetem a mesma requisição GET
+ * durante um tempo fixo e o resultado mostra throughput e latências (p50, p99, máx).
+ * Usado para comparar cada serviço no modo padrão (pool de threads do Tomcat) com o modo
+ * de threads virtuais (perfil "virtual-threads", Java 21).
+ *
+ * Só depende do JDK (11+). Executar com:
+ * java load-test/LoadTest.java --url http://localhost:8081/api/home/dashboard --token $TOKEN \
+ *      --users 400 --duration 30 --warmup 5 --label platform
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        String url = require(options, "url");
+        String token = options.get("token");
+        int users = Integer.parseInt(options.getOrDefault("users", "200"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        String label = options.getOrDefault("label", "run");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (token != null) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        if (warmupSeconds > 0) {
+            System.out.printf("[%s] warmup %ds with %d users...%n", label, warmupSeconds, users);
+            run(client, request, users, warmupSeconds);
+        }
+        System.out.printf("[%s] measuring %ds with %d users...%n", label, durationSeconds, users);
+        Result result = run(client, request, users, durationSeconds);
+        result.print(label, durationSeconds);
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int users, int durationSeconds)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(users);
+        CountDownLatch done = new CountDownLatch(users);
+        List<long[]> perUserLatencies = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+
+        for (int i = 0; i < users; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            perUserLatencies.add(null);
+            int slot = i;
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            recorder.add(System.nanoTime() - start);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    synchronized (perUserLatencies) {
+                        perUserLatencies.set(slot, recorder.toArray());
+                    }
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+
+        long total = perUserLatencies.stream().mapToLong(latencies -> latencies.length).sum();
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (long[] latencies : perUserLatencies) {
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.get());
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static String require(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + name);
+        }
+        return value;
+    }
+
+    // Buffer de latências de um único usuário (sem sincronização: cada usuário tem o seu)
+    private static final class LatencyRecorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long errors) {
+
+        void print(String label, int durationSeconds) {
+            int count = sortedLatencies.length;
+            System.out.printf("[%s] requests=%d errors=%d throughput=%.1f req/s%n",
+                    label, count, errors, count / (double) durationSeconds);
+            if (count > 0) {
+                System.out.printf("[%s] latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n", label,
+                        percentile(0.50), percentile(0.90), percentile(0.99),
+                        sortedLatencies[count - 1] / 1_000_000.0);
+            }
+        }
+
+        private double percentile(double p) {
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
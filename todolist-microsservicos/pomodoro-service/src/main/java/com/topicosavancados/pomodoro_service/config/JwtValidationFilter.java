@@ -1,20 +1,16 @@
 package com.topicosavancados.pomodoro_service.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
@@ -22,8 +18,11 @@ import java.util.UUID;
 @Component
 public class JwtValidationFilter extends OncePerRequestFilter {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    @Autowired
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,20 +34,17 @@ public class JwtValidationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-                Claims claims = Jwts.parserBuilder()
-                        .setSigningKey(key)
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
-
-                String username = claims.getSubject();
-                String userIdStr = claims.get("userId", String.class);
-                String role = claims.get("role", String.class);
-
-                if (username != null && userIdStr != null) {
-                    UUID userId = UUID.fromString(userIdStr);
-                    
+                TokenPrincipal principal = jwtTokenVerifier.verify(token);
+
+                if (tokenRevocationList.isRevoked(principal)) {
+                    throw new IllegalStateException("Token has been revoked");
+                }
+
+                String username = principal.getUsername();
+                UUID userId = principal.getUserId();
+                String role = principal.getRole();
+
+                if (username != null && userId != null) {
                     // Store user information in request attributes
                     request.setAttribute("username", username);
                     request.setAttribute("userId", userId);
@@ -1,5 +1,6 @@
 package com.topicosavancados.pomodoro_service.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -33,6 +34,9 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/api/pomodoro/health").permitAll()
+                .requestMatchers("/api/pomodoro/cache-metrics").hasRole("ADMIN")
+                // Dispatch assíncrono do stream SSE: a requisição original já foi autenticada
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtValidationFilter, UsernamePasswordAuthenticationFilter.class);
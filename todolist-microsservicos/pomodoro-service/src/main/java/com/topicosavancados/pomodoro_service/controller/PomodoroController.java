@@ -1,14 +1,22 @@
 package com.topicosavancados.pomodoro_service.controller;
 
+import com.topicosavancados.pomodoro_service.config.TokenPrincipalCache;
 import com.topicosavancados.pomodoro_service.dto.CreateSessionRequest;
+import com.topicosavancados.pomodoro_service.dto.PomodoroStatsResponse;
+import com.topicosavancados.pomodoro_service.dto.SessionPageRequest;
+import com.topicosavancados.pomodoro_service.dto.SessionPageResponse;
 import com.topicosavancados.pomodoro_service.dto.SessionResponse;
 import com.topicosavancados.pomodoro_service.service.PomodoroService;
+import com.topicosavancados.pomodoro_service.service.SessionStatsService;
+import com.topicosavancados.pomodoro_service.service.SessionStreamService;
+import com.topicosavancados.pomodoro_service.service.UserSettingsCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -20,11 +28,31 @@ public class PomodoroController {
     @Autowired
     private PomodoroService pomodoroService;
 
+    @Autowired
+    private SessionStreamService sessionStreamService;
+
+    @Autowired
+    private SessionStatsService sessionStatsService;
+
+    @Autowired
+    private UserSettingsCache userSettingsCache;
+
+    @Autowired
+    private TokenPrincipalCache tokenPrincipalCache;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
         return ResponseEntity.ok(Map.of("status", "UP", "service", "pomodoro-service"));
     }
 
+    // Restrito a ADMIN no SecurityConfig
+    @GetMapping("/cache-metrics")
+    public ResponseEntity<Map<String, Object>> getCacheMetrics() {
+        return ResponseEntity.ok(Map.of(
+                "userSettings", userSettingsCache.getMetrics(),
+                "tokenPrincipals", tokenPrincipalCache.getMetrics()));
+    }
+
     @PostMapping("/sessions")
     public ResponseEntity<SessionResponse> createSession(
             @RequestBody CreateSessionRequest request,
@@ -95,20 +123,35 @@ public class PomodoroController {
         return ResponseEntity.ok(session);
     }
 
+    /**
+     * Stream SSE com as transições da sessão ativa e ticks de tempo restante,
+     * substituindo o polling de /sessions/current pelo frontend.
+     */
+    @GetMapping(path = "/sessions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSessions(HttpServletRequest httpRequest) {
+        UUID userId = (UUID) httpRequest.getAttribute("userId");
+        return sessionStreamService.subscribe(userId);
+    }
+
+    // Histórico paginado: limit, cursor e janela from/to (ISO date-time) via query string
     @GetMapping("/sessions")
-    public ResponseEntity<List<SessionResponse>> getUserSessions(HttpServletRequest httpRequest) {
+    public ResponseEntity<SessionPageResponse> getUserSessions(
+            @ModelAttribute SessionPageRequest pageRequest,
+            HttpServletRequest httpRequest) {
+        
         UUID userId = (UUID) httpRequest.getAttribute("userId");
-        List<SessionResponse> sessions = pomodoroService.getUserSessions(userId);
+        SessionPageResponse sessions = pomodoroService.getSessionsPage(userId, null, pageRequest);
         return ResponseEntity.ok(sessions);
     }
 
     @GetMapping("/sessions/task/{taskId}")
-    public ResponseEntity<List<SessionResponse>> getSessionsByTask(
+    public ResponseEntity<SessionPageResponse> getSessionsByTask(
             @PathVariable UUID taskId,
+            @ModelAttribute SessionPageRequest pageRequest,
             HttpServletRequest httpRequest) {
         
         UUID userId = (UUID) httpRequest.getAttribute("userId");
-        List<SessionResponse> sessions = pomodoroService.getSessionsByTask(userId, taskId);
+        SessionPageResponse sessions = pomodoroService.getSessionsPage(userId, taskId, pageRequest);
         return ResponseEntity.ok(sessions);
     }
 
@@ -121,4 +164,16 @@ public class PomodoroController {
         SessionResponse session = pomodoroService.getSessionById(userId, sessionId);
         return ResponseEntity.ok(session);
     }
+
+    @GetMapping("/stats")
+    public ResponseEntity<PomodoroStatsResponse> getStats(HttpServletRequest httpRequest) {
+        UUID userId = (UUID) httpRequest.getAttribute("userId");
+        return ResponseEntity.ok(sessionStatsService.getStats(userId));
+    }
+
+    // Cursor inválido ou janela de datas inconsistente
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
 }
\ No newline at end of file
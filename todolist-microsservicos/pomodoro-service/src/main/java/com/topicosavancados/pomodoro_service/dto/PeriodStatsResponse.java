@@ -0,0 +1,68 @@
+package com.topicosavancados.pomodoro_service.dto;
+
+import java.time.LocalDate;
+
+public class PeriodStatsResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private int focusMinutes;
+    private int completedFocusSessions;
+    private int completedBreakSessions;
+    private int cancelledSessions;
+
+    public PeriodStatsResponse() {}
+
+    public PeriodStatsResponse(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public int getFocusMinutes() {
+        return focusMinutes;
+    }
+
+    public void setFocusMinutes(int focusMinutes) {
+        this.focusMinutes = focusMinutes;
+    }
+
+    public int getCompletedFocusSessions() {
+        return completedFocusSessions;
+    }
+
+    public void setCompletedFocusSessions(int completedFocusSessions) {
+        this.completedFocusSessions = completedFocusSessions;
+    }
+
+    public int getCompletedBreakSessions() {
+        return completedBreakSessions;
+    }
+
+    public void setCompletedBreakSessions(int completedBreakSessions) {
+        this.completedBreakSessions = completedBreakSessions;
+    }
+
+    public int getCancelledSessions() {
+        return cancelledSessions;
+    }
+
+    public void setCancelledSessions(int cancelledSessions) {
+        this.cancelledSessions = cancelledSessions;
+    }
+}
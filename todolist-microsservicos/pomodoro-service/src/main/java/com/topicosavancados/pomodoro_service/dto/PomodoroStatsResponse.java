@@ -0,0 +1,52 @@
+package com.topicosavancados.pomodoro_service.dto;
+
+import java.util.List;
+
+public class PomodoroStatsResponse {
+
+    private PeriodStatsResponse today;
+    private PeriodStatsResponse week;
+    private PeriodStatsResponse month;
+    private int currentStreakDays;
+    private List<TaskFocusResponse> tasks;
+
+    public PeriodStatsResponse getToday() {
+        return today;
+    }
+
+    public void setToday(PeriodStatsResponse today) {
+        this.today = today;
+    }
+
+    public PeriodStatsResponse getWeek() {
+        return week;
+    }
+
+    public void setWeek(PeriodStatsResponse week) {
+        this.week = week;
+    }
+
+    public PeriodStatsResponse getMonth() {
+        return month;
+    }
+
+    public void setMonth(PeriodStatsResponse month) {
+        this.month = month;
+    }
+
+    public int getCurrentStreakDays() {
+        return currentStreakDays;
+    }
+
+    public void setCurrentStreakDays(int currentStreakDays) {
+        this.currentStreakDays = currentStreakDays;
+    }
+
+    public List<TaskFocusResponse> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskFocusResponse> tasks) {
+        this.tasks = tasks;
+    }
+}
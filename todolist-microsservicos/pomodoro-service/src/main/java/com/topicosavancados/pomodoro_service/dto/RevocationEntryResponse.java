@@ -0,0 +1,61 @@
+package com.topicosavancados.pomodoro_service.dto;
+
+import java.util.UUID;
+
+public class RevocationEntryResponse {
+    private long version;
+    private String jti;
+    private UUID userId;
+    private Long issuedBefore; // epoch millis, apenas para revogações por usuário
+    private long expiresAt;    // epoch millis
+
+    public RevocationEntryResponse() {}
+
+    public RevocationEntryResponse(long version, String jti, UUID userId, Long issuedBefore, long expiresAt) {
+        this.version = version;
+        this.jti = jti;
+        this.userId = userId;
+        this.issuedBefore = issuedBefore;
+        this.expiresAt = expiresAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Long getIssuedBefore() {
+        return issuedBefore;
+    }
+
+    public void setIssuedBefore(Long issuedBefore) {
+        this.issuedBefore = issuedBefore;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
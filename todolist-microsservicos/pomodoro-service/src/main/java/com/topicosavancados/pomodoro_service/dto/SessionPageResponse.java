@@ -0,0 +1,41 @@
+package com.topicosavancados.pomodoro_service.dto;
+
+import java.util.List;
+
+public class SessionPageResponse {
+    private List<SessionResponse> items;
+    private String nextCursor; // null quando não há mais páginas
+    private boolean hasMore;
+
+    public SessionPageResponse() {}
+
+    public SessionPageResponse(List<SessionResponse> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<SessionResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<SessionResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,56 @@
+package com.topicosavancados.pomodoro_service.dto;
+
+import java.util.UUID;
+
+/**
+ * Payload enviado pelo stream SSE de sessões (GET /api/pomodoro/sessions/stream).
+ * Eventos de estado carregam a sessão completa; ticks carregam apenas o tempo restante.
+ */
+public class SessionStreamEvent {
+
+    private String type;
+    private UUID sessionId;
+    private SessionResponse session;
+    private Long remainingSeconds;
+
+    public SessionStreamEvent() {}
+
+    public SessionStreamEvent(String type, UUID sessionId, SessionResponse session, Long remainingSeconds) {
+        this.type = type;
+        this.sessionId = sessionId;
+        this.session = session;
+        this.remainingSeconds = remainingSeconds;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(UUID sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public SessionResponse getSession() {
+        return session;
+    }
+
+    public void setSession(SessionResponse session) {
+        this.session = session;
+    }
+
+    public Long getRemainingSeconds() {
+        return remainingSeconds;
+    }
+
+    public void setRemainingSeconds(Long remainingSeconds) {
+        this.remainingSeconds = remainingSeconds;
+    }
+}
@@ -0,0 +1,52 @@
+package com.topicosavancados.pomodoro_service.dto;
+
+import java.util.UUID;
+
+public class TaskFocusResponse {
+
+    private UUID taskId;
+    private String taskTitle;
+    private int focusMinutes;
+    private int completedSessions;
+
+    public TaskFocusResponse() {}
+
+    public TaskFocusResponse(UUID taskId, String taskTitle, int focusMinutes, int completedSessions) {
+        this.taskId = taskId;
+        this.taskTitle = taskTitle;
+        this.focusMinutes = focusMinutes;
+        this.completedSessions = completedSessions;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public void setTaskTitle(String taskTitle) {
+        this.taskTitle = taskTitle;
+    }
+
+    public int getFocusMinutes() {
+        return focusMinutes;
+    }
+
+    public void setFocusMinutes(int focusMinutes) {
+        this.focusMinutes = focusMinutes;
+    }
+
+    public int getCompletedSessions() {
+        return completedSessions;
+    }
+
+    public void setCompletedSessions(int completedSessions) {
+        this.completedSessions = completedSessions;
+    }
+}
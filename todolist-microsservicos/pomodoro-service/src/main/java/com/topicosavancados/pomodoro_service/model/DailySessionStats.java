@@ -0,0 +1,116 @@
+package com.topicosavancados.pomodoro_service.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Agregado diário por usuário, atualizado a cada sessão concluída ou cancelada.
+ * As estatísticas leem poucas linhas desta tabela em vez do histórico completo de sessões.
+ */
+@Entity
+@Table(name = "pomodoro_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_stats_user_date", columnNames = {"user_id", "stat_date"})
+})
+public class DailySessionStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private Integer focusMinutes = 0;
+
+    @Column(nullable = false)
+    private Integer completedFocusSessions = 0;
+
+    @Column(nullable = false)
+    private Integer completedBreakSessions = 0;
+
+    @Column(nullable = false)
+    private Integer cancelledSessions = 0;
+
+    // Dias consecutivos com ao menos um foco concluído, terminando neste dia (0 se nenhum)
+    @Column(nullable = false)
+    private Integer streakDays = 0;
+
+    // Constructors
+    public DailySessionStats() {}
+
+    public DailySessionStats(UUID userId, LocalDate statDate) {
+        this.userId = userId;
+        this.statDate = statDate;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public Integer getFocusMinutes() {
+        return focusMinutes;
+    }
+
+    public void setFocusMinutes(Integer focusMinutes) {
+        this.focusMinutes = focusMinutes;
+    }
+
+    public Integer getCompletedFocusSessions() {
+        return completedFocusSessions;
+    }
+
+    public void setCompletedFocusSessions(Integer completedFocusSessions) {
+        this.completedFocusSessions = completedFocusSessions;
+    }
+
+    public Integer getCompletedBreakSessions() {
+        return completedBreakSessions;
+    }
+
+    public void setCompletedBreakSessions(Integer completedBreakSessions) {
+        this.completedBreakSessions = completedBreakSessions;
+    }
+
+    public Integer getCancelledSessions() {
+        return cancelledSessions;
+    }
+
+    public void setCancelledSessions(Integer cancelledSessions) {
+        this.cancelledSessions = cancelledSessions;
+    }
+
+    public Integer getStreakDays() {
+        return streakDays;
+    }
+
+    public void setStreakDays(Integer streakDays) {
+        this.streakDays = streakDays;
+    }
+}
@@ -0,0 +1,47 @@
+package com.topicosavancados.pomodoro_service.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de uma migração de dados executada uma única vez entre todas as instâncias
+ * (ex.: o backfill das estatísticas). A linha é travada enquanto a migração roda.
+ */
+@Entity
+@Table(name = "pomodoro_migrations")
+public class MigrationMarker {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // Nulo enquanto a migração não terminou
+    @Column
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public MigrationMarker() {}
+
+    public MigrationMarker(String name, LocalDateTime completedAt) {
+        this.name = name;
+        this.completedAt = completedAt;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
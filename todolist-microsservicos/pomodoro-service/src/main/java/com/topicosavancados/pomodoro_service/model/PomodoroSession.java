@@ -8,7 +8,14 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "pomodoro_sessions")
+@Table(name = "pomodoro_sessions", indexes = {
+        // findByUserIdOrderByCreatedAtDesc e consultas por período
+        @Index(name = "idx_sessions_user_created", columnList = "user_id, created_at DESC"),
+        // findByUserIdAndStatus..., incluindo a sessão ativa do usuário
+        @Index(name = "idx_sessions_user_status_created", columnList = "user_id, status, created_at DESC"),
+        @Index(name = "idx_sessions_user_task_created", columnList = "user_id, task_id, created_at DESC"),
+        @Index(name = "idx_sessions_user_type_created", columnList = "user_id, type, created_at DESC")
+})
 public class PomodoroSession {
 
     @Id
@@ -56,6 +63,10 @@ public class PomodoroSession {
     @Column(length = 500)
     private String notes;
 
+    // Já somada aos agregados de estatísticas (nulo nas sessões anteriores a esta coluna)
+    @Column
+    private Boolean statsRecorded;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -212,4 +223,12 @@ public class PomodoroSession {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    public Boolean getStatsRecorded() {
+        return statsRecorded;
+    }
+
+    public void setStatsRecorded(Boolean statsRecorded) {
+        this.statsRecorded = statsRecorded;
+    }
+}
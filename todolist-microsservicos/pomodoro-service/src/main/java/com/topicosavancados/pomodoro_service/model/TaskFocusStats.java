@@ -0,0 +1,93 @@
+package com.topicosavancados.pomodoro_service.model;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Total de foco por tarefa de cada usuário, atualizado junto com DailySessionStats.
+ */
+@Entity
+@Table(name = "pomodoro_task_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_stats_user_task", columnNames = {"user_id", "task_id"})
+}, indexes = {
+        @Index(name = "idx_task_stats_user_minutes", columnList = "user_id, focus_minutes DESC")
+})
+public class TaskFocusStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private UUID taskId;
+
+    @Column
+    private String taskTitle;
+
+    @Column(nullable = false)
+    private Integer focusMinutes = 0;
+
+    @Column(nullable = false)
+    private Integer completedSessions = 0;
+
+    // Constructors
+    public TaskFocusStats() {}
+
+    public TaskFocusStats(UUID userId, UUID taskId) {
+        this.userId = userId;
+        this.taskId = taskId;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public void setTaskTitle(String taskTitle) {
+        this.taskTitle = taskTitle;
+    }
+
+    public Integer getFocusMinutes() {
+        return focusMinutes;
+    }
+
+    public void setFocusMinutes(Integer focusMinutes) {
+        this.focusMinutes = focusMinutes;
+    }
+
+    public Integer getCompletedSessions() {
+        return completedSessions;
+    }
+
+    public void setCompletedSessions(Integer completedSessions) {
+        this.completedSessions = completedSessions;
+    }
+}
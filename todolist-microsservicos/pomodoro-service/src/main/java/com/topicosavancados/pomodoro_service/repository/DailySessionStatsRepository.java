@@ -0,0 +1,27 @@
+package com.topicosavancados.pomodoro_service.repository;
+
+import com.topicosavancados.pomodoro_service.model.DailySessionStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DailySessionStatsRepository extends JpaRepository<DailySessionStats, UUID> {
+
+    Optional<DailySessionStats> findByUserIdAndStatDate(UUID userId, LocalDate statDate);
+
+    // Mesma linha, travada até o fim da transação: atualizações concorrentes do agregado são serializadas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DailySessionStats d WHERE d.userId = :userId AND d.statDate = :statDate")
+    Optional<DailySessionStats> findForUpdate(@Param("userId") UUID userId, @Param("statDate") LocalDate statDate);
+
+    List<DailySessionStats> findByUserIdAndStatDateBetweenOrderByStatDateAsc(UUID userId, LocalDate from, LocalDate to);
+}
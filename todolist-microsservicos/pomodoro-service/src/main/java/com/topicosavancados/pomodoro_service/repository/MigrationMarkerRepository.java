@@ -0,0 +1,20 @@
+package com.topicosavancados.pomodoro_service.repository;
+
+import com.topicosavancados.pomodoro_service.model.MigrationMarker;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MigrationMarkerRepository extends JpaRepository<MigrationMarker, String> {
+
+    // Trava a linha da migração: outras instâncias esperam até o commit e então veem o estado final
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MigrationMarker m WHERE m.name = :name")
+    Optional<MigrationMarker> findForUpdate(@Param("name") String name);
+}
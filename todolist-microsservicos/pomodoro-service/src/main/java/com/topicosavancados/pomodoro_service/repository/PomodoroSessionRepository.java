@@ -3,7 +3,11 @@ package com.topicosavancados.pomodoro_service.repository;
 import com.topicosavancados.pomodoro_service.model.PomodoroSession;
 import com.topicosavancados.pomodoro_service.model.SessionStatus;
 import com.topicosavancados.pomodoro_service.model.SessionType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,6 +26,19 @@ public interface PomodoroSessionRepository extends JpaRepository<PomodoroSession
 
     Optional<PomodoroSession> findByUserIdAndStatus(UUID userId, SessionStatus status);
 
+    List<PomodoroSession> findByStatusInOrderByCreatedAtAsc(List<SessionStatus> statuses);
+
+    // Sessões finalizadas ainda não somadas aos agregados, em ordem de término (backfill)
+    @Query("SELECT s FROM PomodoroSession s WHERE s.status IN :statuses AND s.endTime IS NOT NULL "
+            + "AND (s.statsRecorded IS NULL OR s.statsRecorded = false) ORDER BY s.endTime ASC, s.id ASC")
+    Slice<PomodoroSession> findStatsPending(@Param("statuses") List<SessionStatus> statuses, Pageable pageable);
+
+    // Marca a sessão como contabilizada; retorna 0 se ela já foi somada aos agregados por outra transação.
+    // flushAutomatically garante que a sessão recém-alterada na transação já esteja no banco
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PomodoroSession s SET s.statsRecorded = true WHERE s.id = :id AND (s.statsRecorded IS NULL OR s.statsRecorded = false)")
+    int markStatsRecorded(@Param("id") UUID id);
+
     List<PomodoroSession> findByUserIdAndTaskIdOrderByCreatedAtDesc(UUID userId, UUID taskId);
 
     List<PomodoroSession> findByUserIdAndTypeOrderByCreatedAtDesc(UUID userId, SessionType type);
@@ -42,6 +59,45 @@ public interface PomodoroSessionRepository extends JpaRepository<PomodoroSession
 
     Optional<PomodoroSession> findByIdAndUserId(UUID id, UUID userId);
 
-    @Query("SELECT s FROM PomodoroSession s WHERE s.userId = :userId AND s.status IN :statuses ORDER BY s.createdAt DESC")
-    Optional<PomodoroSession> findByUserIdAndStatusIn(@Param("userId") UUID userId, @Param("statuses") List<SessionStatus> statuses);
+    // Transição condicional: só altera a linha se ela ainda estiver em um dos status esperados.
+    // Entre duas chamadas concorrentes (usuário concluindo e timer expirando), apenas uma recebe 1
+    @Modifying
+    @Query("UPDATE PomodoroSession s SET s.status = :newStatus WHERE s.id = :id AND s.status IN :expectedStatuses")
+    int updateStatusIfIn(@Param("id") UUID id,
+                         @Param("expectedStatuses") List<SessionStatus> expectedStatuses,
+                         @Param("newStatus") SessionStatus newStatus);
+
+    // Histórico paginado (keyset em createdAt DESC, id DESC) dentro de uma janela de datas,
+    // no mesmo formato de findByUserIdAndDateRange; usa idx_sessions_user_created / idx_sessions_user_task_created
+    @Query("SELECT s FROM PomodoroSession s WHERE s.userId = :userId AND s.createdAt >= :startDate AND s.createdAt <= :endDate ORDER BY s.createdAt DESC, s.id DESC")
+    List<PomodoroSession> findPageByUserId(@Param("userId") UUID userId,
+                                           @Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate,
+                                           Limit limit);
+
+    @Query("SELECT s FROM PomodoroSession s WHERE s.userId = :userId AND s.createdAt >= :startDate AND s.createdAt <= :endDate "
+            + "AND (s.createdAt < :afterCreatedAt OR (s.createdAt = :afterCreatedAt AND s.id < :afterId)) ORDER BY s.createdAt DESC, s.id DESC")
+    List<PomodoroSession> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                                @Param("startDate") LocalDateTime startDate,
+                                                @Param("endDate") LocalDateTime endDate,
+                                                @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                @Param("afterId") UUID afterId,
+                                                Limit limit);
+
+    @Query("SELECT s FROM PomodoroSession s WHERE s.userId = :userId AND s.taskId = :taskId AND s.createdAt >= :startDate AND s.createdAt <= :endDate ORDER BY s.createdAt DESC, s.id DESC")
+    List<PomodoroSession> findPageByUserIdAndTaskId(@Param("userId") UUID userId,
+                                                    @Param("taskId") UUID taskId,
+                                                    @Param("startDate") LocalDateTime startDate,
+                                                    @Param("endDate") LocalDateTime endDate,
+                                                    Limit limit);
+
+    @Query("SELECT s FROM PomodoroSession s WHERE s.userId = :userId AND s.taskId = :taskId AND s.createdAt >= :startDate AND s.createdAt <= :endDate "
+            + "AND (s.createdAt < :afterCreatedAt OR (s.createdAt = :afterCreatedAt AND s.id < :afterId)) ORDER BY s.createdAt DESC, s.id DESC")
+    List<PomodoroSession> findPageByUserIdAndTaskIdAfter(@Param("userId") UUID userId,
+                                                         @Param("taskId") UUID taskId,
+                                                         @Param("startDate") LocalDateTime startDate,
+                                                         @Param("endDate") LocalDateTime endDate,
+                                                         @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                         @Param("afterId") UUID afterId,
+                                                         Limit limit);
 }
\ No newline at end of file
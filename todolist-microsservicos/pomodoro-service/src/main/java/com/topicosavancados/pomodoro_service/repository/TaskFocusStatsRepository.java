@@ -0,0 +1,26 @@
+package com.topicosavancados.pomodoro_service.repository;
+
+import com.topicosavancados.pomodoro_service.model.TaskFocusStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TaskFocusStatsRepository extends JpaRepository<TaskFocusStats, UUID> {
+
+    Optional<TaskFocusStats> findByUserIdAndTaskId(UUID userId, UUID taskId);
+
+    // Mesma linha, travada até o fim da transação: atualizações concorrentes do agregado são serializadas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TaskFocusStats t WHERE t.userId = :userId AND t.taskId = :taskId")
+    Optional<TaskFocusStats> findForUpdate(@Param("userId") UUID userId, @Param("taskId") UUID taskId);
+
+    List<TaskFocusStats> findTop10ByUserIdOrderByFocusMinutesDesc(UUID userId);
+}
@@ -0,0 +1,148 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import com.topicosavancados.pomodoro_service.repository.PomodoroSessionRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro em memória das sessões ativas (RUNNING/PAUSED) de cada usuário.
+ * Reconstruído a partir do banco na inicialização e atualizado (write-through, após o commit)
+ * a cada transição feita pelo PomodoroService, então a checagem de sessão ativa e a leitura
+ * da sessão atual não executam SQL. Pressupõe que todas as escritas de sessões passam por esta instância.
+ * Um usuário pode ter mais de uma sessão ativa (uma pausada e outra iniciada depois); todas ficam
+ * registradas, e a sessão atual é escolhida entre elas na leitura.
+ */
+@Component
+public class ActiveSessionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveSessionRegistry.class);
+    private static final List<SessionStatus> ACTIVE_STATUSES = List.of(SessionStatus.RUNNING, SessionStatus.PAUSED);
+
+    private static final Comparator<PomodoroSession> CREATED_AT_ORDER = Comparator.comparing(
+            PomodoroSession::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final PomodoroSessionRepository sessionRepository;
+
+    // userId -> (sessionId -> cópia desanexada da sessão ativa, nunca a entidade gerenciada pelo JPA).
+    // O mapa interno é imutável e substituído a cada alteração, então leituras concorrentes veem um estado consistente.
+    private final Map<UUID, Map<UUID, PomodoroSession>> activeSessions = new ConcurrentHashMap<>();
+
+    public ActiveSessionRegistry(PomodoroSessionRepository sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        activeSessions.clear();
+        for (PomodoroSession session : sessionRepository.findByStatusInOrderByCreatedAtAsc(ACTIVE_STATUSES)) {
+            apply(snapshot(session));
+        }
+        logger.info("Active session registry rebuilt with {} sessions", size());
+    }
+
+    public Optional<PomodoroSession> find(UUID userId) {
+        return sessionsOf(userId).stream()
+                .reduce(ActiveSessionRegistry::preferred)
+                .map(ActiveSessionRegistry::snapshot);
+    }
+
+    public boolean hasRunningSession(UUID userId) {
+        return sessionsOf(userId).stream().anyMatch(session -> session.getStatus() == SessionStatus.RUNNING);
+    }
+
+    /**
+     * Registra o novo estado da sessão. Dentro de uma transação, só é aplicado após o commit,
+     * para que um rollback não deixe o registro divergente do banco.
+     */
+    public void update(PomodoroSession session) {
+        PomodoroSession snapshot = snapshot(session);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(snapshot);
+                }
+            });
+        } else {
+            apply(snapshot);
+        }
+    }
+
+    public List<PomodoroSession> runningSessions() {
+        return activeSessions.values().stream()
+                .flatMap(sessions -> sessions.values().stream())
+                .filter(session -> session.getStatus() == SessionStatus.RUNNING)
+                .map(ActiveSessionRegistry::snapshot)
+                .toList();
+    }
+
+    public int size() {
+        return activeSessions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private Collection<PomodoroSession> sessionsOf(UUID userId) {
+        return activeSessions.getOrDefault(userId, Map.of()).values();
+    }
+
+    // Sessão ativa entra (ou é atualizada) no conjunto do usuário; sessão finalizada sai só pelo próprio id
+    private void apply(PomodoroSession session) {
+        boolean active = ACTIVE_STATUSES.contains(session.getStatus());
+        activeSessions.compute(session.getUserId(), (userId, current) -> {
+            Map<UUID, PomodoroSession> sessions = current != null ? new HashMap<>(current) : new HashMap<>();
+            if (active) {
+                sessions.put(session.getId(), session);
+            } else {
+                sessions.remove(session.getId());
+            }
+            return sessions.isEmpty() ? null : Map.copyOf(sessions);
+        });
+    }
+
+    /**
+     * Mesma precedência do getCurrentSession original: RUNNING antes de PAUSED, depois a mais recente.
+     */
+    private static PomodoroSession preferred(PomodoroSession first, PomodoroSession second) {
+        boolean firstRunning = first.getStatus() == SessionStatus.RUNNING;
+        boolean secondRunning = second.getStatus() == SessionStatus.RUNNING;
+        if (firstRunning != secondRunning) {
+            return firstRunning ? first : second;
+        }
+        return CREATED_AT_ORDER.compare(first, second) >= 0 ? first : second;
+    }
+
+    static PomodoroSession snapshot(PomodoroSession session) {
+        PomodoroSession copy = new PomodoroSession();
+        copy.setId(session.getId());
+        copy.setUserId(session.getUserId());
+        copy.setUsername(session.getUsername());
+        copy.setTaskId(session.getTaskId());
+        copy.setTaskTitle(session.getTaskTitle());
+        copy.setType(session.getType());
+        copy.setStatus(session.getStatus());
+        copy.setPlannedDurationMinutes(session.getPlannedDurationMinutes());
+        copy.setActualDurationMinutes(session.getActualDurationMinutes());
+        copy.setStartTime(session.getStartTime());
+        copy.setEndTime(session.getEndTime());
+        copy.setPausedAt(session.getPausedAt());
+        copy.setTotalPausedSeconds(session.getTotalPausedSeconds());
+        copy.setNotes(session.getNotes());
+        copy.setCreatedAt(session.getCreatedAt());
+        copy.setUpdatedAt(session.getUpdatedAt());
+        return copy;
+    }
+}
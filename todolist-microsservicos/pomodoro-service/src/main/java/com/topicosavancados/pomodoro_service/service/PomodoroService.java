@@ -1,6 +1,8 @@
 package com.topicosavancados.pomodoro_service.service;
 
 import com.topicosavancados.pomodoro_service.dto.CreateSessionRequest;
+import com.topicosavancados.pomodoro_service.dto.SessionPageRequest;
+import com.topicosavancados.pomodoro_service.dto.SessionPageResponse;
 import com.topicosavancados.pomodoro_service.dto.SessionResponse;
 import com.topicosavancados.pomodoro_service.model.PomodoroSession;
 import com.topicosavancados.pomodoro_service.model.SessionStatus;
@@ -8,7 +10,10 @@ import com.topicosavancados.pomodoro_service.model.SessionType;
 import com.topicosavancados.pomodoro_service.model.UserSettings;
 import com.topicosavancados.pomodoro_service.repository.PomodoroSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -22,16 +27,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class PomodoroService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final List<SessionStatus> ACTIVE_STATUSES = List.of(SessionStatus.RUNNING, SessionStatus.PAUSED);
+    private static final List<SessionStatus> STOPPABLE_STATUSES =
+            List.of(SessionStatus.WAITING, SessionStatus.RUNNING, SessionStatus.PAUSED);
+
     @Autowired
     private PomodoroSessionRepository sessionRepository;
 
     @Autowired
     private UserSettingsService userSettingsService;
 
+    @Autowired
+    private ActiveSessionRegistry activeSessionRegistry;
+
+    @Autowired
+    private SessionStatsService sessionStatsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public SessionResponse createSession(UUID userId, String username, CreateSessionRequest request) {
-        // Check if user has an active session
-        Optional<PomodoroSession> activeSession = sessionRepository.findByUserIdAndStatus(userId, SessionStatus.RUNNING);
-        if (activeSession.isPresent()) {
+        // Check if user has an active session (served from memory, no SQL)
+        if (activeSessionRegistry.hasRunningSession(userId)) {
             throw new RuntimeException("You already have an active session. Please stop it first.");
         }
 
@@ -63,7 +83,7 @@ public class PomodoroService {
         session.setNotes(request.getNotes());
         
         session = sessionRepository.save(session);
-        return convertToResponse(session);
+        return publish(SessionStateChangedEvent.Transition.CREATED, session);
     }
 
     public SessionResponse startSession(UUID userId, UUID sessionId) {
@@ -72,6 +92,10 @@ public class PomodoroService {
         if (session.getStatus() != SessionStatus.WAITING && session.getStatus() != SessionStatus.PAUSED) {
             throw new RuntimeException("Session cannot be started in current state: " + session.getStatus());
         }
+        if (!claimTransition(session, List.of(SessionStatus.WAITING, SessionStatus.PAUSED), SessionStatus.RUNNING)) {
+            // Iniciada, concluída ou cancelada por outra requisição depois da leitura acima
+            throw new RuntimeException("Session cannot be started in current state: " + session.getStatus());
+        }
 
         // FIXED: Calculate paused time when resuming from pause with precise second-level accuracy
         if (session.getStatus() == SessionStatus.PAUSED && session.getPausedAt() != null) {
@@ -88,7 +112,7 @@ public class PomodoroService {
         }
         
         session = sessionRepository.save(session);
-        return convertToResponse(session);
+        return publish(SessionStateChangedEvent.Transition.STARTED, session);
     }
 
     public SessionResponse pauseSession(UUID userId, UUID sessionId) {
@@ -97,6 +121,10 @@ public class PomodoroService {
         if (session.getStatus() != SessionStatus.RUNNING) {
             throw new RuntimeException("Only running sessions can be paused");
         }
+        if (!claimTransition(session, List.of(SessionStatus.RUNNING), SessionStatus.PAUSED)) {
+            // O timer (ou outra requisição) concluiu ou cancelou a sessão depois da leitura acima
+            throw new RuntimeException("Only running sessions can be paused");
+        }
 
         session.setStatus(SessionStatus.PAUSED);
         session.setPausedAt(LocalDateTime.now());
@@ -105,7 +133,7 @@ public class PomodoroService {
         // The pausedAt timestamp is sufficient to track when the pause started
         
         session = sessionRepository.save(session);
-        return convertToResponse(session);
+        return publish(SessionStateChangedEvent.Transition.PAUSED, session);
     }
 
     public SessionResponse stopSession(UUID userId, UUID sessionId, String notes) {
@@ -114,6 +142,10 @@ public class PomodoroService {
         if (session.getStatus() == SessionStatus.COMPLETED || session.getStatus() == SessionStatus.CANCELLED) {
             throw new RuntimeException("Session is already finished");
         }
+        if (!claimTransition(session, STOPPABLE_STATUSES, SessionStatus.CANCELLED)) {
+            // O timer (ou outra requisição) finalizou a sessão depois da leitura acima
+            throw new RuntimeException("Session is already finished");
+        }
 
         session.setStatus(SessionStatus.CANCELLED);
         session.setEndTime(LocalDateTime.now());
@@ -129,7 +161,7 @@ public class PomodoroService {
         }
         
         session = sessionRepository.save(session);
-        return convertToResponse(session);
+        return publish(SessionStateChangedEvent.Transition.STOPPED, session);
     }
 
     public SessionResponse completeSession(UUID userId, UUID sessionId, String notes) {
@@ -138,6 +170,10 @@ public class PomodoroService {
         if (session.getStatus() != SessionStatus.RUNNING && session.getStatus() != SessionStatus.PAUSED) {
             throw new RuntimeException("Only running or paused sessions can be completed");
         }
+        if (!claimTransition(session, ACTIVE_STATUSES, SessionStatus.COMPLETED)) {
+            // O timer (ou outra requisição) concluiu a sessão depois da leitura acima
+            throw new RuntimeException("Only running or paused sessions can be completed");
+        }
 
         session.setStatus(SessionStatus.COMPLETED);
         session.setEndTime(LocalDateTime.now());
@@ -153,31 +189,127 @@ public class PomodoroService {
         }
         
         session = sessionRepository.save(session);
-        return convertToResponse(session);
+        return publish(SessionStateChangedEvent.Transition.COMPLETED, session);
     }
 
-    public SessionResponse getCurrentSession(UUID userId) {
-        Optional<PomodoroSession> activeSession = sessionRepository.findByUserIdAndStatus(userId, SessionStatus.RUNNING);
-        if (activeSession.isEmpty()) {
-            // Check for paused sessions
-            activeSession = sessionRepository.findByUserIdAndStatus(userId, SessionStatus.PAUSED);
+    /**
+     * Chamado pelo SessionTimerScheduler quando o tempo planejado de uma sessão termina.
+     * Conclui a sessão (se ainda estiver RUNNING) e cria a próxima conforme as configurações do usuário.
+     */
+    public SessionResponse expireSession(UUID userId, UUID sessionId) {
+        Optional<PomodoroSession> found = sessionRepository.findByIdAndUserId(sessionId, userId);
+        if (found.isEmpty() || found.get().getStatus() != SessionStatus.RUNNING) {
+            // Pausada, concluída ou cancelada pelo usuário antes do disparo do timer
+            return null;
         }
-        
-        return activeSession.map(this::convertToResponse).orElse(null);
+
+        PomodoroSession session = found.get();
+        if (!claimTransition(session, List.of(SessionStatus.RUNNING), SessionStatus.COMPLETED)) {
+            // Concluída, pausada ou cancelada pelo usuário ao mesmo tempo: quem venceu já publicou
+            return null;
+        }
+        session.setStatus(SessionStatus.COMPLETED);
+        session.setEndTime(LocalDateTime.now());
+        session.setActualDurationMinutes(session.getPlannedDurationMinutes());
+        if (session.getNotes() == null || session.getNotes().trim().isEmpty()) {
+            session.setNotes("Auto-completed when timer reached zero");
+        }
+        session = sessionRepository.save(session);
+        publish(SessionStateChangedEvent.Transition.COMPLETED, session);
+
+        return startNextSession(session);
     }
 
-    public List<SessionResponse> getUserSessions(UUID userId) {
-        List<PomodoroSession> sessions = sessionRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return sessions.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Muda o status da sessão no banco somente se ela ainda estiver em um dos status esperados.
+     * A linha fica travada até o commit, então uma segunda chamada concorrente espera e recebe false:
+     * só quem vence a transição a aplica, registra as estatísticas, publica o evento e (na conclusão)
+     * inicia a próxima sessão. Evita, por exemplo, que uma pausa sobrescreva a conclusão feita pelo timer.
+     */
+    private boolean claimTransition(PomodoroSession session, List<SessionStatus> expectedStatuses, SessionStatus newStatus) {
+        return sessionRepository.updateStatusIfIn(session.getId(), expectedStatuses, newStatus) > 0;
     }
 
-    public List<SessionResponse> getSessionsByTask(UUID userId, UUID taskId) {
-        List<PomodoroSession> sessions = sessionRepository.findByUserIdAndTaskIdOrderByCreatedAtDesc(userId, taskId);
-        return sessions.stream()
+    private SessionResponse startNextSession(PomodoroSession finished) {
+        UserSettings settings = userSettingsService.getUserSettings(finished.getUserId(), finished.getUsername());
+
+        SessionType nextType;
+        Integer duration;
+        if (finished.getType() == SessionType.FOCUS) {
+            if (!Boolean.TRUE.equals(settings.getAutoStartBreaks())) {
+                return null;
+            }
+            // A cada sessionsUntilLongBreak focos concluídos no dia, a pausa é longa
+            LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
+            Long completedToday = sessionRepository.countTodayCompletedFocusSessionsByUserId(
+                    finished.getUserId(), startOfDay, startOfDay.plusDays(1));
+            int cycle = settings.getSessionsUntilLongBreak() != null && settings.getSessionsUntilLongBreak() > 0
+                    ? settings.getSessionsUntilLongBreak() : 4;
+            boolean longBreak = completedToday != null && completedToday > 0 && completedToday % cycle == 0;
+            nextType = longBreak ? SessionType.LONG_BREAK : SessionType.SHORT_BREAK;
+            duration = longBreak ? settings.getLongBreakDurationMinutes() : settings.getShortBreakDurationMinutes();
+        } else if (finished.getType() == SessionType.SHORT_BREAK || finished.getType() == SessionType.LONG_BREAK) {
+            if (!Boolean.TRUE.equals(settings.getAutoStartFocus())) {
+                return null;
+            }
+            nextType = SessionType.FOCUS;
+            duration = settings.getFocusDurationMinutes();
+        } else {
+            return null;
+        }
+
+        PomodoroSession next = new PomodoroSession(finished.getUserId(), finished.getUsername(), nextType, duration);
+        next = sessionRepository.save(next);
+        publish(SessionStateChangedEvent.Transition.CREATED, next);
+
+        next.setStatus(SessionStatus.RUNNING);
+        next.setStartTime(LocalDateTime.now());
+        next = sessionRepository.save(next);
+        return publish(SessionStateChangedEvent.Transition.STARTED, next);
+    }
+
+    // Sem transação: a leitura vem do ActiveSessionRegistry e não precisa de conexão com o banco
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SessionResponse getCurrentSession(UUID userId) {
+        return activeSessionRegistry.find(userId).map(this::convertToResponse).orElse(null);
+    }
+
+    /**
+     * Retorna uma página do histórico de sessões (mais recentes primeiro), opcionalmente de uma tarefa
+     * e limitada a uma janela de createdAt. O cursor da resposta aponta para a última sessão entregue.
+     */
+    @Transactional(readOnly = true)
+    public SessionPageResponse getSessionsPage(UUID userId, UUID taskId, SessionPageRequest request) {
+        int limit = Math.max(1, Math.min(request.getLimit(), MAX_PAGE_SIZE));
+        LocalDateTime from = request.getFrom() != null ? request.getFrom() : MIN_CREATED_AT;
+        LocalDateTime to = request.getTo() != null ? request.getTo() : MAX_CREATED_AT;
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        // Busca uma sessão a mais para saber se existe próxima página
+        Limit fetch = Limit.of(limit + 1);
+        List<PomodoroSession> sessions;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            SessionCursor cursor = SessionCursor.decode(request.getCursor());
+            sessions = taskId == null
+                    ? sessionRepository.findPageByUserIdAfter(userId, from, to, cursor.getCreatedAt(), cursor.getId(), fetch)
+                    : sessionRepository.findPageByUserIdAndTaskIdAfter(userId, taskId, from, to, cursor.getCreatedAt(), cursor.getId(), fetch);
+        } else {
+            sessions = taskId == null
+                    ? sessionRepository.findPageByUserId(userId, from, to, fetch)
+                    : sessionRepository.findPageByUserIdAndTaskId(userId, taskId, from, to, fetch);
+        }
+
+        boolean hasMore = sessions.size() > limit;
+        if (hasMore) {
+            sessions = sessions.subList(0, limit);
+        }
+        String nextCursor = hasMore ? SessionCursor.after(sessions.get(sessions.size() - 1)).encode() : null;
+        List<SessionResponse> items = sessions.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
+        return new SessionPageResponse(items, nextCursor, hasMore);
     }
 
     public SessionResponse getSessionById(UUID userId, UUID sessionId) {
@@ -198,6 +330,15 @@ public class PomodoroService {
         return session.get();
     }
 
+    private SessionResponse publish(SessionStateChangedEvent.Transition transition, PomodoroSession session) {
+        activeSessionRegistry.update(session);
+        // Sessões concluídas/canceladas entram nos agregados diários na mesma transação
+        sessionStatsService.record(session);
+        SessionResponse response = convertToResponse(session);
+        eventPublisher.publishEvent(new SessionStateChangedEvent(session.getUserId(), transition, response));
+        return response;
+    }
+
     private SessionResponse convertToResponse(PomodoroSession session) {
         SessionResponse response = new SessionResponse();
         response.setId(session.getId());
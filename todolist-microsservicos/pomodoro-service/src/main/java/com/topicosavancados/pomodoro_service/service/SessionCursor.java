@@ -0,0 +1,56 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco do histórico de sessões: posição (createdAt + id) da última sessão entregue,
+ * na ordem createdAt DESC, id DESC. Codificado em Base64 URL-safe.
+ */
+public class SessionCursor {
+
+    private static final String VERSION = "1";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public SessionCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static SessionCursor after(PomodoroSession session) {
+        return new SessionCursor(session.getCreatedAt(), session.getId());
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, id.toString(), createdAt.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SessionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SessionCursor(LocalDateTime.parse(parts[2]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,38 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.dto.SessionResponse;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo PomodoroService a cada transição de estado de uma sessão.
+ * Consumido em processo (ex.: SessionStreamService), sem nova consulta ao banco.
+ */
+public class SessionStateChangedEvent {
+
+    public enum Transition {
+        CREATED, STARTED, PAUSED, COMPLETED, STOPPED
+    }
+
+    private final UUID userId;
+    private final Transition transition;
+    private final SessionResponse session;
+
+    public SessionStateChangedEvent(UUID userId, Transition transition, SessionResponse session) {
+        this.userId = userId;
+        this.transition = transition;
+        this.session = session;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Transition getTransition() {
+        return transition;
+    }
+
+    public SessionResponse getSession() {
+        return session;
+    }
+}
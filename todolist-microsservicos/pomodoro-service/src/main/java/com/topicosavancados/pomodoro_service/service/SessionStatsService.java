@@ -0,0 +1,257 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.dto.PeriodStatsResponse;
+import com.topicosavancados.pomodoro_service.dto.PomodoroStatsResponse;
+import com.topicosavancados.pomodoro_service.dto.TaskFocusResponse;
+import com.topicosavancados.pomodoro_service.model.DailySessionStats;
+import com.topicosavancados.pomodoro_service.model.MigrationMarker;
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import com.topicosavancados.pomodoro_service.model.SessionType;
+import com.topicosavancados.pomodoro_service.model.TaskFocusStats;
+import com.topicosavancados.pomodoro_service.repository.DailySessionStatsRepository;
+import com.topicosavancados.pomodoro_service.repository.MigrationMarkerRepository;
+import com.topicosavancados.pomodoro_service.repository.PomodoroSessionRepository;
+import com.topicosavancados.pomodoro_service.repository.TaskFocusStatsRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Estatísticas de Pomodoro servidas a partir de agregados diários (pomodoro_daily_stats)
+ * e por tarefa (pomodoro_task_stats), atualizados na mesma transação que conclui ou cancela a sessão.
+ * Uma consulta de estatísticas lê no máximo ~40 linhas, independentemente do tamanho do histórico.
+ * Cada sessão é somada uma única vez (coluna statsRecorded), e as linhas de agregado são atualizadas
+ * sob lock, então instâncias concorrentes não perdem nem duplicam incrementos.
+ */
+@Service
+@Transactional
+public class SessionStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionStatsService.class);
+    private static final List<SessionStatus> FINISHED_STATUSES = List.of(SessionStatus.COMPLETED, SessionStatus.CANCELLED);
+    private static final int BACKFILL_PAGE_SIZE = 500;
+    static final String BACKFILL_MIGRATION = "stats-backfill";
+
+    private final DailySessionStatsRepository dailyStatsRepository;
+    private final TaskFocusStatsRepository taskStatsRepository;
+    private final PomodoroSessionRepository sessionRepository;
+    private final MigrationMarkerRepository migrationMarkerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+    private final boolean backfillOnStartup;
+
+    public SessionStatsService(DailySessionStatsRepository dailyStatsRepository,
+                               TaskFocusStatsRepository taskStatsRepository,
+                               PomodoroSessionRepository sessionRepository,
+                               MigrationMarkerRepository migrationMarkerRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${pomodoro.stats.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.taskStatsRepository = taskStatsRepository;
+        this.sessionRepository = sessionRepository;
+        this.migrationMarkerRepository = migrationMarkerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    /**
+     * Na primeira inicialização com as tabelas de agregados vazias, reconstrói os agregados a partir
+     * do histórico existente (em ordem de término, para que as sequências de dias fiquem corretas).
+     * Roda antes do timer e do servidor web desta instância. Entre instâncias, cada página é processada
+     * com a linha da migração travada, e a migração concluída fica registrada: réplicas iniciando juntas
+     * continuam de onde a outra parou, e nenhuma sessão é contada duas vezes.
+     */
+    @PostConstruct
+    public void backfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        // Agregados já existentes (criados antes do registro da migração) já contêm o histórico
+        ensureCreated(() -> migrationMarkerRepository.existsById(BACKFILL_MIGRATION) ? null
+                : new MigrationMarker(BACKFILL_MIGRATION, dailyStatsRepository.count() > 0 ? LocalDateTime.now() : null),
+                migrationMarkerRepository::saveAndFlush);
+        long recorded = 0;
+        int processed;
+        do {
+            Integer page = transactionTemplate.execute(status -> backfillPage());
+            processed = page != null ? page : 0;
+            recorded += processed;
+        } while (processed == BACKFILL_PAGE_SIZE);
+        if (recorded > 0) {
+            logger.info("Backfilled pomodoro statistics from {} finished sessions", recorded);
+        }
+    }
+
+    // Próxima página das sessões ainda não contabilizadas, com a migração travada; a última página a conclui
+    private int backfillPage() {
+        MigrationMarker marker = migrationMarkerRepository.findForUpdate(BACKFILL_MIGRATION).orElseThrow();
+        if (marker.getCompletedAt() != null) {
+            return 0;
+        }
+        Slice<PomodoroSession> slice = sessionRepository.findStatsPending(FINISHED_STATUSES,
+                PageRequest.of(0, BACKFILL_PAGE_SIZE));
+        slice.getContent().forEach(this::record);
+        if (!slice.hasNext()) {
+            marker.setCompletedAt(LocalDateTime.now());
+        }
+        return slice.getNumberOfElements();
+    }
+
+    /**
+     * Acumula uma sessão concluída ou cancelada nos agregados do dia em que terminou.
+     * Sessões já contabilizadas são ignoradas: a marcação acontece na mesma transação que os incrementos.
+     */
+    public void record(PomodoroSession session) {
+        if (session.getId() == null || session.getEndTime() == null || !FINISHED_STATUSES.contains(session.getStatus())) {
+            return;
+        }
+        if (sessionRepository.markStatsRecorded(session.getId()) == 0) {
+            return;
+        }
+        // Mantém a entidade coerente com a linha, caso ela volte a ser gravada nesta transação
+        session.setStatsRecorded(true);
+
+        UUID userId = session.getUserId();
+        LocalDate day = session.getEndTime().toLocalDate();
+        boolean completed = session.getStatus() == SessionStatus.COMPLETED;
+        boolean focus = session.getType() == SessionType.FOCUS;
+        int minutes = session.getActualDurationMinutes() != null ? Math.max(0, session.getActualDurationMinutes()) : 0;
+
+        DailySessionStats daily = lockOrCreate(() -> dailyStatsRepository.findForUpdate(userId, day),
+                () -> new DailySessionStats(userId, day), dailyStatsRepository::saveAndFlush);
+        if (focus) {
+            daily.setFocusMinutes(daily.getFocusMinutes() + minutes);
+        }
+        if (completed && focus) {
+            if (daily.getCompletedFocusSessions() == 0) {
+                daily.setStreakDays(streakEndingOn(userId, day.minusDays(1)) + 1);
+            }
+            daily.setCompletedFocusSessions(daily.getCompletedFocusSessions() + 1);
+        } else if (completed) {
+            daily.setCompletedBreakSessions(daily.getCompletedBreakSessions() + 1);
+        } else {
+            daily.setCancelledSessions(daily.getCancelledSessions() + 1);
+        }
+        dailyStatsRepository.save(daily);
+
+        if (focus && session.getTaskId() != null) {
+            TaskFocusStats task = lockOrCreate(() -> taskStatsRepository.findForUpdate(userId, session.getTaskId()),
+                    () -> new TaskFocusStats(userId, session.getTaskId()), taskStatsRepository::saveAndFlush);
+            if (session.getTaskTitle() != null) {
+                task.setTaskTitle(session.getTaskTitle());
+            }
+            task.setFocusMinutes(task.getFocusMinutes() + minutes);
+            if (completed) {
+                task.setCompletedSessions(task.getCompletedSessions() + 1);
+            }
+            taskStatsRepository.save(task);
+        }
+    }
+
+    /**
+     * Retorna a linha de agregado travada, criando-a antes (zerada) se ainda não existir.
+     */
+    private <T> T lockOrCreate(Supplier<Optional<T>> lock, Supplier<T> create, Consumer<T> insert) {
+        Optional<T> existing = lock.get();
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        ensureCreated(() -> lock.get().isPresent() ? null : create.get(), insert);
+        return lock.get().orElseThrow();
+    }
+
+    /**
+     * Insere a linha em uma transação própria. Se outra transação ou instância criou a mesma linha ao
+     * mesmo tempo, a violação da chave única fica nessa transação e é ignorada.
+     */
+    private <T> void ensureCreated(Supplier<T> create, Consumer<T> insert) {
+        try {
+            newTransaction.executeWithoutResult(tx -> {
+                T row = create.get();
+                if (row != null) {
+                    insert.accept(row);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Statistics row created concurrently", e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PomodoroStatsResponse getStats(UUID userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate monthStart = today.withDayOfMonth(1);
+        // Inclui ontem para saber se a sequência ainda está ativa quando hoje não tem foco concluído
+        LocalDate from = (weekStart.isBefore(monthStart) ? weekStart : monthStart).minusDays(1);
+
+        List<DailySessionStats> rows = dailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, from, today);
+
+        PomodoroStatsResponse response = new PomodoroStatsResponse();
+        response.setToday(sum(rows, today, today));
+        response.setWeek(sum(rows, weekStart, today));
+        response.setMonth(sum(rows, monthStart, today));
+        response.setCurrentStreakDays(currentStreak(rows, today));
+        response.setTasks(taskStatsRepository.findTop10ByUserIdOrderByFocusMinutesDesc(userId).stream()
+                .map(task -> new TaskFocusResponse(task.getTaskId(), task.getTaskTitle(),
+                        task.getFocusMinutes(), task.getCompletedSessions()))
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private int streakEndingOn(UUID userId, LocalDate day) {
+        return dailyStatsRepository.findByUserIdAndStatDate(userId, day)
+                .filter(stats -> stats.getCompletedFocusSessions() > 0)
+                .map(DailySessionStats::getStreakDays)
+                .orElse(0);
+    }
+
+    private static int currentStreak(List<DailySessionStats> rows, LocalDate today) {
+        int streak = 0;
+        for (DailySessionStats row : rows) {
+            boolean recent = row.getStatDate().equals(today) || row.getStatDate().equals(today.minusDays(1));
+            if (recent && row.getCompletedFocusSessions() > 0) {
+                // Linhas em ordem crescente: a de hoje, se houver, prevalece sobre a de ontem
+                streak = row.getStreakDays();
+            }
+        }
+        return streak;
+    }
+
+    private static PeriodStatsResponse sum(List<DailySessionStats> rows, LocalDate from, LocalDate to) {
+        PeriodStatsResponse period = new PeriodStatsResponse(from, to);
+        for (DailySessionStats row : rows) {
+            if (row.getStatDate().isBefore(from) || row.getStatDate().isAfter(to)) {
+                continue;
+            }
+            period.setFocusMinutes(period.getFocusMinutes() + row.getFocusMinutes());
+            period.setCompletedFocusSessions(period.getCompletedFocusSessions() + row.getCompletedFocusSessions());
+            period.setCompletedBreakSessions(period.getCompletedBreakSessions() + row.getCompletedBreakSessions());
+            period.setCancelledSessions(period.getCancelledSessions() + row.getCancelledSessions());
+        }
+        return period;
+    }
+}
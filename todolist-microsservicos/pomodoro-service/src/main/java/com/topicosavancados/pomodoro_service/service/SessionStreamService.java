@@ -0,0 +1,258 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.dto.SessionResponse;
+import com.topicosavancados.pomodoro_service.dto.SessionStreamEvent;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stream SSE do estado das sessões por usuário.
+ * Transições chegam como SessionStateChangedEvent (após o commit) e os ticks de tempo restante
+ * são calculados a partir do ActiveSessionRegistry, então abas abertas não geram consultas ao banco
+ * e o stream vê as mesmas sessões ativas que o restante do serviço.
+ * Os envios saem de um pool próprio ({@code pomodoro.stream.send-threads}), nunca da thread do
+ * agendador; cada stream guarda no máximo {@code pomodoro.stream.max-pending-events} eventos e,
+ * se o cliente não consome nesse ritmo, é encerrado (o navegador reconecta e recebe um novo snapshot).
+ */
+@Service
+public class SessionStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionStreamService.class);
+
+    static final String SNAPSHOT = "snapshot";
+    static final String TICK = "tick";
+
+    private final PomodoroService pomodoroService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final long emitterTimeoutMillis;
+    private final int maxPendingEvents;
+    private final Executor sendExecutor;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SessionStreamService(PomodoroService pomodoroService,
+                                ActiveSessionRegistry activeSessionRegistry,
+                                @Value("${pomodoro.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                @Value("${pomodoro.stream.max-pending-events:32}") int maxPendingEvents,
+                                @Value("${pomodoro.stream.send-threads:4}") int sendThreads) {
+        this(pomodoroService, activeSessionRegistry, emitterTimeoutMillis, maxPendingEvents,
+                Executors.newFixedThreadPool(Math.max(1, sendThreads), new SendThreadFactory()));
+    }
+
+    SessionStreamService(PomodoroService pomodoroService,
+                         ActiveSessionRegistry activeSessionRegistry,
+                         long emitterTimeoutMillis,
+                         int maxPendingEvents,
+                         Executor sendExecutor) {
+        this.pomodoroService = pomodoroService;
+        this.activeSessionRegistry = activeSessionRegistry;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxPendingEvents = Math.max(1, maxPendingEvents);
+        this.sendExecutor = sendExecutor;
+    }
+
+    /**
+     * Abre um stream para o usuário e envia o snapshot da sessão ativa, lido do ActiveSessionRegistry.
+     */
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+
+        SessionResponse current = pomodoroService.getCurrentSession(userId);
+        UUID sessionId = current != null ? current.getId() : null;
+        subscriber.enqueue(SNAPSHOT, new SessionStreamEvent(SNAPSHOT, sessionId, current, remainingSeconds(current)));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStateChanged(SessionStateChangedEvent event) {
+        UUID userId = event.getUserId();
+        SessionResponse session = event.getSession();
+        String type = event.getTransition().name().toLowerCase();
+        broadcast(userId, type, new SessionStreamEvent(type, session.getId(), session, remainingSeconds(session)));
+    }
+
+    /**
+     * Só enfileira os ticks: a escrita nas conexões acontece no pool de envio.
+     */
+    @Scheduled(fixedRateString = "${pomodoro.stream.tick-interval-ms:1000}")
+    public void tick() {
+        for (UUID userId : subscribers.keySet()) {
+            activeSessionRegistry.find(userId)
+                    .filter(session -> session.getStatus() == SessionStatus.RUNNING)
+                    .ifPresent(session -> broadcast(userId, TICK,
+                            new SessionStreamEvent(TICK, session.getId(), null, remainingSeconds(
+                                    session.getPlannedDurationMinutes(), session.getStartTime(), session.getStatus(),
+                                    session.getPausedAt(), session.getTotalPausedMinutes()))));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Segundos restantes de uma sessão, descontando as pausas; sessões pausadas ficam congeladas em pausedAt.
+     */
+    static Long remainingSeconds(SessionResponse session) {
+        if (session == null) {
+            return null;
+        }
+        return remainingSeconds(session.getPlannedDurationMinutes(), session.getStartTime(), session.getStatus(),
+                session.getPausedAt(), session.getTotalPausedMinutes());
+    }
+
+    private static Long remainingSeconds(Integer plannedDurationMinutes, LocalDateTime startTime, SessionStatus status,
+                                         LocalDateTime pausedAt, Double totalPausedMinutes) {
+        if (plannedDurationMinutes == null) {
+            return null;
+        }
+        long plannedSeconds = plannedDurationMinutes * 60L;
+        if (startTime == null) {
+            return plannedSeconds;
+        }
+        LocalDateTime reference = status == SessionStatus.PAUSED && pausedAt != null ? pausedAt : LocalDateTime.now();
+        long elapsedSeconds = ChronoUnit.SECONDS.between(startTime, reference);
+        double pausedSeconds = totalPausedMinutes != null ? totalPausedMinutes * 60.0 : 0.0;
+        return Math.max(0L, plannedSeconds - (elapsedSeconds - Math.round(pausedSeconds)));
+    }
+
+    private void broadcast(UUID userId, String name, SessionStreamEvent payload) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.enqueue(name, payload);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private record PendingEvent(String name, SessionStreamEvent payload) {
+    }
+
+    /**
+     * Um stream aberto com sua fila de eventos. No máximo uma tarefa de envio por stream fica no pool,
+     * então os eventos chegam ao cliente na ordem em que foram enfileirados.
+     */
+    private final class Subscriber {
+
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<PendingEvent> pending = new ArrayBlockingQueue<>(maxPendingEvents);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(String name, SessionStreamEvent payload) {
+            if (!pending.offer(new PendingEvent(name, payload))) {
+                // Cliente lento: descarta o stream em vez de acumular eventos ou segurar uma thread
+                logger.debug("Dropping slow session stream for user {}", userId);
+                drop();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            PendingEvent event;
+            while ((event = pending.poll()) != null) {
+                if (!send(event)) {
+                    pending.clear();
+                    break;
+                }
+            }
+            draining.set(false);
+            // Um evento enfileirado entre o último poll e a liberação acima ainda precisa sair
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private boolean send(PendingEvent event) {
+            try {
+                emitter.send(SseEmitter.event().name(event.name()).data(event.payload(), MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado: o emitter é descartado e o navegador reconecta sozinho
+                logger.debug("Dropping session stream for user {}: {}", userId, e.getMessage());
+                unsubscribe(this);
+                return false;
+            }
+        }
+
+        private void drop() {
+            unsubscribe(this);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+
+    private static final class SendThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "pomodoro-session-stream-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
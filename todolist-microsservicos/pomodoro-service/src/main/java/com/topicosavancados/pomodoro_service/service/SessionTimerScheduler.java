@@ -0,0 +1,169 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.dto.SessionResponse;
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timer do lado do servidor: uma DelayQueue ordenada pelo fim planejado de cada sessão RUNNING.
+ * Uma única thread só espera pelos vencimentos e entrega cada um a um pool limitado
+ * ({@code pomodoro.timer.workers}), que executa a transação de expiração; assim uma rajada de vencimentos
+ * não atrasa os timers seguintes pela latência do banco. Com a fila do pool cheia, a própria thread
+ * de espera executa a expiração (contrapressão, sem descartar timers). Pausar cancela o timer e retomar agenda um novo com o fim recalculado;
+ * ao expirar, o PomodoroService conclui a sessão e inicia a próxima conforme as configurações do usuário.
+ * Não há thread por sessão nem varredura periódica da tabela.
+ */
+@Component
+public class SessionTimerScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionTimerScheduler.class);
+
+    private final PomodoroService pomodoroService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final boolean enabled;
+    private final int workers;
+    private final int queueCapacity;
+
+    private final DelayQueue<SessionTimer> queue = new DelayQueue<>();
+    // sessionId -> timer vigente; entradas da fila que não estão aqui foram canceladas (remoção preguiçosa)
+    private final Map<UUID, SessionTimer> timers = new ConcurrentHashMap<>();
+
+    private Thread worker;
+    private ThreadPoolExecutor expiryExecutor;
+
+    public SessionTimerScheduler(PomodoroService pomodoroService,
+                                 ActiveSessionRegistry activeSessionRegistry,
+                                 @Value("${pomodoro.timer.enabled:true}") boolean enabled,
+                                 @Value("${pomodoro.timer.workers:4}") int workers,
+                                 @Value("${pomodoro.timer.queue-capacity:1000}") int queueCapacity) {
+        this.pomodoroService = pomodoroService;
+        this.activeSessionRegistry = activeSessionRegistry;
+        this.enabled = enabled;
+        this.workers = Math.max(1, workers);
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // Sessões que estavam RUNNING antes de um restart; as já vencidas disparam imediatamente
+        for (PomodoroSession session : activeSessionRegistry.runningSessions()) {
+            schedule(session.getUserId(), session.getId(),
+                    plannedEndMillis(session.getStartTime(), session.getPlannedDurationMinutes(), session.getTotalPausedSeconds()));
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        expiryExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "pomodoro-session-expiry-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        worker = new Thread(this::run, "pomodoro-session-timer");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("Session timer started with {} pending timers", timers.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+        if (expiryExecutor != null) {
+            expiryExecutor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStateChanged(SessionStateChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        SessionResponse session = event.getSession();
+        if (session.getStatus() == SessionStatus.RUNNING && session.getStartTime() != null) {
+            double pausedSeconds = session.getTotalPausedMinutes() != null ? session.getTotalPausedMinutes() * 60.0 : 0.0;
+            schedule(event.getUserId(), session.getId(),
+                    plannedEndMillis(session.getStartTime(), session.getPlannedDurationMinutes(), pausedSeconds));
+        } else {
+            cancel(session.getId());
+        }
+    }
+
+    void schedule(UUID userId, UUID sessionId, long dueAtMillis) {
+        SessionTimer timer = new SessionTimer(userId, sessionId, dueAtMillis);
+        timers.put(sessionId, timer);
+        queue.put(timer);
+    }
+
+    void cancel(UUID sessionId) {
+        timers.remove(sessionId);
+    }
+
+    public int getPendingCount() {
+        return timers.size();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            SessionTimer timer;
+            try {
+                timer = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!timers.remove(timer.sessionId(), timer)) {
+                continue;
+            }
+            expiryExecutor.execute(() -> expire(timer));
+        }
+    }
+
+    private void expire(SessionTimer timer) {
+        try {
+            pomodoroService.expireSession(timer.userId(), timer.sessionId());
+        } catch (Exception e) {
+            logger.warn("Could not auto-complete session {}: {}", timer.sessionId(), e.getMessage());
+        }
+    }
+
+    static long plannedEndMillis(LocalDateTime startTime, Integer plannedDurationMinutes, Double totalPausedSeconds) {
+        long startMillis = startTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long pausedMillis = totalPausedSeconds != null ? Math.round(totalPausedSeconds * 1000) : 0L;
+        return startMillis + plannedDurationMinutes * 60_000L + pausedMillis;
+    }
+
+    private record SessionTimer(UUID userId, UUID sessionId, long dueAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((SessionTimer) other).dueAtMillis);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.model.UserSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache LRU limitado das configurações de cada usuário, para que criar uma sessão não consulte
+ * user_settings a cada vez. Guarda e devolve cópias desanexadas (nunca a entidade gerenciada pelo JPA).
+ * Pressupõe que todas as escritas de configurações passam pelo UserSettingsService desta instância.
+ */
+@Component
+public class UserSettingsCache {
+
+    private final int maxSize;
+    private final Map<UUID, UserSettings> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserSettingsCache(@Value("${pomodoro.settings-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UserSettings> eldest) {
+                boolean evict = size() > UserSettingsCache.this.maxSize;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public UserSettings get(UUID userId) {
+        UserSettings settings;
+        synchronized (entries) {
+            settings = entries.get(userId);
+        }
+        if (settings == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copy(settings);
+    }
+
+    /**
+     * Registra o estado persistido das configurações (write-through). Dentro de uma transação, a cópia
+     * é feita após o commit, com o updatedAt já gravado, e um rollback não deixa no cache um valor
+     * que não chegou ao banco. Uma entrada com updatedAt mais recente nunca é sobrescrita por uma mais antiga.
+     */
+    public void put(UserSettings settings) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(copy(settings));
+                }
+            });
+        } else {
+            store(copy(settings));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("size", size());
+        metrics.put("maxSize", maxSize);
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("evictions", evictions.get());
+        return metrics;
+    }
+
+    private void store(UserSettings settings) {
+        synchronized (entries) {
+            UserSettings current = entries.get(settings.getUserId());
+            if (current != null && isNewer(current, settings)) {
+                return;
+            }
+            entries.put(settings.getUserId(), settings);
+        }
+    }
+
+    private static boolean isNewer(UserSettings current, UserSettings candidate) {
+        return current.getUpdatedAt() != null && candidate.getUpdatedAt() != null
+                && current.getUpdatedAt().isAfter(candidate.getUpdatedAt());
+    }
+
+    static UserSettings copy(UserSettings settings) {
+        UserSettings copy = new UserSettings(settings.getUserId(), settings.getUsername());
+        copy.setId(settings.getId());
+        copy.setFocusDurationMinutes(settings.getFocusDurationMinutes());
+        copy.setShortBreakDurationMinutes(settings.getShortBreakDurationMinutes());
+        copy.setLongBreakDurationMinutes(settings.getLongBreakDurationMinutes());
+        copy.setSessionsUntilLongBreak(settings.getSessionsUntilLongBreak());
+        copy.setAutoStartBreaks(settings.getAutoStartBreaks());
+        copy.setAutoStartFocus(settings.getAutoStartFocus());
+        copy.setSoundEnabled(settings.getSoundEnabled());
+        copy.setNotificationsEnabled(settings.getNotificationsEnabled());
+        copy.setCreatedAt(settings.getCreatedAt());
+        copy.setUpdatedAt(settings.getUpdatedAt());
+        return copy;
+    }
+}
@@ -16,7 +16,24 @@ public class UserSettingsService {
     @Autowired
     private UserSettingsRepository userSettingsRepository;
 
+    @Autowired
+    private UserSettingsCache userSettingsCache;
+
+    /**
+     * Retorna uma cópia desanexada das configurações, do cache quando possível. Na falta, também
+     * devolve uma cópia: alterar o retorno nunca suja a entidade gerenciada nem o valor que vai ao cache.
+     */
     public UserSettings getUserSettings(UUID userId, String username) {
+        UserSettings cached = userSettingsCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        UserSettings settings = loadOrCreate(userId, username);
+        userSettingsCache.put(settings);
+        return UserSettingsCache.copy(settings);
+    }
+
+    private UserSettings loadOrCreate(UUID userId, String username) {
         Optional<UserSettings> settings = userSettingsRepository.findByUserId(userId);
         
         if (settings.isEmpty()) {
@@ -29,7 +46,7 @@ public class UserSettingsService {
     }
 
     public UserSettings updateUserSettings(UUID userId, String username, UserSettings updatedSettings) {
-        UserSettings settings = getUserSettings(userId, username);
+        UserSettings settings = loadOrCreate(userId, username);
         
         // Update all fields
         settings.setFocusDurationMinutes(updatedSettings.getFocusDurationMinutes());
@@ -41,11 +58,13 @@ public class UserSettingsService {
         settings.setSoundEnabled(updatedSettings.getSoundEnabled());
         settings.setNotificationsEnabled(updatedSettings.getNotificationsEnabled());
         
-        return userSettingsRepository.save(settings);
+        UserSettings saved = userSettingsRepository.save(settings);
+        userSettingsCache.put(saved);
+        return saved;
     }
 
     public void resetToDefaults(UUID userId, String username) {
-        UserSettings settings = getUserSettings(userId, username);
+        UserSettings settings = loadOrCreate(userId, username);
         
         settings.setFocusDurationMinutes(25);
         settings.setShortBreakDurationMinutes(5);
@@ -56,6 +75,6 @@ public class UserSettingsService {
         settings.setSoundEnabled(true);
         settings.setNotificationsEnabled(true);
         
-        userSettingsRepository.save(settings);
+        userSettingsCache.put(userSettingsRepository.save(settings));
     }
 }
\ No newline at end of file
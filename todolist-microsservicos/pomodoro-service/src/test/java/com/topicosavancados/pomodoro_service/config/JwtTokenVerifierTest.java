@@ -0,0 +1,92 @@
+package com.topicosavancados.pomodoro_service.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenVerifierTest {
+
+    private static final String SECRET = "MyUltraSecureSecretWithAtLeast32Bytes!!";
+
+    private String createToken(String secret, long expirationOffsetMs) {
+        return Jwts.builder()
+                .setSubject("testuser")
+                .claim("userId", UUID.randomUUID().toString())
+                .claim("role", "ROLE_USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + expirationOffsetMs))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Test
+    void testParseClaims_ValidToken() {
+        JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET, new TokenPrincipalCache(100));
+
+        Claims claims = verifier.parseClaims(createToken(SECRET, 60_000));
+
+        assertEquals("testuser", claims.getSubject());
+        assertEquals("ROLE_USER", claims.get("role", String.class));
+    }
+
+    @Test
+    void testParseClaims_ReusedAcrossCalls() {
+        JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET, new TokenPrincipalCache(100));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("testuser", verifier.parseClaims(createToken(SECRET, 60_000)).getSubject());
+        }
+    }
+
+    @Test
+    void testParseClaims_WrongSignature() {
+        JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET, new TokenPrincipalCache(100));
+        String token = createToken("AnotherSecretThatIsAlsoAtLeast32Bytes!!", 60_000);
+
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> verifier.parseClaims(token));
+    }
+
+    @Test
+    void testParseClaims_ExpiredToken() {
+        JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET, new TokenPrincipalCache(100));
+        String token = createToken(SECRET, -60_000);
+
+        assertThrows(io.jsonwebtoken.ExpiredJwtException.class, () -> verifier.parseClaims(token));
+    }
+
+    @Test
+    void testVerify_ReturnsPrincipalAndCachesIt() {
+        TokenPrincipalCache cache = new TokenPrincipalCache(100);
+        JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET, cache);
+        String token = createToken(SECRET, 60_000);
+
+        TokenPrincipal first = verifier.verify(token);
+        TokenPrincipal second = verifier.verify(token);
+
+        assertSame(first, second);
+        assertEquals("testuser", first.getUsername());
+        assertEquals("ROLE_USER", first.getRole());
+        assertNotNull(first.getUserId());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testVerify_InvalidTokenIsNotCached() {
+        TokenPrincipalCache cache = new TokenPrincipalCache(100);
+        JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET, cache);
+        String token = createToken("AnotherSecretThatIsAlsoAtLeast32Bytes!!", 60_000);
+
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> verifier.verify(token));
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> verifier.verify(token));
+        assertEquals(0, cache.size());
+    }
+}
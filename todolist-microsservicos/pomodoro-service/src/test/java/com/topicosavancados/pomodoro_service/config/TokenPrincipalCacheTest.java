@@ -0,0 +1,79 @@
+package com.topicosavancados.pomodoro_service.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenPrincipalCacheTest {
+
+    private TokenPrincipal principal(long expiresAt) {
+        return new TokenPrincipal("testuser", UUID.randomUUID(), "ROLE_USER", "jti", null, expiresAt);
+    }
+
+    @Test
+    void testReturnsCachedPrincipal() {
+        TokenPrincipalCache cache = new TokenPrincipalCache(10);
+        TokenPrincipal principal = principal(System.currentTimeMillis() + 60_000);
+
+        cache.put("token", principal);
+
+        assertSame(principal, cache.get("token"));
+        assertNull(cache.get("other"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testMetricsReportCounters() {
+        TokenPrincipalCache cache = new TokenPrincipalCache(10);
+        cache.put("token", principal(System.currentTimeMillis() + 60_000));
+        cache.get("token");
+        cache.get("token");
+        cache.get("other");
+
+        Map<String, Object> metrics = cache.getMetrics();
+        assertEquals(1, metrics.get("size"));
+        assertEquals(10, metrics.get("maxSize"));
+        assertEquals(2L, metrics.get("hits"));
+        assertEquals(1L, metrics.get("misses"));
+    }
+
+    @Test
+    void testExpiredPrincipalIsEvicted() throws InterruptedException {
+        TokenPrincipalCache cache = new TokenPrincipalCache(10);
+        cache.put("token", principal(System.currentTimeMillis() + 20));
+
+        Thread.sleep(40);
+
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testAlreadyExpiredPrincipalIsNotStored() {
+        TokenPrincipalCache cache = new TokenPrincipalCache(10);
+
+        cache.put("token", principal(System.currentTimeMillis() - 1_000));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedWhenFull() {
+        TokenPrincipalCache cache = new TokenPrincipalCache(2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        cache.put("a", principal(expiresAt));
+        cache.put("b", principal(expiresAt));
+        cache.get("a");
+        cache.put("c", principal(expiresAt));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+}
@@ -1,21 +1,31 @@
 package com.topicosavancados.pomodoro_service.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.topicosavancados.pomodoro_service.config.TokenPrincipalCache;
 import com.topicosavancados.pomodoro_service.dto.CreateSessionRequest;
+import com.topicosavancados.pomodoro_service.dto.PeriodStatsResponse;
+import com.topicosavancados.pomodoro_service.dto.PomodoroStatsResponse;
+import com.topicosavancados.pomodoro_service.dto.SessionPageRequest;
+import com.topicosavancados.pomodoro_service.dto.SessionPageResponse;
 import com.topicosavancados.pomodoro_service.dto.SessionResponse;
 import com.topicosavancados.pomodoro_service.model.SessionStatus;
 import com.topicosavancados.pomodoro_service.model.SessionType;
 import com.topicosavancados.pomodoro_service.service.PomodoroService;
+import com.topicosavancados.pomodoro_service.service.SessionStatsService;
+import com.topicosavancados.pomodoro_service.service.SessionStreamService;
+import com.topicosavancados.pomodoro_service.service.UserSettingsCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,8 +33,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +47,18 @@ class PomodoroControllerTest {
     @Mock
     private PomodoroService pomodoroService;
 
+    @Mock
+    private SessionStreamService sessionStreamService;
+
+    @Mock
+    private SessionStatsService sessionStatsService;
+
+    @Mock
+    private UserSettingsCache userSettingsCache;
+
+    @Mock
+    private TokenPrincipalCache tokenPrincipalCache;
+
     @Mock
     private HttpServletRequest httpServletRequest;
 
@@ -53,6 +77,19 @@ class PomodoroControllerTest {
         userId = UUID.randomUUID();
     }
 
+    @Test
+    void testCacheMetricsEndpoint() throws Exception {
+        when(userSettingsCache.getMetrics()).thenReturn(Map.of("hits", 3L, "misses", 1L));
+        when(tokenPrincipalCache.getMetrics()).thenReturn(Map.of("hits", 7L, "misses", 2L));
+
+        mockMvc.perform(get("/api/pomodoro/cache-metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userSettings.hits").value(3))
+                .andExpect(jsonPath("$.userSettings.misses").value(1))
+                .andExpect(jsonPath("$.tokenPrincipals.hits").value(7))
+                .andExpect(jsonPath("$.tokenPrincipals.misses").value(2));
+    }
+
     @Test
     void testHealthEndpoint() throws Exception {
         mockMvc.perform(get("/api/pomodoro/health"))
@@ -208,6 +245,41 @@ class PomodoroControllerTest {
         verify(pomodoroService, times(1)).getCurrentSession(userId);
     }
 
+    @Test
+    void testStreamSessions() throws Exception {
+        when(sessionStreamService.subscribe(userId)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/pomodoro/sessions/stream")
+                .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(sessionStreamService, times(1)).subscribe(userId);
+        verify(pomodoroService, never()).getCurrentSession(any());
+    }
+
+    @Test
+    void testGetStats() throws Exception {
+        PeriodStatsResponse today = new PeriodStatsResponse();
+        today.setFocusMinutes(50);
+        today.setCompletedFocusSessions(2);
+        PomodoroStatsResponse stats = new PomodoroStatsResponse();
+        stats.setToday(today);
+        stats.setCurrentStreakDays(3);
+        stats.setTasks(List.of());
+
+        when(sessionStatsService.getStats(userId)).thenReturn(stats);
+
+        mockMvc.perform(get("/api/pomodoro/stats")
+                .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.today.focusMinutes").value(50))
+                .andExpect(jsonPath("$.today.completedFocusSessions").value(2))
+                .andExpect(jsonPath("$.currentStreakDays").value(3));
+
+        verify(sessionStatsService, times(1)).getStats(userId);
+    }
+
     @Test
     void testGetUserSessions() throws Exception {
         SessionResponse session1 = new SessionResponse();
@@ -219,16 +291,51 @@ class PomodoroControllerTest {
         session2.setStatus(SessionStatus.CANCELLED);
 
         List<SessionResponse> sessions = Arrays.asList(session1, session2);
-        when(pomodoroService.getUserSessions(userId)).thenReturn(sessions);
+        when(pomodoroService.getSessionsPage(eq(userId), isNull(), any(SessionPageRequest.class)))
+                .thenReturn(new SessionPageResponse(sessions, "next", true));
 
         mockMvc.perform(get("/api/pomodoro/sessions")
+                .param("limit", "2")
+                .param("from", "2025-01-01T00:00:00")
                 .requestAttr("userId", userId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].status").value("COMPLETED"))
-                .andExpect(jsonPath("$[1].status").value("CANCELLED"));
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].status").value("COMPLETED"))
+                .andExpect(jsonPath("$.items[1].status").value("CANCELLED"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        ArgumentCaptor<SessionPageRequest> request = ArgumentCaptor.forClass(SessionPageRequest.class);
+        verify(pomodoroService, times(1)).getSessionsPage(eq(userId), isNull(), request.capture());
+        assertEquals(2, request.getValue().getLimit());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), request.getValue().getFrom());
+    }
+
+    @Test
+    void testGetSessionsByTask() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(pomodoroService.getSessionsPage(eq(userId), eq(taskId), any(SessionPageRequest.class)))
+                .thenReturn(new SessionPageResponse(List.of(), null, false));
 
-        verify(pomodoroService, times(1)).getUserSessions(userId);
+        mockMvc.perform(get("/api/pomodoro/sessions/task/" + taskId)
+                .param("cursor", "abc")
+                .requestAttr("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(pomodoroService, times(1)).getSessionsPage(eq(userId), eq(taskId), any(SessionPageRequest.class));
+    }
+
+    @Test
+    void testGetUserSessions_InvalidCursorReturnsBadRequest() throws Exception {
+        when(pomodoroService.getSessionsPage(eq(userId), isNull(), any(SessionPageRequest.class)))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/pomodoro/sessions")
+                .param("cursor", "not-a-cursor")
+                .requestAttr("userId", userId))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
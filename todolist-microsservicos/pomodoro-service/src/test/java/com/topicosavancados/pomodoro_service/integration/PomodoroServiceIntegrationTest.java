@@ -53,6 +53,7 @@ class PomodoroServiceIntegrationTest {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("auth-service.revocation-feed.enabled", () -> "false");
     }
 
     @Autowired
@@ -167,17 +168,18 @@ class PomodoroServiceIntegrationTest {
         mockMvc.perform(get("/api/pomodoro/sessions")
                         .header("Authorization", "Bearer " + validJwtToken))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].status").value("COMPLETED"));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("COMPLETED"))
+                .andExpect(jsonPath("$.hasMore").value(false));
 
         // 8. Get sessions by task
         mockMvc.perform(get("/api/pomodoro/sessions/task/" + testTaskId)
                         .header("Authorization", "Bearer " + validJwtToken))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].taskId").value(testTaskId.toString()));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].taskId").value(testTaskId.toString()));
     }
 
     @Test
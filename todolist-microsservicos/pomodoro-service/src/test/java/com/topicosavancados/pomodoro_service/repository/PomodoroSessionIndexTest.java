@@ -0,0 +1,152 @@
+package com.topicosavancados.pomodoro_service.repository;
+
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import com.topicosavancados.pomodoro_service.model.SessionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Confere, via EXPLAIN do H2 sobre o SQL que o Hibernate realmente gera, que as consultas por usuário
+ * usam os índices declarados em PomodoroSession.
+ */
+// O dialeto de application.properties é o do PostgreSQL; o EXPLAIN roda no H2
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.topicosavancados.pomodoro_service.repository.SqlCapture"
+})
+class PomodoroSessionIndexTest {
+
+    private static final UUID USER = UUID.randomUUID();
+    private static final UUID TASK = UUID.randomUUID();
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 31, 23, 59, 59);
+    private static final int LIMIT = 21;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PomodoroSessionRepository sessionRepository;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.clear();
+    }
+
+    private String explainLastSelect(Object... args) {
+        List<String> selects = SqlCapture.selects();
+        assertFalse(selects.isEmpty(), "No SELECT was captured");
+        // O H2 quebra o plano em várias linhas; os asserts comparam a condição de busca numa linha só
+        return jdbcTemplate.queryForObject("EXPLAIN " + selects.get(selects.size() - 1), String.class, args)
+                .replaceAll("\\s+", " ")
+                .toUpperCase();
+    }
+
+    /**
+     * O índice precisa aparecer no plano com todas as condições na busca; o H2 não mantém a ordem delas.
+     */
+    private static void assertSeeks(String plan, String index, String... conditions) {
+        int start = plan.indexOf(index + ":");
+        assertTrue(start >= 0, plan);
+        String seek = plan.substring(start, plan.indexOf("*/", start));
+        for (String condition : conditions) {
+            assertTrue(seek.contains(condition), plan);
+        }
+    }
+
+    @Test
+    void testFindByUserIdOrderByCreatedAtUsesIndex() {
+        sessionRepository.findByUserIdOrderByCreatedAtDesc(USER);
+
+        String plan = explainLastSelect(USER);
+        assertSeeks(plan, "IDX_SESSIONS_USER_CREATED", "USER_ID = ?1");
+    }
+
+    @Test
+    void testFindByUserIdAndStatusUsesIndex() {
+        sessionRepository.findByUserIdAndStatusOrderByCreatedAtDesc(USER, SessionStatus.RUNNING);
+
+        String plan = explainLastSelect(USER, SessionStatus.RUNNING.name());
+        assertSeeks(plan, "IDX_SESSIONS_USER_STATUS_CREATED", "USER_ID = ?1", "STATUS = ?2");
+    }
+
+    @Test
+    void testFindByUserIdAndTypeUsesIndex() {
+        sessionRepository.findByUserIdAndTypeOrderByCreatedAtDesc(USER, SessionType.FOCUS);
+
+        String plan = explainLastSelect(USER, SessionType.FOCUS.name());
+        assertSeeks(plan, "IDX_SESSIONS_USER_TYPE_CREATED", "USER_ID = ?1", "TYPE = ?2");
+    }
+
+    @Test
+    void testFindByUserIdAndDateRangeUsesIndex() {
+        sessionRepository.findByUserIdAndDateRange(USER, FROM, TO);
+
+        String plan = explainLastSelect(USER, FROM, TO);
+        assertSeeks(plan, "IDX_SESSIONS_USER_CREATED", "USER_ID = ?1", "CREATED_AT >= ?2", "CREATED_AT <= ?3");
+    }
+
+    @Test
+    void testFirstPageUsesIndex() {
+        sessionRepository.findPageByUserId(USER, FROM, TO, Limit.of(LIMIT));
+
+        String plan = explainLastSelect(USER, FROM, TO, LIMIT);
+        assertSeeks(plan, "IDX_SESSIONS_USER_CREATED", "USER_ID = ?1", "CREATED_AT >= ?2", "CREATED_AT <= ?3");
+    }
+
+    @Test
+    void testKeysetPageUsesIndex() {
+        LocalDateTime afterCreatedAt = LocalDateTime.of(2025, 1, 15, 0, 0);
+        UUID afterId = UUID.randomUUID();
+        sessionRepository.findPageByUserIdAfter(USER, FROM, TO, afterCreatedAt, afterId, Limit.of(LIMIT));
+
+        String plan = explainLastSelect(USER, FROM, TO, afterCreatedAt, afterCreatedAt, afterId, LIMIT);
+        assertSeeks(plan, "IDX_SESSIONS_USER_CREATED", "USER_ID = ?1", "CREATED_AT >= ?2", "CREATED_AT <= ?3");
+    }
+
+    @Test
+    void testTaskPageUsesIndex() {
+        sessionRepository.findPageByUserIdAndTaskId(USER, TASK, FROM, TO, Limit.of(LIMIT));
+
+        String plan = explainLastSelect(USER, TASK, FROM, TO, LIMIT);
+        assertSeeks(plan, "IDX_SESSIONS_USER_TASK_CREATED", "USER_ID = ?1", "TASK_ID = ?2", "CREATED_AT >= ?3", "CREATED_AT <= ?4");
+    }
+
+    @Test
+    void testKeysetPagesWalkWholeHistoryWithoutRepeats() {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            sessionRepository.save(new PomodoroSession(userId, "testUser", SessionType.FOCUS, 25));
+        }
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        List<PomodoroSession> walked = new ArrayList<>();
+        List<PomodoroSession> page = sessionRepository.findPageByUserId(userId, from, to, Limit.of(2));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            PomodoroSession last = page.get(page.size() - 1);
+            page = sessionRepository.findPageByUserIdAfter(userId, from, to, last.getCreatedAt(), last.getId(), Limit.of(2));
+        }
+
+        assertEquals(5, walked.size());
+        assertEquals(5, new HashSet<>(walked.stream().map(PomodoroSession::getId).toList()).size());
+        for (int i = 1; i < walked.size(); i++) {
+            assertFalse(walked.get(i).getCreatedAt().isAfter(walked.get(i - 1).getCreatedAt()));
+        }
+    }
+}
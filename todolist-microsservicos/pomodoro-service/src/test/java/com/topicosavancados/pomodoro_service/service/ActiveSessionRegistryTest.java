@@ -0,0 +1,143 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import com.topicosavancados.pomodoro_service.model.SessionType;
+import com.topicosavancados.pomodoro_service.repository.PomodoroSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveSessionRegistryTest {
+
+    @Mock
+    private PomodoroSessionRepository sessionRepository;
+
+    private ActiveSessionRegistry registry;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ActiveSessionRegistry(sessionRepository);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void rebuild_PrefersRunningOverNewerPausedSession() {
+        PomodoroSession running = session(SessionStatus.RUNNING, LocalDateTime.now().minusHours(2));
+        PomodoroSession paused = session(SessionStatus.PAUSED, LocalDateTime.now().minusHours(1));
+        PomodoroSession otherUser = session(SessionStatus.PAUSED, LocalDateTime.now());
+        otherUser.setUserId(UUID.randomUUID());
+        when(sessionRepository.findByStatusInOrderByCreatedAtAsc(anyList()))
+                .thenReturn(List.of(running, paused, otherUser));
+
+        registry.rebuild();
+
+        assertEquals(3, registry.size());
+        assertEquals(running.getId(), registry.find(userId).orElseThrow().getId());
+        assertTrue(registry.hasRunningSession(userId));
+        assertFalse(registry.hasRunningSession(otherUser.getUserId()));
+    }
+
+    @Test
+    void update_TracksTransitionsWithoutQueryingDatabase() {
+        PomodoroSession session = session(SessionStatus.RUNNING, LocalDateTime.now());
+        registry.update(session);
+        assertTrue(registry.hasRunningSession(userId));
+
+        session.setStatus(SessionStatus.PAUSED);
+        registry.update(session);
+        assertFalse(registry.hasRunningSession(userId));
+        assertEquals(SessionStatus.PAUSED, registry.find(userId).orElseThrow().getStatus());
+
+        session.setStatus(SessionStatus.COMPLETED);
+        registry.update(session);
+        assertTrue(registry.find(userId).isEmpty());
+        verifyNoInteractions(sessionRepository);
+    }
+
+    @Test
+    void update_FinishingAnotherSessionKeepsRegisteredOne() {
+        PomodoroSession active = session(SessionStatus.RUNNING, LocalDateTime.now());
+        PomodoroSession waiting = session(SessionStatus.CANCELLED, LocalDateTime.now());
+        registry.update(active);
+
+        registry.update(waiting);
+
+        assertEquals(active.getId(), registry.find(userId).orElseThrow().getId());
+    }
+
+    @Test
+    void update_PausedSessionReappearsWhenNewerSessionFinishes() {
+        PomodoroSession paused = session(SessionStatus.PAUSED, LocalDateTime.now().minusMinutes(10));
+        PomodoroSession started = session(SessionStatus.RUNNING, LocalDateTime.now());
+        registry.update(paused);
+        registry.update(started);
+        assertEquals(started.getId(), registry.find(userId).orElseThrow().getId());
+
+        started.setStatus(SessionStatus.COMPLETED);
+        registry.update(started);
+
+        assertEquals(paused.getId(), registry.find(userId).orElseThrow().getId());
+        assertFalse(registry.hasRunningSession(userId));
+        assertTrue(registry.runningSessions().isEmpty());
+        verifyNoInteractions(sessionRepository);
+    }
+
+    @Test
+    void find_PrefersNewestAmongPausedSessions() {
+        PomodoroSession older = session(SessionStatus.PAUSED, LocalDateTime.now().minusHours(1));
+        PomodoroSession newer = session(SessionStatus.PAUSED, LocalDateTime.now());
+        registry.update(newer);
+        registry.update(older);
+
+        assertEquals(newer.getId(), registry.find(userId).orElseThrow().getId());
+    }
+
+    @Test
+    void find_ReturnsDetachedCopies() {
+        PomodoroSession session = session(SessionStatus.RUNNING, LocalDateTime.now());
+        registry.update(session);
+
+        session.setStatus(SessionStatus.CANCELLED);
+        registry.find(userId).orElseThrow().setStatus(SessionStatus.COMPLETED);
+
+        assertEquals(SessionStatus.RUNNING, registry.find(userId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void update_InsideTransactionIsAppliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            registry.update(session(SessionStatus.RUNNING, LocalDateTime.now()));
+            assertFalse(registry.hasRunningSession(userId));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertTrue(registry.hasRunningSession(userId));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private PomodoroSession session(SessionStatus status, LocalDateTime createdAt) {
+        PomodoroSession session = new PomodoroSession(userId, "testUser", SessionType.FOCUS, 25);
+        session.setId(UUID.randomUUID());
+        session.setStatus(status);
+        session.setStartTime(createdAt);
+        session.setCreatedAt(createdAt);
+        return session;
+    }
+}
@@ -1,6 +1,8 @@
 package com.topicosavancados.pomodoro_service.service;
 
 import com.topicosavancados.pomodoro_service.dto.CreateSessionRequest;
+import com.topicosavancados.pomodoro_service.dto.SessionPageRequest;
+import com.topicosavancados.pomodoro_service.dto.SessionPageResponse;
 import com.topicosavancados.pomodoro_service.dto.SessionResponse;
 import com.topicosavancados.pomodoro_service.model.PomodoroSession;
 import com.topicosavancados.pomodoro_service.model.SessionStatus;
@@ -10,9 +12,12 @@ import com.topicosavancados.pomodoro_service.repository.PomodoroSessionRepositor
 import com.topicosavancados.pomodoro_service.service.UserSettingsService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -22,6 +27,8 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +40,15 @@ class PomodoroServiceTest {
     @Mock
     private UserSettingsService userSettingsService;
 
+    @Mock
+    private ActiveSessionRegistry activeSessionRegistry;
+
+    @Mock
+    private SessionStatsService sessionStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PomodoroService pomodoroService;
 
@@ -58,8 +74,7 @@ class PomodoroServiceTest {
         session.setStatus(SessionStatus.WAITING);
         session.setCreatedAt(LocalDateTime.now());
 
-        when(pomodoroSessionRepository.findByUserIdAndStatus(userId, SessionStatus.RUNNING))
-                .thenReturn(Optional.empty());
+        when(activeSessionRegistry.hasRunningSession(userId)).thenReturn(false);
         when(userSettingsService.getUserSettings(userId, username)).thenReturn(userSettings);
         when(pomodoroSessionRepository.save(any(PomodoroSession.class))).thenReturn(session);
 
@@ -85,6 +100,7 @@ class PomodoroServiceTest {
         session.setPlannedDurationMinutes(25);
 
         when(pomodoroSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(eq(sessionId), anyList(), eq(SessionStatus.RUNNING))).thenReturn(1);
         when(pomodoroSessionRepository.save(any(PomodoroSession.class))).thenAnswer(inv -> inv.getArgument(0));
 
         SessionResponse result = pomodoroService.startSession(userId, sessionId);
@@ -109,6 +125,7 @@ class PomodoroServiceTest {
         session.setTotalPausedMinutes(0.0);
 
         when(pomodoroSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(eq(sessionId), anyList(), eq(SessionStatus.PAUSED))).thenReturn(1);
         when(pomodoroSessionRepository.save(any(PomodoroSession.class))).thenAnswer(inv -> inv.getArgument(0));
 
         SessionResponse result = pomodoroService.pauseSession(userId, sessionId);
@@ -118,6 +135,14 @@ class PomodoroServiceTest {
         assertNotNull(result.getPausedAt());
         verify(pomodoroSessionRepository, times(1)).findById(sessionId);
         verify(pomodoroSessionRepository, times(1)).save(session);
+
+        verify(activeSessionRegistry).update(session);
+
+        ArgumentCaptor<SessionStateChangedEvent> event = ArgumentCaptor.forClass(SessionStateChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(userId, event.getValue().getUserId());
+        assertEquals(SessionStateChangedEvent.Transition.PAUSED, event.getValue().getTransition());
+        assertEquals(SessionStatus.PAUSED, event.getValue().getSession().getStatus());
     }
 
     @Test
@@ -133,6 +158,7 @@ class PomodoroServiceTest {
         session.setStartTime(LocalDateTime.now().minusMinutes(25));
 
         when(pomodoroSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(eq(sessionId), anyList(), eq(SessionStatus.COMPLETED))).thenReturn(1);
         when(pomodoroSessionRepository.save(any(PomodoroSession.class))).thenAnswer(inv -> inv.getArgument(0));
 
         SessionResponse result = pomodoroService.completeSession(userId, sessionId, notes);
@@ -143,6 +169,7 @@ class PomodoroServiceTest {
         assertNotNull(result.getEndTime());
         verify(pomodoroSessionRepository, times(1)).findById(sessionId);
         verify(pomodoroSessionRepository, times(1)).save(session);
+        verify(sessionStatsService, times(1)).record(session);
     }
 
     @Test
@@ -157,6 +184,7 @@ class PomodoroServiceTest {
         session.setStatus(SessionStatus.RUNNING);
 
         when(pomodoroSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(eq(sessionId), anyList(), eq(SessionStatus.CANCELLED))).thenReturn(1);
         when(pomodoroSessionRepository.save(any(PomodoroSession.class))).thenAnswer(inv -> inv.getArgument(0));
 
         SessionResponse result = pomodoroService.stopSession(userId, sessionId, notes);
@@ -179,57 +207,124 @@ class PomodoroServiceTest {
         session.setStatus(SessionStatus.RUNNING);
         session.setType(SessionType.FOCUS);
 
-        when(pomodoroSessionRepository.findByUserIdAndStatus(userId, SessionStatus.RUNNING))
-                .thenReturn(Optional.of(session));
+        when(activeSessionRegistry.find(userId)).thenReturn(Optional.of(session));
 
         SessionResponse result = pomodoroService.getCurrentSession(userId);
 
         assertNotNull(result);
         assertEquals(SessionStatus.RUNNING, result.getStatus());
         assertEquals(SessionType.FOCUS, result.getType());
-        verify(pomodoroSessionRepository, times(1)).findByUserIdAndStatus(userId, SessionStatus.RUNNING);
+        verifyNoInteractions(pomodoroSessionRepository);
     }
 
     @Test
     void testGetCurrentSession_NotFound() {
         UUID userId = UUID.randomUUID();
         
-        when(pomodoroSessionRepository.findByUserIdAndStatus(userId, SessionStatus.RUNNING))
-                .thenReturn(Optional.empty());
-        when(pomodoroSessionRepository.findByUserIdAndStatus(userId, SessionStatus.PAUSED))
-                .thenReturn(Optional.empty());
+        when(activeSessionRegistry.find(userId)).thenReturn(Optional.empty());
 
         SessionResponse result = pomodoroService.getCurrentSession(userId);
 
         assertNull(result);
-        verify(pomodoroSessionRepository, times(1)).findByUserIdAndStatus(userId, SessionStatus.RUNNING);
-        verify(pomodoroSessionRepository, times(1)).findByUserIdAndStatus(userId, SessionStatus.PAUSED);
+        verifyNoInteractions(pomodoroSessionRepository);
     }
 
     @Test
-    void testGetUserSessions() {
+    void testCreateSession_RejectsWhenRunningSessionIsRegistered() {
         UUID userId = UUID.randomUUID();
-        
-        PomodoroSession session1 = new PomodoroSession();
-        session1.setId(UUID.randomUUID());
-        session1.setUserId(userId);
-        session1.setStatus(SessionStatus.COMPLETED);
-        
-        PomodoroSession session2 = new PomodoroSession();
-        session2.setId(UUID.randomUUID());
-        session2.setUserId(userId);
-        session2.setStatus(SessionStatus.CANCELLED);
+        CreateSessionRequest request = new CreateSessionRequest();
+        request.setType(SessionType.FOCUS);
 
-        List<PomodoroSession> sessions = Arrays.asList(session1, session2);
-        when(pomodoroSessionRepository.findByUserIdOrderByCreatedAtDesc(userId)).thenReturn(sessions);
+        when(activeSessionRegistry.hasRunningSession(userId)).thenReturn(true);
 
-        List<SessionResponse> result = pomodoroService.getUserSessions(userId);
+        assertThrows(RuntimeException.class, () -> pomodoroService.createSession(userId, "testUser", request));
+        verifyNoInteractions(pomodoroSessionRepository);
+    }
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals(SessionStatus.COMPLETED, result.get(0).getStatus());
-        assertEquals(SessionStatus.CANCELLED, result.get(1).getStatus());
-        verify(pomodoroSessionRepository, times(1)).findByUserIdOrderByCreatedAtDesc(userId);
+    @Test
+    void testGetSessionsPage_FirstPageReportsNextCursor() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        PomodoroSession session1 = historySession(userId, SessionStatus.COMPLETED, now);
+        PomodoroSession session2 = historySession(userId, SessionStatus.CANCELLED, now.minusMinutes(30));
+        PomodoroSession session3 = historySession(userId, SessionStatus.COMPLETED, now.minusMinutes(60));
+        when(pomodoroSessionRepository.findPageByUserId(eq(userId), any(), any(), eq(Limit.of(3))))
+                .thenReturn(Arrays.asList(session1, session2, session3));
+
+        SessionPageRequest request = new SessionPageRequest();
+        request.setLimit(2);
+        SessionPageResponse result = pomodoroService.getSessionsPage(userId, null, request);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(SessionStatus.COMPLETED, result.getItems().get(0).getStatus());
+        assertEquals(SessionStatus.CANCELLED, result.getItems().get(1).getStatus());
+        assertTrue(result.isHasMore());
+        SessionCursor cursor = SessionCursor.decode(result.getNextCursor());
+        assertEquals(session2.getId(), cursor.getId());
+        assertEquals(session2.getCreatedAt(), cursor.getCreatedAt());
+    }
+
+    @Test
+    void testGetSessionsPage_CursorContinuesAfterLastSession() {
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        UUID lastId = UUID.randomUUID();
+        PomodoroSession older = historySession(userId, SessionStatus.COMPLETED, createdAt.minusMinutes(30));
+        when(pomodoroSessionRepository.findPageByUserIdAndTaskIdAfter(eq(userId), eq(taskId), any(), any(),
+                eq(createdAt), eq(lastId), eq(Limit.of(21))))
+                .thenReturn(List.of(older));
+
+        SessionPageRequest request = new SessionPageRequest();
+        request.setCursor(new SessionCursor(createdAt, lastId).encode());
+        SessionPageResponse result = pomodoroService.getSessionsPage(userId, taskId, request);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+        verify(pomodoroSessionRepository, never()).findPageByUserIdAndTaskId(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetSessionsPage_ClampsLimit() {
+        UUID userId = UUID.randomUUID();
+        when(pomodoroSessionRepository.findPageByUserId(eq(userId), any(), any(), any())).thenReturn(List.of());
+
+        SessionPageRequest request = new SessionPageRequest();
+        request.setLimit(10_000);
+        pomodoroService.getSessionsPage(userId, null, request);
+
+        verify(pomodoroSessionRepository).findPageByUserId(eq(userId), any(), any(), eq(Limit.of(101)));
+    }
+
+    @Test
+    void testGetSessionsPage_InvalidCursor() {
+        SessionPageRequest request = new SessionPageRequest();
+        request.setCursor("not-a-cursor");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> pomodoroService.getSessionsPage(UUID.randomUUID(), null, request));
+        verifyNoInteractions(pomodoroSessionRepository);
+    }
+
+    @Test
+    void testGetSessionsPage_FromAfterTo() {
+        SessionPageRequest request = new SessionPageRequest();
+        request.setFrom(LocalDateTime.now());
+        request.setTo(LocalDateTime.now().minusDays(1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> pomodoroService.getSessionsPage(UUID.randomUUID(), null, request));
+        verifyNoInteractions(pomodoroSessionRepository);
+    }
+
+    private PomodoroSession historySession(UUID userId, SessionStatus status, LocalDateTime createdAt) {
+        PomodoroSession session = new PomodoroSession();
+        session.setId(UUID.randomUUID());
+        session.setUserId(userId);
+        session.setStatus(status);
+        session.setCreatedAt(createdAt);
+        return session;
     }
 
     @Test
@@ -267,4 +362,128 @@ class PomodoroServiceTest {
         assertEquals("Session not found", exception.getMessage());
         verify(pomodoroSessionRepository, times(1)).findById(sessionId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExpireSession_CompletesFocusAndAutoStartsLongBreak() {
+        UUID userId = UUID.randomUUID();
+        PomodoroSession session = runningFocus(userId);
+
+        UserSettings settings = new UserSettings(userId, "testUser");
+        settings.setAutoStartBreaks(true);
+        settings.setSessionsUntilLongBreak(4);
+
+        when(pomodoroSessionRepository.findByIdAndUserId(session.getId(), userId)).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(session.getId(), List.of(SessionStatus.RUNNING), SessionStatus.COMPLETED))
+                .thenReturn(1);
+        when(pomodoroSessionRepository.save(any(PomodoroSession.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(userSettingsService.getUserSettings(userId, "testUser")).thenReturn(settings);
+        when(pomodoroSessionRepository.countTodayCompletedFocusSessionsByUserId(eq(userId), any(), any())).thenReturn(4L);
+
+        SessionResponse next = pomodoroService.expireSession(userId, session.getId());
+
+        assertEquals(SessionStatus.COMPLETED, session.getStatus());
+        assertEquals(25, session.getActualDurationMinutes());
+        assertNotNull(next);
+        assertEquals(SessionType.LONG_BREAK, next.getType());
+        assertEquals(SessionStatus.RUNNING, next.getStatus());
+        assertEquals(15, next.getPlannedDurationMinutes());
+        verify(eventPublisher, times(3)).publishEvent(any(SessionStateChangedEvent.class));
+    }
+
+    @Test
+    void testExpireSession_WithoutAutoStartOnlyCompletes() {
+        UUID userId = UUID.randomUUID();
+        PomodoroSession session = runningFocus(userId);
+
+        when(pomodoroSessionRepository.findByIdAndUserId(session.getId(), userId)).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(session.getId(), List.of(SessionStatus.RUNNING), SessionStatus.COMPLETED))
+                .thenReturn(1);
+        when(pomodoroSessionRepository.save(any(PomodoroSession.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(userSettingsService.getUserSettings(userId, "testUser")).thenReturn(new UserSettings(userId, "testUser"));
+
+        SessionResponse next = pomodoroService.expireSession(userId, session.getId());
+
+        assertNull(next);
+        assertEquals(SessionStatus.COMPLETED, session.getStatus());
+        verify(pomodoroSessionRepository, times(1)).save(session);
+    }
+
+    @Test
+    void testExpireSession_IgnoresSessionNoLongerRunning() {
+        UUID userId = UUID.randomUUID();
+        PomodoroSession session = runningFocus(userId);
+        session.setStatus(SessionStatus.PAUSED);
+
+        when(pomodoroSessionRepository.findByIdAndUserId(session.getId(), userId)).thenReturn(Optional.of(session));
+
+        assertNull(pomodoroService.expireSession(userId, session.getId()));
+        verify(pomodoroSessionRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testExpireSession_LosingRaceWithCompleteDoesNothing() {
+        UUID userId = UUID.randomUUID();
+        PomodoroSession session = runningFocus(userId);
+
+        // Leu RUNNING, mas o usuário concluiu a sessão antes da transição condicional
+        when(pomodoroSessionRepository.findByIdAndUserId(session.getId(), userId)).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(session.getId(), List.of(SessionStatus.RUNNING), SessionStatus.COMPLETED))
+                .thenReturn(0);
+
+        assertNull(pomodoroService.expireSession(userId, session.getId()));
+        verify(pomodoroSessionRepository, never()).save(any());
+        verifyNoInteractions(sessionStatsService, eventPublisher, userSettingsService);
+        verify(activeSessionRegistry, never()).update(any());
+    }
+
+    @Test
+    void testCompleteSession_LosingRaceWithTimerIsRejected() {
+        UUID userId = UUID.randomUUID();
+        PomodoroSession session = runningFocus(userId);
+
+        when(pomodoroSessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(eq(session.getId()), anyList(), eq(SessionStatus.COMPLETED)))
+                .thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> pomodoroService.completeSession(userId, session.getId(), null));
+        verify(pomodoroSessionRepository, never()).save(any());
+        verifyNoInteractions(sessionStatsService, eventPublisher);
+    }
+
+    @Test
+    void testPauseSession_LosingRaceWithTimerIsRejected() {
+        UUID userId = UUID.randomUUID();
+        PomodoroSession session = runningFocus(userId);
+
+        when(pomodoroSessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(session.getId(), List.of(SessionStatus.RUNNING), SessionStatus.PAUSED))
+                .thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> pomodoroService.pauseSession(userId, session.getId()));
+        verify(pomodoroSessionRepository, never()).save(any());
+        verifyNoInteractions(activeSessionRegistry, sessionStatsService, eventPublisher);
+    }
+
+    @Test
+    void testStopSession_LosingRaceWithTimerIsRejected() {
+        UUID userId = UUID.randomUUID();
+        PomodoroSession session = runningFocus(userId);
+
+        when(pomodoroSessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        when(pomodoroSessionRepository.updateStatusIfIn(eq(session.getId()), anyList(), eq(SessionStatus.CANCELLED)))
+                .thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> pomodoroService.stopSession(userId, session.getId(), null));
+        verify(pomodoroSessionRepository, never()).save(any());
+        verifyNoInteractions(activeSessionRegistry, sessionStatsService, eventPublisher);
+    }
+
+    private PomodoroSession runningFocus(UUID userId) {
+        PomodoroSession session = new PomodoroSession(userId, "testUser", SessionType.FOCUS, 25);
+        session.setId(UUID.randomUUID());
+        session.setStatus(SessionStatus.RUNNING);
+        session.setStartTime(LocalDateTime.now().minusMinutes(25));
+        return session;
+    }
+}
@@ -0,0 +1,221 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.dto.PomodoroStatsResponse;
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import com.topicosavancados.pomodoro_service.model.SessionType;
+import com.topicosavancados.pomodoro_service.repository.DailySessionStatsRepository;
+import com.topicosavancados.pomodoro_service.repository.PomodoroSessionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// O dialeto de application.properties é o do PostgreSQL; os SELECT ... FOR UPDATE precisam da sintaxe do H2
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(SessionStatsService.class)
+class SessionStatsServiceTest {
+
+    @Autowired
+    private SessionStatsService sessionStatsService;
+
+    @Autowired
+    private DailySessionStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private PomodoroSessionRepository sessionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void record_AggregatesTodayAndPerTaskTotals() {
+        UUID taskId = UUID.randomUUID();
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, taskId, 0)));
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.CANCELLED, 10, taskId, 0)));
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.SHORT_BREAK, SessionStatus.COMPLETED, 5, null, 0)));
+
+        PomodoroStatsResponse stats = sessionStatsService.getStats(userId);
+
+        assertEquals(35, stats.getToday().getFocusMinutes());
+        assertEquals(1, stats.getToday().getCompletedFocusSessions());
+        assertEquals(1, stats.getToday().getCompletedBreakSessions());
+        assertEquals(1, stats.getToday().getCancelledSessions());
+        assertEquals(35, stats.getMonth().getFocusMinutes());
+        assertEquals(1, stats.getTasks().size());
+        assertEquals(taskId, stats.getTasks().get(0).getTaskId());
+        assertEquals(35, stats.getTasks().get(0).getFocusMinutes());
+        assertEquals(1, stats.getTasks().get(0).getCompletedSessions());
+        // Um único agregado diário, por mais sessões que o usuário tenha no dia
+        assertEquals(1, dailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(
+                userId, LocalDate.now().minusDays(1), LocalDate.now()).size());
+    }
+
+    @Test
+    void record_TracksConsecutiveDayStreak() {
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 3)));
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 1)));
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 0)));
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 0)));
+
+        // Dia 3 isolado (sem foco no dia 2); ontem e hoje formam a sequência atual
+        assertEquals(2, sessionStatsService.getStats(userId).getCurrentStreakDays());
+    }
+
+    @Test
+    void getStats_StreakSurvivesUntilTodayHasAFocus() {
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 2)));
+        sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 1)));
+
+        PomodoroStatsResponse stats = sessionStatsService.getStats(userId);
+
+        assertEquals(2, stats.getCurrentStreakDays());
+        assertEquals(0, stats.getToday().getCompletedFocusSessions());
+    }
+
+    @Test
+    void record_CountsEachSessionOnlyOnce() {
+        PomodoroSession session = sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 0));
+
+        sessionStatsService.record(session);
+        sessionStatsService.record(session);
+
+        PomodoroStatsResponse stats = sessionStatsService.getStats(userId);
+        assertEquals(25, stats.getToday().getFocusMinutes());
+        assertEquals(1, stats.getToday().getCompletedFocusSessions());
+        assertTrue(session.getStatsRecorded());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void record_ConcurrentSessionsOnSameDayAreAllCounted() throws Exception {
+        int writers = 4;
+        List<PomodoroSession> sessions = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            sessions.add(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 10, null, 0)));
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (PomodoroSession session : sessions) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // Cada sessão registrada (e a mesma sessão uma segunda vez) em transações concorrentes
+                    transaction.executeWithoutResult(tx -> sessionStatsService.record(session));
+                    transaction.executeWithoutResult(tx -> sessionStatsService.record(session));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+
+            PomodoroStatsResponse stats = sessionStatsService.getStats(userId);
+            assertEquals(writers * 10, stats.getToday().getFocusMinutes());
+            assertEquals(writers, stats.getToday().getCompletedFocusSessions());
+        } finally {
+            executor.shutdownNow();
+            cleanUp();
+        }
+    }
+
+    @Test
+    void getStats_WithoutHistoryReturnsZeros() {
+        PomodoroStatsResponse stats = sessionStatsService.getStats(userId);
+
+        assertEquals(0, stats.getToday().getFocusMinutes());
+        assertEquals(0, stats.getWeek().getCompletedFocusSessions());
+        assertEquals(0, stats.getCurrentStreakDays());
+        assertTrue(stats.getTasks().isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void backfill_BuildsRollupsFromExistingHistory() {
+        // Banco como na primeira inicialização com histórico: sem agregados nem migração registrada
+        cleanUp();
+        try {
+            sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 1));
+            sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 20, null, 0));
+            PomodoroSession running = new PomodoroSession(userId, "testUser", SessionType.FOCUS, 25);
+            running.setStatus(SessionStatus.RUNNING);
+            running.setStartTime(LocalDateTime.now());
+            sessionRepository.save(running);
+
+            sessionStatsService.backfill();
+            // Segunda instância (ou reinício): a migração já concluída não soma nada de novo
+            sessionStatsService.backfill();
+
+            PomodoroStatsResponse stats = sessionStatsService.getStats(userId);
+            assertEquals(20, stats.getToday().getFocusMinutes());
+            assertEquals(2, stats.getCurrentStreakDays());
+            assertEquals(2, dailyStatsRepository.count());
+        } finally {
+            cleanUp();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void backfill_SkipsWhenRollupsPredateMigrationMarker() {
+        cleanUp();
+        try {
+            // Agregados criados antes do registro da migração já incluem este histórico
+            sessionStatsService.record(sessionRepository.save(finished(SessionType.FOCUS, SessionStatus.COMPLETED, 25, null, 0)));
+            jdbcTemplate.update("UPDATE pomodoro_sessions SET stats_recorded = NULL");
+            jdbcTemplate.update("DELETE FROM pomodoro_migrations");
+
+            sessionStatsService.backfill();
+
+            assertEquals(25, sessionStatsService.getStats(userId).getToday().getFocusMinutes());
+        } finally {
+            cleanUp();
+        }
+    }
+
+    // Para os testes sem a transação do teste: o que eles gravam é commitado
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM pomodoro_daily_stats");
+        jdbcTemplate.update("DELETE FROM pomodoro_task_stats");
+        jdbcTemplate.update("DELETE FROM pomodoro_sessions");
+        jdbcTemplate.update("DELETE FROM pomodoro_migrations");
+    }
+
+    private PomodoroSession finished(SessionType type, SessionStatus status, int minutes, UUID taskId, int daysAgo) {
+        PomodoroSession session = new PomodoroSession(userId, "testUser", type, minutes);
+        session.setStatus(status);
+        session.setTaskId(taskId);
+        session.setTaskTitle(taskId != null ? "Task" : null);
+        session.setActualDurationMinutes(minutes);
+        LocalDateTime end = LocalDate.now().minusDays(daysAgo).atTime(12, 0);
+        session.setStartTime(end.minusMinutes(minutes));
+        session.setEndTime(end);
+        return session;
+    }
+}
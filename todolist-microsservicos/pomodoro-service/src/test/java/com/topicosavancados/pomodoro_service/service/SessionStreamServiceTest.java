@@ -0,0 +1,198 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.dto.SessionResponse;
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import com.topicosavancados.pomodoro_service.model.SessionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+class SessionStreamServiceTest {
+
+    @Mock
+    private PomodoroService pomodoroService;
+
+    @Mock
+    private ActiveSessionRegistry activeSessionRegistry;
+
+    private SessionStreamService sessionStreamService;
+    private MockMvc mockMvc;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        sessionStreamService = new SessionStreamService(pomodoroService, activeSessionRegistry, 60000, 32, Runnable::run);
+        userId = UUID.randomUUID();
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController()).build();
+    }
+
+    @Test
+    void subscribe_EachStreamReceivesSnapshotOfCurrentSession() throws Exception {
+        when(pomodoroService.getCurrentSession(userId)).thenReturn(runningSession(25, 0));
+
+        MvcResult first = openStream();
+        MvcResult second = openStream();
+
+        assertEquals(2, sessionStreamService.getSubscriberCount());
+        verify(pomodoroService, times(2)).getCurrentSession(userId);
+        assertTrue(first.getResponse().getContentAsString().contains("event:snapshot"));
+        assertTrue(second.getResponse().getContentAsString().contains("\"status\":\"RUNNING\""));
+    }
+
+    @Test
+    void transitionsAndTicksArePushedWithoutQueryingAgain() throws Exception {
+        when(pomodoroService.getCurrentSession(userId)).thenReturn(null);
+        MvcResult stream = openStream();
+
+        SessionResponse started = runningSession(25, 0);
+        when(activeSessionRegistry.find(userId)).thenReturn(Optional.of(registered(started)));
+        sessionStreamService.onSessionStateChanged(
+                new SessionStateChangedEvent(userId, SessionStateChangedEvent.Transition.STARTED, started));
+        sessionStreamService.tick();
+
+        String content = stream.getResponse().getContentAsString();
+        assertTrue(content.contains("event:started"));
+        assertTrue(content.contains("event:tick"));
+        assertTrue(content.contains(started.getId().toString()));
+        verify(pomodoroService, times(1)).getCurrentSession(userId);
+    }
+
+    @Test
+    void finishedSessionStopsTicks() throws Exception {
+        SessionResponse session = runningSession(25, 0);
+        when(pomodoroService.getCurrentSession(userId)).thenReturn(session);
+        MvcResult stream = openStream();
+
+        session.setStatus(SessionStatus.CANCELLED);
+        // Sessão finalizada sai do registro antes do evento ser entregue (ambos após o commit)
+        when(activeSessionRegistry.find(userId)).thenReturn(Optional.empty());
+        sessionStreamService.onSessionStateChanged(
+                new SessionStateChangedEvent(userId, SessionStateChangedEvent.Transition.STOPPED, session));
+        sessionStreamService.tick();
+
+        String content = stream.getResponse().getContentAsString();
+        assertTrue(content.contains("event:stopped"));
+        assertFalse(content.contains("event:tick"));
+    }
+
+    @Test
+    void eventsForUsersWithoutStreamAreIgnored() {
+        sessionStreamService.onSessionStateChanged(
+                new SessionStateChangedEvent(userId, SessionStateChangedEvent.Transition.STARTED, runningSession(25, 0)));
+        sessionStreamService.tick();
+
+        assertEquals(0, sessionStreamService.getSubscriberCount());
+        verifyNoInteractions(pomodoroService, activeSessionRegistry);
+    }
+
+    @Test
+    void tickOnlyQueuesSendsOnTheStreamExecutor() throws Exception {
+        List<Runnable> queued = new ArrayList<>();
+        sessionStreamService = new SessionStreamService(pomodoroService, activeSessionRegistry, 60000, 32, queued::add);
+        SessionResponse session = runningSession(25, 0);
+        when(pomodoroService.getCurrentSession(userId)).thenReturn(session);
+        when(activeSessionRegistry.find(userId)).thenReturn(Optional.of(registered(session)));
+        MvcResult stream = openStream();
+
+        sessionStreamService.tick();
+
+        // Nada foi escrito na thread do agendador; uma única tarefa drena snapshot e tick em ordem
+        assertEquals("", stream.getResponse().getContentAsString());
+        assertEquals(1, queued.size());
+        queued.remove(0).run();
+        String content = stream.getResponse().getContentAsString();
+        assertTrue(content.indexOf("event:snapshot") < content.indexOf("event:tick"));
+    }
+
+    @Test
+    void slowStreamIsDroppedWhenPendingEventsExceedLimit() throws Exception {
+        List<Runnable> neverRun = new ArrayList<>();
+        sessionStreamService = new SessionStreamService(pomodoroService, activeSessionRegistry, 60000, 2, neverRun::add);
+        SessionResponse session = runningSession(25, 0);
+        when(pomodoroService.getCurrentSession(userId)).thenReturn(session);
+        when(activeSessionRegistry.find(userId)).thenReturn(Optional.of(registered(session)));
+        openStream();
+
+        sessionStreamService.tick();
+        assertEquals(1, sessionStreamService.getSubscriberCount());
+        sessionStreamService.tick();
+
+        assertEquals(0, sessionStreamService.getSubscriberCount());
+    }
+
+    @Test
+    void remainingSeconds_DiscountsPausesAndFreezesWhilePaused() {
+        SessionResponse running = runningSession(25, 1.0);
+        running.setStartTime(LocalDateTime.now().minusMinutes(10));
+        long remaining = SessionStreamService.remainingSeconds(running);
+        // 25min - (10min decorridos - 1min pausado) = 16min
+        assertTrue(Math.abs(remaining - 16 * 60) <= 1, "remaining was " + remaining);
+
+        SessionResponse paused = runningSession(25, 0);
+        paused.setStatus(SessionStatus.PAUSED);
+        paused.setStartTime(LocalDateTime.now().minusMinutes(30));
+        paused.setPausedAt(paused.getStartTime().plusMinutes(5));
+        assertEquals(20 * 60, SessionStreamService.remainingSeconds(paused));
+
+        SessionResponse waiting = runningSession(15, 0);
+        waiting.setStatus(SessionStatus.WAITING);
+        waiting.setStartTime(null);
+        assertEquals(15 * 60, SessionStreamService.remainingSeconds(waiting));
+
+        assertNull(SessionStreamService.remainingSeconds(null));
+    }
+
+    private MvcResult openStream() throws Exception {
+        return mockMvc.perform(get("/stream")).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private SessionResponse runningSession(int plannedMinutes, double pausedMinutes) {
+        SessionResponse session = new SessionResponse();
+        session.setId(UUID.randomUUID());
+        session.setUserId(userId);
+        session.setType(SessionType.FOCUS);
+        session.setStatus(SessionStatus.RUNNING);
+        session.setPlannedDurationMinutes(plannedMinutes);
+        session.setTotalPausedMinutes(pausedMinutes);
+        session.setStartTime(LocalDateTime.now());
+        return session;
+    }
+
+    private PomodoroSession registered(SessionResponse response) {
+        PomodoroSession session = new PomodoroSession(userId, "testUser", response.getType(), response.getPlannedDurationMinutes());
+        session.setId(response.getId());
+        session.setStatus(response.getStatus());
+        session.setStartTime(response.getStartTime());
+        session.setTotalPausedMinutes(response.getTotalPausedMinutes());
+        return session;
+    }
+
+    @RestController
+    class StreamController {
+        @GetMapping("/stream")
+        SseEmitter stream() {
+            return sessionStreamService.subscribe(userId);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.dto.SessionResponse;
+import com.topicosavancados.pomodoro_service.model.PomodoroSession;
+import com.topicosavancados.pomodoro_service.model.SessionStatus;
+import com.topicosavancados.pomodoro_service.model.SessionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionTimerSchedulerTest {
+
+    @Mock
+    private PomodoroService pomodoroService;
+
+    @Mock
+    private ActiveSessionRegistry activeSessionRegistry;
+
+    private SessionTimerScheduler scheduler;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SessionTimerScheduler(pomodoroService, activeSessionRegistry, true, 2, 10);
+        userId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void start_SchedulesRunningSessionsAndFiresOverdueOnes() {
+        PomodoroSession overdue = new PomodoroSession(userId, "testUser", SessionType.FOCUS, 25);
+        overdue.setId(UUID.randomUUID());
+        overdue.setStatus(SessionStatus.RUNNING);
+        overdue.setStartTime(LocalDateTime.now().minusMinutes(30));
+        when(activeSessionRegistry.runningSessions()).thenReturn(List.of(overdue));
+
+        scheduler.start();
+
+        verify(pomodoroService, timeout(2000)).expireSession(userId, overdue.getId());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void pauseCancelsTimerAndResumeReschedulesIt() {
+        when(activeSessionRegistry.runningSessions()).thenReturn(List.of());
+        scheduler.start();
+
+        SessionResponse session = session(SessionStatus.RUNNING);
+        scheduler.onSessionStateChanged(event(SessionStateChangedEvent.Transition.STARTED, session));
+        assertEquals(1, scheduler.getPendingCount());
+
+        session.setStatus(SessionStatus.PAUSED);
+        scheduler.onSessionStateChanged(event(SessionStateChangedEvent.Transition.PAUSED, session));
+        assertEquals(0, scheduler.getPendingCount());
+
+        session.setStatus(SessionStatus.RUNNING);
+        scheduler.onSessionStateChanged(event(SessionStateChangedEvent.Transition.STARTED, session));
+        assertEquals(1, scheduler.getPendingCount());
+        verify(pomodoroService, never()).expireSession(any(), any());
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        when(activeSessionRegistry.runningSessions()).thenReturn(List.of());
+        scheduler.start();
+        UUID sessionId = UUID.randomUUID();
+
+        scheduler.schedule(userId, sessionId, System.currentTimeMillis() + 200);
+        scheduler.cancel(sessionId);
+
+        verify(pomodoroService, after(600).never()).expireSession(any(), any());
+    }
+
+    @Test
+    void timersFireInPlannedEndOrder() {
+        when(activeSessionRegistry.runningSessions()).thenReturn(List.of());
+        scheduler.start();
+        UUID later = UUID.randomUUID();
+        UUID sooner = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+
+        scheduler.schedule(userId, later, now + 300);
+        scheduler.schedule(userId, sooner, now + 100);
+
+        var inOrder = inOrder(pomodoroService);
+        inOrder.verify(pomodoroService, timeout(2000)).expireSession(userId, sooner);
+        inOrder.verify(pomodoroService, timeout(2000)).expireSession(userId, later);
+    }
+
+    @Test
+    void slowExpirationDoesNotDelayOtherTimers() throws Exception {
+        when(activeSessionRegistry.runningSessions()).thenReturn(List.of());
+        UUID slow = UUID.randomUUID();
+        UUID fast = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        // A primeira expiração fica presa (ex.: banco lento) até o fim do teste
+        when(pomodoroService.expireSession(userId, slow)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        scheduler.start();
+        long now = System.currentTimeMillis();
+
+        try {
+            scheduler.schedule(userId, slow, now + 50);
+            scheduler.schedule(userId, fast, now + 150);
+
+            verify(pomodoroService, timeout(1000)).expireSession(userId, fast);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void disabledSchedulerIgnoresEvents() {
+        SessionTimerScheduler disabled = new SessionTimerScheduler(pomodoroService, activeSessionRegistry, false, 2, 10);
+        disabled.start();
+
+        disabled.onSessionStateChanged(event(SessionStateChangedEvent.Transition.STARTED, session(SessionStatus.RUNNING)));
+
+        assertEquals(0, disabled.getPendingCount());
+        verifyNoInteractions(activeSessionRegistry);
+    }
+
+    @Test
+    void plannedEndMillis_AddsPausedTime() {
+        LocalDateTime start = LocalDateTime.now();
+        long startMillis = start.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        assertEquals(startMillis + 25 * 60_000L + 90_000L,
+                SessionTimerScheduler.plannedEndMillis(start, 25, 90.0));
+    }
+
+    private SessionResponse session(SessionStatus status) {
+        SessionResponse session = new SessionResponse();
+        session.setId(UUID.randomUUID());
+        session.setUserId(userId);
+        session.setType(SessionType.FOCUS);
+        session.setStatus(status);
+        session.setPlannedDurationMinutes(25);
+        session.setTotalPausedMinutes(0.0);
+        session.setStartTime(LocalDateTime.now());
+        return session;
+    }
+
+    private SessionStateChangedEvent event(SessionStateChangedEvent.Transition transition, SessionResponse session) {
+        return new SessionStateChangedEvent(userId, transition, session);
+    }
+}
@@ -0,0 +1,96 @@
+package com.topicosavancados.pomodoro_service.service;
+
+import com.topicosavancados.pomodoro_service.model.UserSettings;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSettingsCacheTest {
+
+    private UserSettings settings(UUID userId, int focusMinutes, LocalDateTime updatedAt) {
+        UserSettings settings = new UserSettings(userId, "testUser");
+        settings.setFocusDurationMinutes(focusMinutes);
+        settings.setUpdatedAt(updatedAt);
+        return settings;
+    }
+
+    @Test
+    void testReturnsDetachedCopies() {
+        UserSettingsCache cache = new UserSettingsCache(10);
+        UUID userId = UUID.randomUUID();
+        UserSettings original = settings(userId, 30, LocalDateTime.now());
+
+        cache.put(original);
+        original.setFocusDurationMinutes(45);
+        UserSettings cached = cache.get(userId);
+        cached.setFocusDurationMinutes(60);
+
+        assertEquals(30, cache.get(userId).getFocusDurationMinutes());
+        assertNull(cache.get(UUID.randomUUID()));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testOlderStateDoesNotOverwriteNewer() {
+        UserSettingsCache cache = new UserSettingsCache(10);
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        cache.put(settings(userId, 50, now));
+        cache.put(settings(userId, 25, now.minusSeconds(5)));
+
+        assertEquals(50, cache.get(userId).getFocusDurationMinutes());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedWhenFull() {
+        UserSettingsCache cache = new UserSettingsCache(2);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+
+        cache.put(settings(a, 25, null));
+        cache.put(settings(b, 25, null));
+        cache.get(a);
+        cache.put(settings(c, 25, null));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(a));
+        assertNull(cache.get(b));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void testMetricsReportCounters() {
+        UserSettingsCache cache = new UserSettingsCache(1);
+        UUID a = UUID.randomUUID();
+
+        cache.put(settings(a, 25, null));
+        cache.get(a);
+        cache.get(UUID.randomUUID());
+        cache.put(settings(UUID.randomUUID(), 25, null));
+
+        Map<String, Object> metrics = cache.getMetrics();
+        assertEquals(1, metrics.get("size"));
+        assertEquals(1, metrics.get("maxSize"));
+        assertEquals(1L, metrics.get("hits"));
+        assertEquals(1L, metrics.get("misses"));
+        assertEquals(1L, metrics.get("evictions"));
+    }
+
+    @Test
+    void testZeroSizeDisablesCache() {
+        UserSettingsCache cache = new UserSettingsCache(0);
+        UUID userId = UUID.randomUUID();
+
+        cache.put(settings(userId, 25, null));
+
+        assertNull(cache.get(userId));
+        assertEquals(0, cache.size());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -21,6 +22,9 @@ class UserSettingsServiceTest {
     @Mock
     private UserSettingsRepository userSettingsRepository;
 
+    @Spy
+    private UserSettingsCache userSettingsCache = new UserSettingsCache(100);
+
     @InjectMocks
     private UserSettingsService userSettingsService;
 
@@ -135,4 +139,57 @@ class UserSettingsServiceTest {
         verify(userSettingsRepository, times(1)).findByUserId(userId);
         verify(userSettingsRepository, times(1)).save(existingSettings);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetUserSettings_MissReturnsDetachedCopy() {
+        UUID userId = UUID.randomUUID();
+        UserSettings existingSettings = new UserSettings(userId, "testUser");
+        existingSettings.setFocusDurationMinutes(30);
+        when(userSettingsRepository.findByUserId(userId)).thenReturn(Optional.of(existingSettings));
+
+        UserSettings loaded = userSettingsService.getUserSettings(userId, "testUser");
+        loaded.setFocusDurationMinutes(90);
+
+        assertNotSame(existingSettings, loaded);
+        assertEquals(30, existingSettings.getFocusDurationMinutes());
+        assertEquals(30, userSettingsService.getUserSettings(userId, "testUser").getFocusDurationMinutes());
+    }
+
+    @Test
+    void testGetUserSettings_SecondLookupServedFromCache() {
+        UUID userId = UUID.randomUUID();
+        UserSettings existingSettings = new UserSettings(userId, "testUser");
+        existingSettings.setFocusDurationMinutes(30);
+        when(userSettingsRepository.findByUserId(userId)).thenReturn(Optional.of(existingSettings));
+
+        userSettingsService.getUserSettings(userId, "testUser");
+        UserSettings cached = userSettingsService.getUserSettings(userId, "testUser");
+
+        assertEquals(30, cached.getFocusDurationMinutes());
+        assertNotSame(existingSettings, cached);
+        verify(userSettingsRepository, times(1)).findByUserId(userId);
+        assertEquals(1, userSettingsCache.getHitCount());
+        assertEquals(1, userSettingsCache.getMissCount());
+    }
+
+    @Test
+    void testUpdateUserSettings_WritesThroughToCache() {
+        UUID userId = UUID.randomUUID();
+        UserSettings existingSettings = new UserSettings(userId, "testUser");
+        when(userSettingsRepository.findByUserId(userId)).thenReturn(Optional.of(existingSettings));
+        when(userSettingsRepository.save(any(UserSettings.class))).thenAnswer(inv -> inv.getArgument(0));
+        userSettingsService.getUserSettings(userId, "testUser");
+
+        UserSettings updatedSettings = new UserSettings(userId, "testUser");
+        updatedSettings.setFocusDurationMinutes(50);
+        userSettingsService.updateUserSettings(userId, "testUser", updatedSettings);
+
+        assertEquals(50, userSettingsService.getUserSettings(userId, "testUser").getFocusDurationMinutes());
+
+        userSettingsService.resetToDefaults(userId, "testUser");
+
+        assertEquals(25, userSettingsService.getUserSettings(userId, "testUser").getFocusDurationMinutes());
+        // Leitura inicial + update + reset; as leituras seguintes vêm do cache
+        verify(userSettingsRepository, times(3)).findByUserId(userId);
+    }
+}
@@ -0,0 +1,61 @@
+#!/bin/bash
+
+# Compara um serviço no modo padrão (pool de threads do Tomcat) e no modo de threads virtuais.
+# Requer Java 21 no PATH, o banco do serviço no ar e, para task/pomodoro, o auth-service rodando.
+#
+# Uso: TOKEN=<jwt> ./run-load-test.sh <auth-service|task-service|pomodoro-service> [usuarios] [segundos] [caminho]
+
+set -e
+
+SERVICE=${1:?"Informe o serviço: auth-service, task-service ou pomodoro-service"}
+USERS=${2:-400}
+DURATION=${3:-30}
+
+case "$SERVICE" in
+    auth-service)     PORT=8080; DEFAULT_PATH="/api/auth/validate-token?token=${TOKEN}" ;;
+    task-service)     PORT=8081; DEFAULT_PATH="/api/home/dashboard" ;;
+    pomodoro-service) PORT=8082; DEFAULT_PATH="/api/pomodoro/sessions" ;;
+    *) echo "Serviço desconhecido: $SERVICE"; exit 1 ;;
+esac
+URL_PATH=${4:-$DEFAULT_PATH}
+URL="http://localhost:${PORT}${URL_PATH}"
+
+JAVA_MAJOR=$(java -version 2>&1 | head -1 | sed -E 's/.*version "([0-9]+).*/\1/')
+if [ "$JAVA_MAJOR" -lt 21 ]; then
+    echo "Java 21 é necessário para o modo de threads virtuais (encontrado: $JAVA_MAJOR)."
+    exit 1
+fi
+
+ROOT_DIR=$(cd "$(dirname "$0")" && pwd)
+
+echo "Compilando $SERVICE com o perfil java21..."
+(cd "$ROOT_DIR/$SERVICE" && ./mvnw -q -Pjava21 -DskipTests package)
+JAR=$(ls "$ROOT_DIR/$SERVICE"/target/*.jar | grep -v original | head -1)
+
+run_mode() {
+    local label=$1
+    local profiles=$2
+
+    echo ""
+    echo "=== $SERVICE: $label ==="
+    java -jar "$JAR" ${profiles:+--spring.profiles.active=$profiles} > "$ROOT_DIR/load-test/$SERVICE-$label.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null" EXIT
+
+    for _ in $(seq 1 60); do
+        if curl -s -o /dev/null "http://localhost:${PORT}/"; then
+            break
+        fi
+        sleep 1
+    done
+
+    java "$ROOT_DIR/load-test/LoadTest.java" --url "$URL" ${TOKEN:+--token "$TOKEN"} \
+        --users "$USERS" --duration "$DURATION" --warmup 5 --label "$label"
+
+    kill $pid
+    wait $pid 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform ""
+run_mode virtual virtual-threads
@@ -204,16 +204,16 @@ class EndToEndIntegrationTest {
         assertNotNull(sessionId);
 
         // 8. Get user's pomodoro sessions
-        ResponseEntity<List> getSessionsResponse = restTemplate.exchange(
+        ResponseEntity<Map> getSessionsResponse = restTemplate.exchange(
                 pomodoroServiceUrl + "/api/pomodoro/sessions",
                 HttpMethod.GET,
                 getEntity,
-                List.class
+                Map.class
         );
 
         assertEquals(HttpStatus.OK, getSessionsResponse.getStatusCode());
         assertNotNull(getSessionsResponse.getBody());
-        assertEquals(1, getSessionsResponse.getBody().size());
+        assertEquals(1, ((List<?>) getSessionsResponse.getBody().get("items")).size());
 
         // 9. Delete the task
         ResponseEntity<Void> deleteResponse = restTemplate.exchange(
@@ -0,0 +1,42 @@
+package com.topicosavancados.task_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Pool de conexões e timeouts de todos os WebClient criados a partir do WebClient.Builder do Spring.
+ * O padrão do Reactor Netty recusa chamadas quando a fila de espera por conexão enche, o que
+ * aparece rápido quando muitas requisições bloqueiam em block() ao mesmo tempo (ex.: com threads
+ * virtuais). Aqui os limites ficam explícitos e configuráveis.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider(
+            @Value("${http-client.max-connections:50}") int maxConnections,
+            @Value("${http-client.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${http-client.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMillis) {
+        return ConnectionProvider.builder("outbound")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .build();
+    }
+
+    @Bean
+    public WebClientCustomizer pooledConnectorCustomizer(
+            ConnectionProvider outboundConnectionProvider,
+            @Value("${http-client.response-timeout-ms:5000}") long responseTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+        return builder -> builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+}
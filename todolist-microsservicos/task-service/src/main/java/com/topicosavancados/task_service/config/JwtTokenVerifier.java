@@ -0,0 +1,45 @@
+package com.topicosavancados.task_service.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Verifica a assinatura HMAC dos tokens com uma chave e um JwtParser criados uma única vez.
+ * O JwtParser do jjwt é imutável e thread-safe, então a mesma instância atende todas as requisições.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private final JwtParser jwtParser;
+    private final TokenPrincipalCache tokenPrincipalCache;
+
+    public JwtTokenVerifier(@Value("${jwt.secret}") String secretKey, TokenPrincipalCache tokenPrincipalCache) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.tokenPrincipalCache = tokenPrincipalCache;
+    }
+
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Retorna o principal do token, verificando assinatura e claims apenas na primeira vez
+     * em que o token é visto (ou depois que a entrada sai do cache).
+     */
+    public TokenPrincipal verify(String token) {
+        TokenPrincipal principal = tokenPrincipalCache.get(token);
+        if (principal == null) {
+            principal = TokenPrincipal.fromClaims(parseClaims(token));
+            tokenPrincipalCache.put(token, principal);
+        }
+        return principal;
+    }
+}
@@ -1,40 +1,42 @@
 package com.topicosavancados.task_service.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
 @Component
+@Profile("!reactive")
 public class JwtValidationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtValidationFilter.class);
-    protected final WebClient webClient;
-    private final String secretKey;
-
-    public JwtValidationFilter(WebClient.Builder webClientBuilder,
-                               @Value("${auth-service.url}") String authServiceUrl,
-                               @Value("${jwt.secret}") String secretKey) {
-        this.webClient = webClientBuilder.baseUrl(authServiceUrl).build();
-        this.secretKey = secretKey;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final ValidatedTokenCache validatedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenIntrospectionClient tokenIntrospectionClient;
+
+    public JwtValidationFilter(JwtTokenVerifier jwtTokenVerifier,
+                               ValidatedTokenCache validatedTokenCache,
+                               TokenRevocationList tokenRevocationList,
+                               TokenIntrospectionClient tokenIntrospectionClient) {
+        this.jwtTokenVerifier = jwtTokenVerifier;
+        this.validatedTokenCache = validatedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.tokenIntrospectionClient = tokenIntrospectionClient;
     }
 
     @Override
@@ -51,19 +53,36 @@ public class JwtValidationFilter extends OncePerRequestFilter {
         }
 
         try {
-            Claims claims = extractClaimsFromToken(token);
-            String username = claims.getSubject();
-            String role = claims.get("role", String.class);
+            TokenPrincipal principal = extractPrincipalFromToken(token);
+            String username = principal.getUsername();
+            String role = principal.getRole();
             if (role == null) {
                 role = "USER";
             }
             
             String authorityRole = role.startsWith("ROLE_") ? role : "ROLE_" + role;
-            UUID userId = UUID.fromString(claims.get("userId", String.class));
+            UUID userId = principal.getUserId();
+            if (userId == null) {
+                throw new IllegalArgumentException("Token without userId claim");
+            }
             logger.info("Parsed token: username={}, userId={}, role={}", username, userId, role);
-            Boolean isValid = validateTokenWithAuthService(token);
+            if (tokenRevocationList.isRevoked(principal)) {
+                logger.warn("Token revoked for user: {}", username);
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+
+            // Com o feed de revogação sincronizado a validação é local; senão, consulta o AuthService
+            boolean isValid = tokenRevocationList.isInSync() || validatedTokenCache.isValidated(token);
+            if (!isValid) {
+                isValid = Boolean.TRUE.equals(validateTokenWithAuthService(token));
+                if (isValid) {
+                    validatedTokenCache.markValidated(token,
+                            principal.getExpiresAt() != null ? new Date(principal.getExpiresAt()) : null);
+                }
+            }
 
-            if (Boolean.TRUE.equals(isValid)) {
+            if (isValid) {
                 logger.info("Token is valid for user: {}", username);
 
                 List<SimpleGrantedAuthority> authorities = new ArrayList<>();
@@ -93,13 +112,9 @@ public class JwtValidationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    protected Claims extractClaimsFromToken(String token) {
+    protected TokenPrincipal extractPrincipalFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtTokenVerifier.verify(token);
         } catch (Exception e) {
             logger.error("Error extracting claims from token: {}", e.getMessage());
             throw e;
@@ -107,25 +122,11 @@ public class JwtValidationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Opcional: Validar token consultando o AuthService
-     * (Ex.: GET /api/auth/validate-token?token=xxx)
+     * Valida o token consultando o AuthService (POST /api/auth/introspect). Validações concorrentes
+     * são agrupadas pelo TokenIntrospectionClient em uma única chamada por janela de lote.
      */
     protected Boolean validateTokenWithAuthService(String token) {
-        try {
-            Boolean isValid = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/api/auth/validate-token")
-                            .queryParam("token", token)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(Boolean.class)
-                    .block();
-
-            return Boolean.TRUE.equals(isValid);
-        } catch (Exception e) {
-            logger.error("Error validating token with AuthService: {}", e.getMessage(), e);
-            return false;
-        }
+        return tokenIntrospectionClient.isActive(token);
     }
 
 }
\ No newline at end of file
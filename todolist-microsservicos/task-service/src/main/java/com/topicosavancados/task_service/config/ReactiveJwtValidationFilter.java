@@ -0,0 +1,117 @@
+package com.topicosavancados.task_service.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Equivalente não bloqueante do {@link JwtValidationFilter} para o perfil "reactive".
+ * As regras são as mesmas; a consulta ao AuthService (quando o feed de revogação não está
+ * sincronizado e o token não está no cache) passa pelo mesmo TokenIntrospectionClient em lote,
+ * encadeada no pipeline em vez de usar block().
+ *
+ * Não é um bean: é registrado apenas na cadeia do Spring Security (ReactiveSecurityConfig),
+ * para não rodar também como WebFilter global.
+ */
+public class ReactiveJwtValidationFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveJwtValidationFilter.class);
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final ValidatedTokenCache validatedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenIntrospectionClient tokenIntrospectionClient;
+
+    public ReactiveJwtValidationFilter(JwtTokenVerifier jwtTokenVerifier,
+                                       ValidatedTokenCache validatedTokenCache,
+                                       TokenRevocationList tokenRevocationList,
+                                       TokenIntrospectionClient tokenIntrospectionClient) {
+        this.jwtTokenVerifier = jwtTokenVerifier;
+        this.validatedTokenCache = validatedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.tokenIntrospectionClient = tokenIntrospectionClient;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = extractTokenFromRequest(exchange);
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        TokenPrincipal principal;
+        try {
+            principal = jwtTokenVerifier.verify(token);
+            if (principal.getUserId() == null) {
+                throw new IllegalArgumentException("Token without userId claim");
+            }
+        } catch (Exception e) {
+            logger.error("Error during token validation: {}", e.getMessage());
+            return unauthorized(exchange);
+        }
+
+        if (tokenRevocationList.isRevoked(principal)) {
+            logger.warn("Token revoked for user: {}", principal.getUsername());
+            return unauthorized(exchange);
+        }
+
+        // Com o feed de revogação sincronizado a validação é local; senão, consulta o AuthService
+        Mono<Boolean> validation = tokenRevocationList.isInSync() || validatedTokenCache.isValidated(token)
+                ? Mono.just(true)
+                : validateTokenWithAuthService(token).doOnNext(valid -> {
+                    if (valid) {
+                        validatedTokenCache.markValidated(token,
+                                principal.getExpiresAt() != null ? new Date(principal.getExpiresAt()) : null);
+                    }
+                });
+
+        return validation.flatMap(valid -> {
+            if (!valid) {
+                logger.warn("Token validation failed for user: {}", principal.getUsername());
+                return unauthorized(exchange);
+            }
+            UsernamePasswordAuthenticationToken authentication = toAuthentication(principal);
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+        });
+    }
+
+    // POST /api/auth/introspect, agrupado com as validações concorrentes
+    protected Mono<Boolean> validateTokenWithAuthService(String token) {
+        return tokenIntrospectionClient.isActiveAsync(token);
+    }
+
+    private static UsernamePasswordAuthenticationToken toAuthentication(TokenPrincipal principal) {
+        String role = principal.getRole() != null ? principal.getRole() : "USER";
+        String authorityRole = role.startsWith("ROLE_") ? role : "ROLE_" + role;
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                principal.getUsername(), null, List.of(new SimpleGrantedAuthority(authorityRole)));
+        authentication.setDetails(principal.getUserId());
+        return authentication;
+    }
+
+    private static String extractTokenFromRequest(ServerWebExchange exchange) {
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            return authorizationHeader.substring(7);
+        }
+        return null;
+    }
+
+    private static Mono<Void> unauthorized(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+}
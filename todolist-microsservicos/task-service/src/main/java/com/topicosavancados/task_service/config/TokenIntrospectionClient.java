@@ -0,0 +1,210 @@
+package com.topicosavancados.task_service.config;
+
+import com.topicosavancados.task_service.dto.TokenIntrospectionRequest;
+import com.topicosavancados.task_service.dto.TokenIntrospectionResponse;
+import com.topicosavancados.task_service.dto.TokenIntrospectionResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cliente de introspecção com colapso de requisições: validações concorrentes são agrupadas
+ * em uma única chamada POST /api/auth/introspect. O lote é enviado quando atinge
+ * {@code maxBatchSize} tokens ou quando a janela de {@code batchWindowMillis} termina;
+ * validações simultâneas do mesmo token compartilham o mesmo resultado.
+ * Usado pelos dois filtros: {@link #isActive} no servlet e {@link #isActiveAsync} no perfil "reactive".
+ */
+@Component
+public class TokenIntrospectionClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenIntrospectionClient.class);
+
+    private final WebClient webClient;
+    private final int maxBatchSize;
+    private final long batchWindowMillis;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService scheduler;
+
+    // Tokens aguardando o próximo lote, e o resultado pendente de cada token (enfileirado ou em voo)
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new HashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public TokenIntrospectionClient(WebClient.Builder webClientBuilder,
+                                    @Value("${auth-service.url}") String authServiceUrl,
+                                    @Value("${auth-service.introspection.max-batch-size:50}") int maxBatchSize,
+                                    @Value("${auth-service.introspection.batch-window-ms:5}") long batchWindowMillis,
+                                    @Value("${auth-service.introspection.timeout-ms:5000}") long timeoutMillis) {
+        this.webClient = webClientBuilder.baseUrl(authServiceUrl).build();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchWindowMillis = batchWindowMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-introspection-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Retorna true se o AuthService considera o token ativo. Falhas de comunicação e timeouts
+     * contam como token inválido, como na validação unitária.
+     */
+    public boolean isActive(String token) {
+        CompletableFuture<Boolean> result = enqueue(token);
+        try {
+            return Boolean.TRUE.equals(result.get(timeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            logger.warn("Token introspection timed out after {} ms", timeoutMillis);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Versão não bloqueante de {@link #isActive}. Cancelar o Mono (ou o timeout) não cancela o resultado
+     * compartilhado, que outras requisições do mesmo token podem estar aguardando.
+     */
+    public Mono<Boolean> isActiveAsync(String token) {
+        return Mono.fromFuture(() -> enqueue(token), true)
+                .map(Boolean.TRUE::equals)
+                .timeout(Duration.ofMillis(timeoutMillis), Mono.fromSupplier(() -> {
+                    logger.warn("Token introspection timed out after {} ms", timeoutMillis);
+                    return false;
+                }))
+                .onErrorReturn(false);
+    }
+
+    CompletableFuture<Boolean> enqueue(String token) {
+        requests.incrementAndGet();
+        CompletableFuture<Boolean> result;
+        List<Pending> batch = null;
+        synchronized (lock) {
+            result = inFlight.get(token);
+            if (result != null) {
+                collapsed.incrementAndGet();
+                return result;
+            }
+            result = new CompletableFuture<>();
+            inFlight.put(token, result);
+            pending.add(new Pending(token, result));
+            if (pending.size() >= maxBatchSize) {
+                batch = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+        return result;
+    }
+
+    void flush() {
+        List<Pending> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    // Chamado com o lock: esvazia a fila e cancela a janela agendada
+    private List<Pending> takePending() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    // Envio não bloqueante: os resultados são distribuídos quando a resposta chega.
+    // Resposta vazia vira lista vazia, para que só um caminho terminal (valor ou erro) resolva o lote.
+    private void send(List<Pending> batch) {
+        batches.incrementAndGet();
+        List<String> tokens = batch.stream().map(Pending::token).toList();
+        try {
+            webClient.post()
+                    .uri("/api/auth/introspect")
+                    .bodyValue(new TokenIntrospectionRequest(tokens))
+                    .retrieve()
+                    .bodyToMono(TokenIntrospectionResponse.class)
+                    .map(response -> response.getResults() != null
+                            ? response.getResults() : List.<TokenIntrospectionResult>of())
+                    .defaultIfEmpty(List.of())
+                    .subscribe(results -> complete(batch, results), error -> fail(batch, error));
+        } catch (Exception e) {
+            fail(batch, e);
+        }
+    }
+
+    private void complete(List<Pending> batch, List<TokenIntrospectionResult> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            boolean active = i < results.size() && results.get(i) != null && results.get(i).isActive();
+            resolve(batch.get(i), active);
+        }
+    }
+
+    private void fail(List<Pending> batch, Throwable error) {
+        logger.error("Error introspecting {} tokens with AuthService: {}", batch.size(), error.getMessage());
+        batch.forEach(entry -> resolve(entry, false));
+    }
+
+    // Remove só o resultado deste lote: um pedido novo do mesmo token já tem outro resultado pendente
+    private void resolve(Pending entry, boolean active) {
+        synchronized (lock) {
+            inFlight.remove(entry.token(), entry.result());
+        }
+        entry.result().complete(active);
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getCollapsedCount() {
+        return collapsed.get();
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private record Pending(String token, CompletableFuture<Boolean> result) {
+    }
+}
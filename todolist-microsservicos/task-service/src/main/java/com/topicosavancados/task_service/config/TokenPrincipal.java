@@ -0,0 +1,68 @@
+package com.topicosavancados.task_service.config;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.UUID;
+
+/**
+ * Dados do usuário extraídos de um token já verificado. Imutável, pode ser
+ * compartilhado entre requisições que usam o mesmo token.
+ */
+public final class TokenPrincipal {
+
+    private final String username;
+    private final UUID userId;
+    private final String role;
+    private final String tokenId;
+    private final Long issuedAt;  // epoch millis
+    private final Long expiresAt; // epoch millis
+
+    public TokenPrincipal(String username, UUID userId, String role, String tokenId, Long issuedAt, Long expiresAt) {
+        this.username = username;
+        this.userId = userId;
+        this.role = role;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static TokenPrincipal fromClaims(Claims claims) {
+        String userIdStr = claims.get("userId", String.class);
+        return new TokenPrincipal(
+                claims.getSubject(),
+                userIdStr != null ? UUID.fromString(userIdStr) : null,
+                claims.get("role", String.class),
+                claims.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : null,
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : null
+        );
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt != null && expiresAt <= nowMillis;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Long getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,74 @@
+package com.topicosavancados.task_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache de tokens já verificados (assinatura + claims), chaveado pelo SHA-256 do token.
+ * Requisições repetidas com o mesmo token evitam a verificação HMAC, a decodificação
+ * base64 e o parsing JSON. Entradas saem do cache quando o token expira.
+ */
+@Component
+public class TokenPrincipalCache {
+
+    private final int maxSize;
+    private final Map<String, TokenPrincipal> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public TokenPrincipalCache(@Value("${jwt.principal-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenPrincipal> eldest) {
+                return size() > TokenPrincipalCache.this.maxSize;
+            }
+        };
+    }
+
+    public TokenPrincipal get(String token) {
+        String key = ValidatedTokenCache.hash(token);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            TokenPrincipal principal = entries.get(key);
+            if (principal != null && !principal.isExpired(now)) {
+                hits.incrementAndGet();
+                return principal;
+            }
+            if (principal != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String token, TokenPrincipal principal) {
+        if (maxSize <= 0 || principal.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+        String key = ValidatedTokenCache.hash(token);
+        synchronized (entries) {
+            entries.put(key, principal);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+}
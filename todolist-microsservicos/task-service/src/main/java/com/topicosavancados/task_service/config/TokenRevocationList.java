@@ -0,0 +1,129 @@
+package com.topicosavancados.task_service.config;
+
+import com.topicosavancados.task_service.dto.RevocationEntryResponse;
+import com.topicosavancados.task_service.dto.RevocationFeedResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cópia local do feed de revogação do AuthService (GET /api/auth/revocations?since=...).
+ * Enquanto a cópia estiver sincronizada, a validação de um token é uma consulta O(1)
+ * em memória, sem chamada remota por requisição.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+    private static final Duration FEED_TIMEOUT = Duration.ofSeconds(5);
+    private static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
+    private final WebClient webClient;
+    private final boolean enabled;
+    private final long maxStalenessMillis;
+
+    // jti -> expiração do token (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // userId -> tokens emitidos antes de issuedBefore estão revogados
+    private final Map<UUID, Watermark> userWatermarks = new ConcurrentHashMap<>();
+
+    private volatile long version = 0;
+    private volatile long lastSyncMillis = 0;
+
+    public TokenRevocationList(WebClient.Builder webClientBuilder,
+                               @Value("${auth-service.url}") String authServiceUrl,
+                               @Value("${auth-service.service-token:}") String serviceToken,
+                               @Value("${auth-service.revocation-feed.enabled:true}") boolean enabled,
+                               @Value("${auth-service.revocation-feed.max-staleness-ms:30000}") long maxStalenessMillis) {
+        // O feed só é servido a quem apresenta a credencial compartilhada dos serviços
+        this.webClient = webClientBuilder.baseUrl(authServiceUrl)
+                .defaultHeader(SERVICE_TOKEN_HEADER, serviceToken)
+                .build();
+        this.enabled = enabled;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${auth-service.revocation-feed.poll-interval-ms:5000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            RevocationFeedResponse feed = webClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/api/auth/revocations")
+                            .queryParam("since", version)
+                            .build())
+                    .retrieve()
+                    .bodyToMono(RevocationFeedResponse.class)
+                    .block(FEED_TIMEOUT);
+            if (feed != null) {
+                apply(feed);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not refresh token revocation feed: {}", e.getMessage());
+        }
+        purgeExpired();
+    }
+
+    void apply(RevocationFeedResponse feed) {
+        if (feed.getEntries() != null) {
+            for (RevocationEntryResponse entry : feed.getEntries()) {
+                if (entry.getJti() != null) {
+                    revokedTokens.put(entry.getJti(), entry.getExpiresAt());
+                } else if (entry.getUserId() != null && entry.getIssuedBefore() != null) {
+                    Watermark watermark = new Watermark(entry.getIssuedBefore(), entry.getExpiresAt());
+                    userWatermarks.merge(entry.getUserId(), watermark, Watermark::max);
+                }
+            }
+        }
+        version = Math.max(version, feed.getVersion());
+        lastSyncMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Retorna true se o token aparece no feed de revogação (por jti ou pela marca d'água do usuário).
+     */
+    public boolean isRevoked(TokenPrincipal principal) {
+        String jti = principal.getTokenId();
+        if (jti != null && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+        if (principal.getUserId() == null || principal.getIssuedAt() == null) {
+            return false;
+        }
+        Watermark watermark = userWatermarks.get(principal.getUserId());
+        return watermark != null && principal.getIssuedAt() < watermark.issuedBefore();
+    }
+
+    /**
+     * A cópia local só é confiável se a última sincronização for recente.
+     */
+    public boolean isInSync() {
+        return enabled && System.currentTimeMillis() - lastSyncMillis <= maxStalenessMillis;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        userWatermarks.values().removeIf(watermark -> watermark.expiresAt() <= now);
+    }
+
+    private record Watermark(long issuedBefore, long expiresAt) {
+        static Watermark max(Watermark a, Watermark b) {
+            return a.issuedBefore() >= b.issuedBefore() ? a : b;
+        }
+    }
+}
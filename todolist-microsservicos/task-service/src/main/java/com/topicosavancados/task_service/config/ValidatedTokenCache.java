@@ -0,0 +1,123 @@
+package com.topicosavancados.task_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache local de tokens já validados pelo AuthService.
+ * A chave é o SHA-256 do token (o token em si nunca fica em memória) e cada entrada
+ * expira no menor valor entre o TTL configurado e o claim "exp" do token.
+ */
+@Component
+public class ValidatedTokenCache {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, Long> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ValidatedTokenCache(@Value("${jwt.validation-cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${jwt.validation-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+        // LRU: a entrada acessada há mais tempo é descartada quando o limite é atingido
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > ValidatedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Retorna true se o token foi validado remotamente e a entrada ainda não expirou.
+     */
+    public boolean isValidated(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Long expiresAt = entries.get(key);
+            if (expiresAt != null && expiresAt > now) {
+                hits.incrementAndGet();
+                return true;
+            }
+            if (expiresAt != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Registra um token validado com sucesso. Tokens já expirados não são armazenados.
+     */
+    public void markValidated(String token, Date tokenExpiration) {
+        if (ttlMillis <= 0 || maxSize <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        String key = hash(token);
+        synchronized (entries) {
+            entries.put(key, expiresAt);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("size", size());
+        metrics.put("maxSize", maxSize);
+        metrics.put("ttlMs", ttlMillis);
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        return metrics;
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
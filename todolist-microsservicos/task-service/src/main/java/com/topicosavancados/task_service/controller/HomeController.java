@@ -1,13 +1,18 @@
 package com.topicosavancados.task_service.controller;
 
+import com.topicosavancados.task_service.config.ValidatedTokenCache;
+import com.topicosavancados.task_service.dto.HomeDashboardResponse;
 import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.service.HomeDashboardService;
+import com.topicosavancados.task_service.service.QuoteProvider;
 import com.topicosavancados.task_service.service.TaskService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -15,15 +20,21 @@ import java.util.List;
 import java.util.Map;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/home")
 public class HomeController {
 
-    private final WebClient webClient;
+    private final QuoteProvider quoteProvider;
+    private final ValidatedTokenCache validatedTokenCache;
     private final TaskService taskService;
+    private final HomeDashboardService homeDashboardService;
 
-    public HomeController(WebClient.Builder webClientBuilder, TaskService taskService) {
-        this.webClient = webClientBuilder.baseUrl("https://favqs.com/api").build();
+    public HomeController(QuoteProvider quoteProvider, TaskService taskService,
+                          HomeDashboardService homeDashboardService, ValidatedTokenCache validatedTokenCache) {
+        this.quoteProvider = quoteProvider;
+        this.validatedTokenCache = validatedTokenCache;
         this.taskService = taskService;
+        this.homeDashboardService = homeDashboardService;
     }
 
     @GetMapping("/user-info")
@@ -34,14 +45,10 @@ public class HomeController {
 
         String username = authentication.getName();
 
-        // Ao invés de toda a lógica inline do webClient, chamamos o método auxiliar:
-        String idea = fetchQuoteFromFavQs();
+        // Frase vem do cache em memória; a busca na FavQs roda em segundo plano
+        String idea = quoteProvider.currentQuote();
 
-        // Verifica se o usuário tem ROLE_ADMIN
-        List<String> roles = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .toList();
-        String role = roles.contains("ROLE_ADMIN") ? "ADMIN" : "USER";
+        String role = resolveRole(authentication);
 
         Map<String, Object> response = new HashMap<>();
         response.put("username", username);
@@ -61,41 +68,33 @@ public class HomeController {
     }
 
     /**
-     * Método protegido para buscar a quote no FavQs.
+     * Tudo que a tela inicial precisa (usuário, frase, tarefas do dia e contagens) em uma requisição.
      */
-    protected String fetchQuoteFromFavQs() {
-        try {
-            return webClient.get()
-                    .uri("/qotd")
-                    .retrieve()
-                    .bodyToMono(FavQuoteResponse.class)
-                    .map(response -> response.getQuote().getBody())
-                    .block();
-        } catch (Exception e) {
-            System.err.println("Error fetching idea: " + e.getMessage());
-            return "Failed to load ideas. Please try again later.";
+    @GetMapping("/dashboard")
+    public HomeDashboardResponse getDashboard(Authentication authentication) {
+        if (authentication == null) {
+            throw new IllegalStateException("Authentication object is null!");
         }
+        return homeDashboardService.getDashboard(authentication.getName(), resolveRole(authentication));
     }
 
-    static class FavQuoteResponse {
-        private Quote quote;
-        static class Quote {
-            private String body;
-            public String getBody() {
-                return body;
-            }
-
-            public void setBody(String body) {
-                this.body = body;
-            }
-        }
-        public Quote getQuote() {
-            return quote;
-        }
+    @GetMapping("/quote-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getQuoteMetrics() {
+        return quoteProvider.getMetrics();
+    }
 
-        public void setQuote(Quote quote) {
-            this.quote = quote;
-        }
+    @GetMapping("/cache-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getCacheMetrics() {
+        return Map.of("validatedTokens", validatedTokenCache.getMetrics());
     }
 
+    // Verifica se o usuário tem ROLE_ADMIN
+    private String resolveRole(Authentication authentication) {
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return roles.contains("ROLE_ADMIN") ? "ADMIN" : "USER";
+    }
 }
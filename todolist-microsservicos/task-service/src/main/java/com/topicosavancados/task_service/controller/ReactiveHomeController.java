@@ -0,0 +1,133 @@
+package com.topicosavancados.task_service.controller;
+
+import com.topicosavancados.task_service.config.ValidatedTokenCache;
+import com.topicosavancados.task_service.dto.HomeDashboardResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.service.QuoteProvider;
+import com.topicosavancados.task_service.service.ReactiveTaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Mesma API do {@link HomeController}, servida pelo WebFlux no perfil "reactive".
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/home")
+public class ReactiveHomeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveHomeController.class);
+
+    private final QuoteProvider quoteProvider;
+    private final ValidatedTokenCache validatedTokenCache;
+    private final ReactiveTaskService taskService;
+    private final Duration sourceTimeout;
+
+    public ReactiveHomeController(QuoteProvider quoteProvider, ReactiveTaskService taskService,
+                                  ValidatedTokenCache validatedTokenCache,
+                                  @Value("${home.dashboard.source-timeout-ms:2000}") long sourceTimeoutMillis) {
+        this.quoteProvider = quoteProvider;
+        this.validatedTokenCache = validatedTokenCache;
+        this.taskService = taskService;
+        this.sourceTimeout = Duration.ofMillis(sourceTimeoutMillis);
+    }
+
+    @GetMapping("/user-info")
+    public Map<String, Object> getUserInfo(Authentication authentication) {
+        if (authentication == null) {
+            throw new IllegalStateException("Authentication object is null!");
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("username", authentication.getName());
+        response.put("idea", quoteProvider.currentQuote());
+        response.put("role", resolveRole(authentication));
+        return response;
+    }
+
+    @GetMapping("/tasks/today")
+    public Flux<Task> getTodayTasks(Authentication authentication) {
+        if (authentication == null) {
+            throw new IllegalStateException("Authentication object is null!");
+        }
+        return taskService.getTasksByDueDate(authentication.getName(), LocalDate.now());
+    }
+
+    /**
+     * Tarefas do dia e contagens consultadas em paralelo, cada uma com timeout próprio;
+     * fonte que falha ou demora demais sai como null e listada em "unavailable".
+     */
+    @GetMapping("/dashboard")
+    public Mono<HomeDashboardResponse> getDashboard(Authentication authentication) {
+        if (authentication == null) {
+            throw new IllegalStateException("Authentication object is null!");
+        }
+        String username = authentication.getName();
+        Mono<Optional<List<Task>>> todayTasks = optional("todayTasks",
+                taskService.getTasksByDueDate(username, LocalDate.now()).collectList());
+        Mono<Optional<TaskStatsResponse>> taskCounts = optional("taskCounts",
+                taskService.getUserTaskStats(username));
+
+        return Mono.zip(todayTasks, taskCounts).map(sources -> {
+            HomeDashboardResponse response = new HomeDashboardResponse();
+            response.setUsername(username);
+            response.setRole(resolveRole(authentication));
+            response.setIdea(quoteProvider.currentQuote());
+            response.setTodayTasks(sources.getT1().orElse(null));
+            response.setTaskCounts(sources.getT2().orElse(null));
+            if (sources.getT1().isEmpty()) {
+                response.getUnavailable().add("todayTasks");
+            }
+            if (sources.getT2().isEmpty()) {
+                response.getUnavailable().add("taskCounts");
+            }
+            return response;
+        });
+    }
+
+    @GetMapping("/quote-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getQuoteMetrics() {
+        return quoteProvider.getMetrics();
+    }
+
+    @GetMapping("/cache-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getCacheMetrics() {
+        return Map.of("validatedTokens", validatedTokenCache.getMetrics());
+    }
+
+    private <T> Mono<Optional<T>> optional(String source, Mono<T> mono) {
+        return mono.timeout(sourceTimeout)
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    logger.warn("Home dashboard source '{}' failed: {}", source, e.getMessage());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    // Verifica se o usuário tem ROLE_ADMIN
+    private String resolveRole(Authentication authentication) {
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return roles.contains("ROLE_ADMIN") ? "ADMIN" : "USER";
+    }
+}
@@ -0,0 +1,71 @@
+package com.topicosavancados.task_service.controller;
+
+import com.topicosavancados.task_service.dto.TaskPageRequest;
+import com.topicosavancados.task_service.dto.TaskPageResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.service.ReactiveTaskService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Mesma API do {@link TaskController}, servida pelo WebFlux no perfil "reactive".
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/tasks")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @GetMapping
+    public Mono<TaskPageResponse> getTasks(@ModelAttribute TaskPageRequest pageRequest, Authentication authentication) {
+        return taskService.getTasksPage(authentication.getName(), pageRequest);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Task> createTask(@RequestBody @Valid Task task, Authentication authentication) {
+        return taskService.createTask(task, authentication);
+    }
+
+    @PutMapping("/edit/{id}")
+    public Mono<Task> updateTask(@PathVariable UUID id, @RequestBody @Valid Task task) {
+        return taskService.updateTask(id, task);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Task> getTaskById(@PathVariable UUID id) {
+        return taskService.getTaskById(id);
+    }
+
+    @DeleteMapping("/delete/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteTask(@PathVariable UUID id) {
+        return taskService.deleteTask(id);
+    }
+
+    @GetMapping("/admin/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<TaskStatsResponse> getTaskStats() {
+        return taskService.getTaskStats();
+    }
+
+    // Cursor inválido ou parâmetro de ordenação desconhecido
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
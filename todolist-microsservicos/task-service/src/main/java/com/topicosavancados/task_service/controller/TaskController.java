@@ -1,18 +1,22 @@
 package com.topicosavancados.task_service.controller;
 
+import com.topicosavancados.task_service.dto.TaskPageRequest;
+import com.topicosavancados.task_service.dto.TaskPageResponse;
 import com.topicosavancados.task_service.dto.TaskStatsResponse;
 import com.topicosavancados.task_service.model.Task;
 import com.topicosavancados.task_service.service.TaskService;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/tasks")
 public class TaskController {
 
@@ -22,11 +26,11 @@ public class TaskController {
         this.taskService = taskService;
     }
 
-    // Retorna todas as tarefas do usuário autenticado
+    // Retorna uma página das tarefas do usuário autenticado (filtros, ordenação e cursor via query string)
     @GetMapping
-    public List<Task> getTasks(Authentication authentication) {
+    public TaskPageResponse getTasks(@ModelAttribute TaskPageRequest pageRequest, Authentication authentication) {
         String username = authentication.getName();
-        return taskService.getAllTasks(username);
+        return taskService.getTasksPage(username, pageRequest);
     }
 
     // Cria uma nova tarefa
@@ -56,11 +60,12 @@ public class TaskController {
     @GetMapping("/admin/stats")
     @PreAuthorize("hasRole('ADMIN')")
     public TaskStatsResponse getTaskStats() {
-        long totalTasks = taskService.getTotalTasks();
-        long pendingTasks = taskService.getPendingTasks();
-        long inProgressTasks = taskService.getInProgressTasks();
-        long completedTasks = taskService.getCompletedTasks();
-        
-        return new TaskStatsResponse(totalTasks, pendingTasks, inProgressTasks, completedTasks);
+        return taskService.getTaskStats();
     }
-}
\ No newline at end of file
+
+    // Cursor inválido ou parâmetro de ordenação desconhecido
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,69 @@
+package com.topicosavancados.task_service.dto;
+
+import com.topicosavancados.task_service.model.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HomeDashboardResponse {
+    private String username;
+    private String role;
+    private String idea;
+    private List<Task> todayTasks; // null se a fonte não respondeu a tempo
+    private TaskStatsResponse taskCounts; // null se a fonte não respondeu a tempo
+    private List<String> unavailable = new ArrayList<>(); // seções que ficaram de fora da resposta
+
+    public HomeDashboardResponse() {}
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public String getIdea() {
+        return idea;
+    }
+
+    public void setIdea(String idea) {
+        this.idea = idea;
+    }
+
+    public List<Task> getTodayTasks() {
+        return todayTasks;
+    }
+
+    public void setTodayTasks(List<Task> todayTasks) {
+        this.todayTasks = todayTasks;
+    }
+
+    public TaskStatsResponse getTaskCounts() {
+        return taskCounts;
+    }
+
+    public void setTaskCounts(TaskStatsResponse taskCounts) {
+        this.taskCounts = taskCounts;
+    }
+
+    public List<String> getUnavailable() {
+        return unavailable;
+    }
+
+    public void setUnavailable(List<String> unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    public boolean isPartial() {
+        return !unavailable.isEmpty();
+    }
+}
@@ -0,0 +1,31 @@
+package com.topicosavancados.task_service.dto;
+
+import java.util.List;
+
+public class RevocationFeedResponse {
+    private long version;
+    private List<RevocationEntryResponse> entries;
+
+    public RevocationFeedResponse() {}
+
+    public RevocationFeedResponse(long version, List<RevocationEntryResponse> entries) {
+        this.version = version;
+        this.entries = entries;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public List<RevocationEntryResponse> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<RevocationEntryResponse> entries) {
+        this.entries = entries;
+    }
+}
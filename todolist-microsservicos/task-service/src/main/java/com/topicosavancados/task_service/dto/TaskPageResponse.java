@@ -0,0 +1,43 @@
+package com.topicosavancados.task_service.dto;
+
+import com.topicosavancados.task_service.model.Task;
+
+import java.util.List;
+
+public class TaskPageResponse {
+    private List<Task> items;
+    private String nextCursor; // null quando não há mais páginas
+    private boolean hasMore;
+
+    public TaskPageResponse() {}
+
+    public TaskPageResponse(List<Task> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<Task> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Task> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
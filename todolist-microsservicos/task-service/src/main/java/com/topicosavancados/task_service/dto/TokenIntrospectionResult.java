@@ -0,0 +1,69 @@
+package com.topicosavancados.task_service.dto;
+
+import java.util.UUID;
+
+/**
+ * Validade de um token e, quando ativo, seus claims. Tokens inválidos, expirados ou revogados
+ * retornam apenas active=false.
+ */
+public class TokenIntrospectionResult {
+    private boolean active;
+    private String username;
+    private UUID userId;
+    private String role;
+    private Long expiresAt;
+
+    public TokenIntrospectionResult() {}
+
+    public TokenIntrospectionResult(boolean active, String username, UUID userId, String role, Long expiresAt) {
+        this.active = active;
+        this.username = username;
+        this.userId = userId;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    public static TokenIntrospectionResult inactive() {
+        return new TokenIntrospectionResult(false, null, null, null, null);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -7,10 +7,18 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // findByUsername, findByUsernameAndDueDate e listagem paginada por data (keyset: due_date, id)
+        @Index(name = "idx_tasks_username_due_date", columnList = "username, due_date, id"),
+        // listagem paginada ordenada por título
+        @Index(name = "idx_tasks_username_title", columnList = "username, title, id")
+})
+// Mapeamento da mesma tabela para o Spring Data R2DBC (perfil "reactive")
+@org.springframework.data.relational.core.mapping.Table("tasks")
 public class Task {
 
     @Id
+    @org.springframework.data.annotation.Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
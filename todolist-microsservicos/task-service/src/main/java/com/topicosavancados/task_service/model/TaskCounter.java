@@ -0,0 +1,43 @@
+package com.topicosavancados.task_service.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Contador mantido incrementalmente junto com as escritas em tasks
+ * (uma das linhas de um status, ex.: "status:TODO:03").
+ */
+@Entity
+@Table(name = "task_counters")
+public class TaskCounter {
+
+    @Id
+    @Column(name = "counter_key", length = 64)
+    private String counterKey;
+
+    @Column(name = "counter_value", nullable = false)
+    private long counterValue;
+
+    public TaskCounter() {
+    }
+
+    public TaskCounter(String counterKey, long counterValue) {
+        this.counterKey = counterKey;
+        this.counterValue = counterValue;
+    }
+
+    public String getCounterKey() {
+        return counterKey;
+    }
+
+    public void setCounterKey(String counterKey) {
+        this.counterKey = counterKey;
+    }
+
+    public long getCounterValue() {
+        return counterValue;
+    }
+
+    public void setCounterValue(long counterValue) {
+        this.counterValue = counterValue;
+    }
+}
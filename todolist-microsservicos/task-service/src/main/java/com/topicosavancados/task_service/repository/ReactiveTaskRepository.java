@@ -0,0 +1,168 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.model.TaskStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Acesso R2DBC à tabela tasks, usado apenas no perfil "reactive".
+ * É uma classe sobre o R2dbcEntityTemplate, e não uma interface de repositório, para que
+ * o Spring Data JPA não tente implementá-la quando o R2DBC não está ativo.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTaskRepository {
+
+    private final R2dbcEntityTemplate template;
+
+    public ReactiveTaskRepository(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    public Mono<Task> findById(UUID id) {
+        return template.selectOne(Query.query(Criteria.where("id").is(id)), Task.class);
+    }
+
+    public Flux<Task> findByUsernameAndDueDate(String username, LocalDate dueDate) {
+        return template.select(Task.class)
+                .matching(Query.query(Criteria.where("username").is(username).and("dueDate").is(dueDate)))
+                .all();
+    }
+
+    /**
+     * Mesma keyset pagination de {@link TaskRepositoryCustom#findPage}, sem bloquear:
+     * primeiro as tarefas com valor na coluna de ordenação e, se a página não encheu, as com valor nulo.
+     */
+    public Flux<Task> findPage(String username, TaskFilter filter, TaskSortField sortField, boolean descending,
+                               Object afterValue, UUID afterId, int limit) {
+        // Cursor com valor nulo: a parte com valores já foi toda entregue
+        Flux<Task> withValue = afterId == null || afterValue != null
+                ? findWithValue(username, filter, sortField, descending, afterValue, afterId, limit)
+                : Flux.empty();
+        if (filter.excludesNulls(sortField)) {
+            return withValue;
+        }
+        UUID afterNullId = afterValue == null ? afterId : null;
+        return withValue.collectList().flatMapMany(found -> found.size() < limit
+                ? Flux.fromIterable(found).concatWith(
+                        findWithNullValue(username, filter, sortField, descending, afterNullId, limit - found.size()))
+                : Flux.fromIterable(found));
+    }
+
+    private Flux<Task> findWithValue(String username, TaskFilter filter, TaskSortField sortField, boolean descending,
+                                     Object afterValue, UUID afterId, int limit) {
+        String property = sortField.getProperty();
+        Criteria criteria = baseCriteria(username, filter);
+        if (afterId != null) {
+            // "coluna >= afterValue" delimita a faixa no índice; o OR só desempata dentro do mesmo valor
+            Criteria range = descending
+                    ? Criteria.where(property).lessThanOrEquals(afterValue)
+                    : Criteria.where(property).greaterThanOrEquals(afterValue);
+            Criteria beyondValue = descending
+                    ? Criteria.where(property).lessThan(afterValue)
+                    : Criteria.where(property).greaterThan(afterValue);
+            criteria = criteria.and(range).and(beyondValue.or(afterIdCriteria(afterId, descending)));
+        } else {
+            criteria = criteria.and(property).isNotNull();
+        }
+
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(new Sort.Order(direction, property), new Sort.Order(direction, "id"));
+        return template.select(Task.class)
+                .matching(Query.query(criteria).sort(sort).limit(limit))
+                .all();
+    }
+
+    private Flux<Task> findWithNullValue(String username, TaskFilter filter, TaskSortField sortField,
+                                         boolean descending, UUID afterId, int limit) {
+        Criteria criteria = baseCriteria(username, filter).and(sortField.getProperty()).isNull();
+        if (afterId != null) {
+            criteria = criteria.and(afterIdCriteria(afterId, descending));
+        }
+
+        Sort sort = Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, "id");
+        return template.select(Task.class)
+                .matching(Query.query(criteria).sort(sort).limit(limit))
+                .all();
+    }
+
+    private static Criteria baseCriteria(String username, TaskFilter filter) {
+        Criteria criteria = Criteria.where("username").is(username);
+
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            criteria = criteria.and("status").in(filter.getStatuses().stream().map(TaskStatus::name).toList());
+        }
+        if (filter.getPriority() != null) {
+            criteria = criteria.and("priority").is(filter.getPriority());
+        }
+        if (filter.getDueFrom() != null) {
+            criteria = criteria.and("dueDate").greaterThanOrEquals(filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            criteria = criteria.and("dueDate").lessThanOrEquals(filter.getDueTo());
+        }
+        return criteria;
+    }
+
+    private static Criteria afterIdCriteria(UUID afterId, boolean descending) {
+        return descending
+                ? Criteria.where("id").lessThan(afterId)
+                : Criteria.where("id").greaterThan(afterId);
+    }
+
+    /**
+     * Insere uma tarefa nova. O id é gerado aqui, já que a tabela não tem default para a coluna.
+     */
+    public Mono<Task> insert(Task task) {
+        task.setId(UUID.randomUUID());
+        return template.insert(task);
+    }
+
+    public Mono<Task> update(Task task) {
+        return template.update(task);
+    }
+
+    public Mono<Void> deleteById(UUID id) {
+        return template.delete(Query.query(Criteria.where("id").is(id)), Task.class).then();
+    }
+
+    /**
+     * Contagem por status; de um usuário ou, com username null, de todas as tarefas.
+     */
+    public Flux<TaskStatusCount> countGroupedByStatus(String username) {
+        DatabaseClient.GenericExecuteSpec spec = username == null
+                ? template.getDatabaseClient().sql("SELECT status, COUNT(*) AS total FROM tasks GROUP BY status")
+                : template.getDatabaseClient()
+                        .sql("SELECT status, COUNT(*) AS total FROM tasks WHERE username = :username GROUP BY status")
+                        .bind("username", username);
+        return spec.map((row, metadata) -> {
+            String status = row.get("status", String.class);
+            Number total = row.get("total", Number.class);
+            return (TaskStatusCount) new StatusTotal(status != null ? TaskStatus.valueOf(status) : null,
+                    total != null ? total.longValue() : 0L);
+        }).all();
+    }
+
+    private record StatusTotal(TaskStatus status, long total) implements TaskStatusCount {
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+    }
+}
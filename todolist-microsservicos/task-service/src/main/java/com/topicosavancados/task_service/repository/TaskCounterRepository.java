@@ -0,0 +1,18 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.TaskCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, String> {
+
+    // Incremento atômico no banco; retorna 0 se o contador ainda não existe.
+    // flushAutomatically garante que contadores recém-criados na transação já estejam no banco.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TaskCounter c SET c.counterValue = c.counterValue + :delta WHERE c.counterKey = :key")
+    int increment(@Param("key") String key, @Param("delta") long delta);
+}
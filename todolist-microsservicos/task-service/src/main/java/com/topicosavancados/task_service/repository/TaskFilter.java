@@ -0,0 +1,48 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filtros opcionais da listagem de tarefas. Campos nulos (ou lista vazia) não filtram.
+ */
+public class TaskFilter {
+
+    private final List<TaskStatus> statuses;
+    private final String priority;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+
+    public TaskFilter(List<TaskStatus> statuses, String priority, LocalDate dueFrom, LocalDate dueTo) {
+        this.statuses = statuses;
+        this.priority = priority;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+    }
+
+    public List<TaskStatus> getStatuses() {
+        return statuses;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    /**
+     * Um filtro de período na própria coluna de ordenação já descarta as tarefas sem data,
+     * então a listagem não precisa buscar a parte com valor nulo.
+     */
+    public boolean excludesNulls(TaskSortField sortField) {
+        return sortField == TaskSortField.DUE_DATE && (dueFrom != null || dueTo != null);
+    }
+}
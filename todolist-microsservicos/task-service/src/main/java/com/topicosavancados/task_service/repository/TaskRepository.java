@@ -1,8 +1,9 @@
 package com.topicosavancados.task_service.repository;
 
 import com.topicosavancados.task_service.model.Task;
-import com.topicosavancados.task_service.model.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -10,11 +11,18 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
     List<Task> findByUsername(String username);
 
     List<Task> findByUsernameAndDueDate(String username, LocalDate dueDate);
-    
-    // Admin methods
-    long countByStatus(TaskStatus status);
+
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t WHERE t.username = :username GROUP BY t.status")
+    List<TaskStatusCount> countByUsernameGroupedByStatus(@Param("username") String username);
+
+    // Todas as contagens do painel admin em uma única consulta
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t GROUP BY t.status")
+    List<TaskStatusCount> countGroupedByStatus();
+
+    @Query("SELECT t.userId AS userId, COUNT(t) AS total FROM Task t GROUP BY t.userId")
+    List<TaskUserCount> countGroupedByUserId();
 }
@@ -0,0 +1,20 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.Task;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Busca uma página de tarefas do usuário usando keyset pagination: em vez de OFFSET,
+     * a consulta continua a partir da última linha vista (afterValue, afterId).
+     * Ordena por sortField (nulos por último) e desempata pelo id. As tarefas com e sem valor em
+     * sortField são lidas em consultas separadas, para que cada uma percorra o índice por faixa.
+     *
+     * @param afterId id da última tarefa da página anterior, ou null para a primeira página
+     */
+    List<Task> findPage(String username, TaskFilter filter, TaskSortField sortField, boolean descending,
+                        Object afterValue, UUID afterId, int limit);
+}
@@ -0,0 +1,102 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A página é lida em duas partes, cada uma no formato que o índice (username, coluna, id) atende:
+ * primeiro as tarefas com valor na coluna de ordenação (faixa a partir do cursor, na ordem do índice)
+ * e, se a página não encheu, as tarefas com a coluna nula (ordenadas só pelo id).
+ * Um único "... OR coluna IS NULL ... NULLS LAST" impediria o banco de usar a coluna na busca pelo índice.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPage(String username, TaskFilter filter, TaskSortField sortField, boolean descending,
+                               Object afterValue, UUID afterId, int limit) {
+        List<Task> page = new ArrayList<>();
+        // Cursor com valor nulo: a parte com valores já foi toda entregue
+        if (afterId == null || afterValue != null) {
+            page.addAll(findWithValue(username, filter, sortField, descending, afterValue, afterId, limit));
+        }
+        if (page.size() < limit && !filter.excludesNulls(sortField)) {
+            UUID afterNullId = afterValue == null ? afterId : null;
+            page.addAll(findWithNullValue(username, filter, sortField, descending, afterNullId, limit - page.size()));
+        }
+        return page;
+    }
+
+    private List<Task> findWithValue(String username, TaskFilter filter, TaskSortField sortField, boolean descending,
+                                     Object afterValue, UUID afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = baseQuery(username, filter, params);
+        String column = "t." + sortField.getProperty();
+        String cmp = descending ? "<" : ">";
+        if (afterId != null) {
+            // "coluna >= :afterValue" delimita a faixa no índice; o OR só desempata dentro do mesmo valor
+            jpql.append(" and ").append(column).append(' ').append(cmp).append("= :afterValue")
+                    .append(" and (").append(column).append(' ').append(cmp).append(" :afterValue")
+                    .append(" or t.id ").append(cmp).append(" :afterId)");
+            params.put("afterValue", afterValue);
+            params.put("afterId", afterId);
+        } else {
+            jpql.append(" and ").append(column).append(" is not null");
+        }
+        String direction = descending ? "desc" : "asc";
+        jpql.append(" order by ").append(column).append(' ').append(direction).append(", t.id ").append(direction);
+        return execute(jpql, params, limit);
+    }
+
+    private List<Task> findWithNullValue(String username, TaskFilter filter, TaskSortField sortField,
+                                         boolean descending, UUID afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = baseQuery(username, filter, params);
+        jpql.append(" and t.").append(sortField.getProperty()).append(" is null");
+        if (afterId != null) {
+            jpql.append(" and t.id ").append(descending ? "<" : ">").append(" :afterId");
+            params.put("afterId", afterId);
+        }
+        jpql.append(" order by t.id ").append(descending ? "desc" : "asc");
+        return execute(jpql, params, limit);
+    }
+
+    private static StringBuilder baseQuery(String username, TaskFilter filter, Map<String, Object> params) {
+        StringBuilder jpql = new StringBuilder("select t from Task t where t.username = :username");
+        params.put("username", username);
+
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            jpql.append(" and t.status in :statuses");
+            params.put("statuses", filter.getStatuses());
+        }
+        if (filter.getPriority() != null) {
+            jpql.append(" and t.priority = :priority");
+            params.put("priority", filter.getPriority());
+        }
+        if (filter.getDueFrom() != null) {
+            jpql.append(" and t.dueDate >= :dueFrom");
+            params.put("dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            jpql.append(" and t.dueDate <= :dueTo");
+            params.put("dueTo", filter.getDueTo());
+        }
+        return jpql;
+    }
+
+    private List<Task> execute(StringBuilder jpql, Map<String, Object> params, int limit) {
+        TypedQuery<Task> query = entityManager.createQuery(jpql.toString(), Task.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.Task;
+
+import java.time.LocalDate;
+
+/**
+ * Campos aceitos para ordenação da listagem paginada de tarefas.
+ * Cada campo sabe ler o valor de uma tarefa e converter esse valor de/para texto (usado no cursor).
+ */
+public enum TaskSortField {
+
+    DUE_DATE("dueDate") {
+        @Override
+        public Object valueOf(Task task) {
+            return task.getDueDate();
+        }
+
+        @Override
+        public Object parse(String value) {
+            return LocalDate.parse(value);
+        }
+    },
+    TITLE("title") {
+        @Override
+        public Object valueOf(Task task) {
+            return task.getTitle();
+        }
+
+        @Override
+        public Object parse(String value) {
+            return value;
+        }
+    };
+
+    private final String property;
+
+    TaskSortField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public abstract Object valueOf(Task task);
+
+    public abstract Object parse(String value);
+
+    public static TaskSortField fromParam(String param) {
+        for (TaskSortField field : values()) {
+            if (field.property.equalsIgnoreCase(param)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort field: " + param);
+    }
+}
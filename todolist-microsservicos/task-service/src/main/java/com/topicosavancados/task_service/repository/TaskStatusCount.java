@@ -0,0 +1,12 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.TaskStatus;
+
+/**
+ * Projeção da contagem de tarefas agrupada por status.
+ */
+public interface TaskStatusCount {
+    TaskStatus getStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,12 @@
+package com.topicosavancados.task_service.repository;
+
+import java.util.UUID;
+
+/**
+ * Projeção da contagem de tarefas agrupada por usuário.
+ */
+public interface TaskUserCount {
+    UUID getUserId();
+
+    long getTotal();
+}
@@ -0,0 +1,130 @@
+package com.topicosavancados.task_service.service;
+
+import com.topicosavancados.task_service.dto.HomeDashboardResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
+import com.topicosavancados.task_service.model.Task;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Monta a tela inicial em uma única requisição. As consultas independentes (tarefas do dia e
+ * contagem por status) rodam em paralelo, cada uma com seu próprio timeout; a latência total
+ * fica próxima da mais lenta delas e não da soma. Se uma fonte falhar ou estourar o timeout,
+ * a resposta sai parcial, com a seção listada em "unavailable".
+ */
+@Service
+@Profile("!reactive")
+public class HomeDashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HomeDashboardService.class);
+
+    static final String TODAY_TASKS = "todayTasks";
+    static final String TASK_COUNTS = "taskCounts";
+
+    private final TaskService taskService;
+    private final QuoteProvider quoteProvider;
+    private final long sourceTimeoutMillis;
+    private final Executor executor;
+
+    public HomeDashboardService(TaskService taskService,
+                                QuoteProvider quoteProvider,
+                                @Value("${home.dashboard.source-timeout-ms:2000}") long sourceTimeoutMillis,
+                                @Value("${home.dashboard.pool-size:8}") int poolSize,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.taskService = taskService;
+        this.quoteProvider = quoteProvider;
+        this.sourceTimeoutMillis = sourceTimeoutMillis;
+        // Mesma regra do Spring Boot: threads virtuais só quando habilitadas e o runtime é Java 21+
+        this.executor = virtualThreads && Runtime.version().feature() >= 21
+                ? virtualThreadExecutor()
+                : boundedPool(poolSize);
+    }
+
+    // Uma thread virtual por fonte; o limite de concorrência com o banco fica com o pool JDBC
+    private static Executor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("home-dashboard-");
+        virtualExecutor.setVirtualThreads(true);
+        return virtualExecutor;
+    }
+
+    // Pool e fila limitados: sob sobrecarga a fonte é recusada e a resposta sai parcial,
+    // em vez de acumular trabalho sem limite
+    private static ExecutorService boundedPool(int poolSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "home-dashboard-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public HomeDashboardResponse getDashboard(String username, String role) {
+        LocalDate today = LocalDate.now();
+        CompletableFuture<List<Task>> todayTasks =
+                submit(TODAY_TASKS, () -> taskService.getTasksByDueDate(username, today));
+        CompletableFuture<TaskStatsResponse> taskCounts =
+                submit(TASK_COUNTS, () -> taskService.getUserTaskStats(username));
+
+        HomeDashboardResponse response = new HomeDashboardResponse();
+        response.setUsername(username);
+        response.setRole(role);
+        // A frase já vem do cache em memória, não precisa de outra thread
+        response.setIdea(quoteProvider.currentQuote());
+        response.setTodayTasks(await(TODAY_TASKS, todayTasks, response));
+        response.setTaskCounts(await(TASK_COUNTS, taskCounts, response));
+        return response;
+    }
+
+    private <T> CompletableFuture<T> submit(String source, Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor)
+                    .orTimeout(sourceTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T await(String source, CompletableFuture<T> future, HomeDashboardResponse response) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                logger.warn("Home dashboard source '{}' timed out after {} ms", source, sourceTimeoutMillis);
+            } else {
+                logger.warn("Home dashboard source '{}' failed: {}", source, cause.getMessage());
+            }
+            response.getUnavailable().add(source);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.topicosavancados.task_service.service;
+
+import com.topicosavancados.task_service.dto.TaskPageRequest;
+import com.topicosavancados.task_service.dto.TaskPageResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.model.TaskStatus;
+import com.topicosavancados.task_service.repository.ReactiveTaskRepository;
+import com.topicosavancados.task_service.repository.TaskFilter;
+import com.topicosavancados.task_service.repository.TaskSortField;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Versão não bloqueante do {@link TaskService} (perfil "reactive"), com as mesmas regras.
+ * Os contadores incrementais do painel admin são da pilha JPA; aqui as estatísticas
+ * vêm direto do GROUP BY status.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    public Mono<TaskPageResponse> getTasksPage(String username, TaskPageRequest request) {
+        int limit = Math.max(1, Math.min(request.getLimit(), TaskService.MAX_PAGE_SIZE));
+        TaskSortField sortField;
+        boolean descending = "desc".equalsIgnoreCase(request.getDirection());
+        Object afterValue = null;
+        UUID afterId = null;
+        try {
+            sortField = TaskSortField.fromParam(request.getSort());
+            if (request.getCursor() != null && !request.getCursor().isBlank()) {
+                TaskCursor cursor = TaskCursor.decode(request.getCursor());
+                if (cursor.getSortField() != sortField || cursor.isDescending() != descending) {
+                    throw new IllegalArgumentException("Cursor does not match the requested sort order");
+                }
+                afterValue = cursor.getSortValue();
+                afterId = cursor.getId();
+            }
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        TaskFilter filter = new TaskFilter(request.getStatus(), request.getPriority(),
+                request.getDueFrom(), request.getDueTo());
+        // Busca uma linha a mais para saber se existe próxima página
+        return taskRepository.findPage(username, filter, sortField, descending, afterValue, afterId, limit + 1)
+                .collectList()
+                .map(tasks -> {
+                    boolean hasMore = tasks.size() > limit;
+                    List<Task> items = hasMore ? tasks.subList(0, limit) : tasks;
+                    String nextCursor = hasMore
+                            ? TaskCursor.after(items.get(items.size() - 1), sortField, descending).encode()
+                            : null;
+                    return new TaskPageResponse(items, nextCursor, hasMore);
+                });
+    }
+
+    public Flux<Task> getTasksByDueDate(String username, LocalDate dueDate) {
+        return taskRepository.findByUsernameAndDueDate(username, dueDate);
+    }
+
+    public Mono<Task> createTask(Task task, Authentication authentication) {
+        Object details = authentication.getDetails();
+        if (!(details instanceof UUID userId)) {
+            return Mono.error(new IllegalStateException("Invalid or missing userId in authentication details"));
+        }
+        task.setUsername(authentication.getName());
+        task.setUserId(userId);
+        if (task.getStatus() == null) {
+            task.setStatus(TaskStatus.TODO);
+        }
+        return taskRepository.insert(task);
+    }
+
+    public Mono<Task> updateTask(UUID taskId, Task updatedTask) {
+        return getTaskById(taskId).flatMap(existingTask -> {
+            existingTask.setTitle(updatedTask.getTitle());
+            existingTask.setDescription(updatedTask.getDescription());
+            existingTask.setDueDate(updatedTask.getDueDate());
+            existingTask.setStatus(updatedTask.getStatus());
+            existingTask.setPriority(updatedTask.getPriority());
+            return taskRepository.update(existingTask);
+        });
+    }
+
+    public Mono<Task> getTaskById(UUID taskId) {
+        return taskRepository.findById(taskId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Task not found with ID: " + taskId)));
+    }
+
+    public Mono<Void> deleteTask(UUID taskId) {
+        return taskRepository.deleteById(taskId);
+    }
+
+    public Mono<TaskStatsResponse> getTaskStats() {
+        return taskRepository.countGroupedByStatus(null).collectList().map(TaskService::toStats);
+    }
+
+    public Mono<TaskStatsResponse> getUserTaskStats(String username) {
+        return taskRepository.countGroupedByStatus(username).collectList().map(TaskService::toStats);
+    }
+}
@@ -0,0 +1,321 @@
+package com.topicosavancados.task_service.service;
+
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.model.TaskCounter;
+import com.topicosavancados.task_service.model.TaskStatus;
+import com.topicosavancados.task_service.repository.TaskCounterRepository;
+import com.topicosavancados.task_service.repository.TaskRepository;
+import com.topicosavancados.task_service.repository.TaskStatusCount;
+import com.topicosavancados.task_service.repository.TaskUserCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contadores de tarefas por status e por usuário, atualizados nas mesmas transações que criam,
+ * alteram ou excluem tarefas. Cada status é dividido em {@code task-counters.shards} linhas
+ * ("status:TODO:03") e cada escrita incrementa uma delas ao acaso, para que as escritas de tarefas
+ * não se serializem em uma única linha; o contador de um usuário ("user:&lt;id&gt;") é uma linha só.
+ * O espelho em memória (LongAdder) recebe cada delta após o commit e responde às leituras sem SQL.
+ * Uma reconciliação periódica compara os contadores com a tabela tasks, corrige a diferença e
+ * realinha o espelho, que também passa a refletir as escritas feitas por outras instâncias.
+ */
+@Service
+@Profile("!reactive")
+public class TaskCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounterService.class);
+    private static final String STATUS_PREFIX = "status:";
+    private static final String USER_PREFIX = "user:";
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate newTransaction;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate transaction;
+    private final int shards;
+
+    // Espelho por chave lógica ("status:TODO", "user:<id>"). Os deltas pós-commit usam o lock de leitura
+    // (compartilhado); a troca do espelho na reconciliação usa o de escrita
+    private volatile Map<String, LongAdder> mirror = new ConcurrentHashMap<>();
+    private Map<String, LongAdder> sinceSnapshot;
+    private final ReadWriteLock mirrorLock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    public TaskCounterService(TaskCounterRepository taskCounterRepository, TaskRepository taskRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${task-counters.shards:16}") int shards) {
+        this.taskCounterRepository = taskCounterRepository;
+        this.taskRepository = taskRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Contadores e contagem lidos no mesmo snapshot, sem travar linhas
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.shards = Math.max(1, shards);
+    }
+
+    static String shardKey(TaskStatus status, int shard) {
+        return String.format("%s%s:%02d", STATUS_PREFIX, status.name(), shard);
+    }
+
+    static String statusKey(TaskStatus status) {
+        return STATUS_PREFIX + status.name();
+    }
+
+    static String userKey(UUID userId) {
+        return USER_PREFIX + userId;
+    }
+
+    public void onCreated(Task task) {
+        if (task.getStatus() != null) {
+            adjust(task.getStatus(), 1);
+        }
+        if (task.getUserId() != null) {
+            adjust(userKey(task.getUserId()), userKey(task.getUserId()), 1);
+        }
+    }
+
+    public void onStatusChanged(TaskStatus oldStatus, TaskStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        // Sempre na ordem dos status (a mesma ordem de chaves em que a reconciliação aplica as correções),
+        // para que duas transações nunca esperem uma pela outra em ordens opostas
+        if (oldStatus != null && newStatus != null && newStatus.name().compareTo(oldStatus.name()) < 0) {
+            adjust(newStatus, 1);
+            adjust(oldStatus, -1);
+            return;
+        }
+        if (oldStatus != null) {
+            adjust(oldStatus, -1);
+        }
+        if (newStatus != null) {
+            adjust(newStatus, 1);
+        }
+    }
+
+    public void onDeleted(Task task) {
+        if (task.getStatus() != null) {
+            adjust(task.getStatus(), -1);
+        }
+        if (task.getUserId() != null) {
+            adjust(userKey(task.getUserId()), userKey(task.getUserId()), -1);
+        }
+    }
+
+    private void adjust(TaskStatus status, long delta) {
+        adjust(shardKey(status, ThreadLocalRandom.current().nextInt(shards)), statusKey(status), delta);
+    }
+
+    private void adjust(String rowKey, String mirrorKey, long delta) {
+        if (taskCounterRepository.increment(rowKey, delta) == 0) {
+            // Linha ainda não criada (primeira tarefa do usuário, ou escrita antes da primeira reconciliação)
+            ensureRow(rowKey);
+            taskCounterRepository.increment(rowKey, delta);
+        }
+        // O espelho só reflete a alteração se a transação confirmar
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToMirror(mirrorKey, delta);
+                }
+            });
+        } else {
+            addToMirror(mirrorKey, delta);
+        }
+    }
+
+    private void addToMirror(String key, long delta) {
+        mirrorLock.readLock().lock();
+        try {
+            mirror.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            Map<String, LongAdder> pending = sinceSnapshot;
+            if (pending != null) {
+                pending.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        } finally {
+            mirrorLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cria a linha do contador com zero em uma transação própria. Se outra transação ou instância
+     * criou a mesma linha ao mesmo tempo, a violação de chave fica nessa transação e é ignorada,
+     * sem afetar a escrita da tarefa.
+     */
+    private void ensureRow(String key) {
+        try {
+            newTransaction.executeWithoutResult(tx -> {
+                if (!taskCounterRepository.existsById(key)) {
+                    taskCounterRepository.saveAndFlush(new TaskCounter(key, 0L));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Task counter {} created concurrently", key);
+        }
+    }
+
+    /**
+     * Compara os contadores com a tabela tasks (também executado na inicialização) e aplica a diferença.
+     * Contadores e contagem são lidos no mesmo snapshot (REPEATABLE READ), sem travar nenhuma linha:
+     * como cada escrita de tarefa e seu incremento são commitados juntos, a diferença calculada é exata
+     * para o snapshot, e as escritas posteriores somam seus próprios deltas. A correção é aplicada com
+     * incrementos atômicos, em uma transação curta.
+     */
+    @Scheduled(initialDelayString = "${task-counters.reconcile-initial-delay-ms:0}",
+            fixedDelayString = "${task-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!ready) {
+            for (TaskStatus status : TaskStatus.values()) {
+                for (int shard = 0; shard < shards; shard++) {
+                    ensureRow(shardKey(status, shard));
+                }
+            }
+        }
+
+        // Deltas confirmados nesta instância a partir daqui entram no espelho reconstruído
+        mirrorLock.writeLock().lock();
+        try {
+            sinceSnapshot = new ConcurrentHashMap<>();
+        } finally {
+            mirrorLock.writeLock().unlock();
+        }
+
+        Map<String, Long> actual = new HashMap<>();
+        Map<String, Long> corrections = new TreeMap<>();
+        try {
+            snapshotTransaction.executeWithoutResult(tx -> {
+                Map<String, Long> stored = new HashMap<>();
+                for (TaskCounter counter : taskCounterRepository.findAll()) {
+                    String key = logicalKey(counter.getCounterKey());
+                    if (key != null) {
+                        stored.merge(key, counter.getCounterValue(), Long::sum);
+                    }
+                }
+                for (TaskStatus status : TaskStatus.values()) {
+                    actual.put(statusKey(status), 0L);
+                }
+                for (TaskStatusCount count : taskRepository.countGroupedByStatus()) {
+                    if (count.getStatus() != null) {
+                        actual.put(statusKey(count.getStatus()), count.getTotal());
+                    }
+                }
+                for (TaskUserCount count : taskRepository.countGroupedByUserId()) {
+                    if (count.getUserId() != null) {
+                        actual.put(userKey(count.getUserId()), count.getTotal());
+                    }
+                }
+                for (String key : stored.keySet()) {
+                    actual.putIfAbsent(key, 0L);
+                }
+                for (Map.Entry<String, Long> entry : actual.entrySet()) {
+                    long correction = entry.getValue() - stored.getOrDefault(entry.getKey(), 0L);
+                    if (correction != 0) {
+                        corrections.put(entry.getKey(), correction);
+                    }
+                }
+            });
+
+            // Em ordem de chave: status (na ordem dos nomes) antes dos usuários, como nas escritas
+            if (!corrections.isEmpty()) {
+                transaction.executeWithoutResult(tx -> corrections.forEach(this::applyCorrection));
+                logger.warn("Task counters reconciled: {} counter(s) corrected", corrections.size());
+            }
+        } catch (RuntimeException e) {
+            mirrorLock.writeLock().lock();
+            try {
+                sinceSnapshot = null;
+            } finally {
+                mirrorLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // Novo espelho: valores do snapshot mais o que esta instância confirmou desde então
+        mirrorLock.writeLock().lock();
+        try {
+            Map<String, LongAdder> rebuilt = new ConcurrentHashMap<>();
+            actual.forEach((key, value) -> rebuilt.computeIfAbsent(key, k -> new LongAdder()).add(value));
+            sinceSnapshot.forEach((key, delta) -> rebuilt.computeIfAbsent(key, k -> new LongAdder()).add(delta.sum()));
+            mirror = rebuilt;
+            sinceSnapshot = null;
+        } finally {
+            mirrorLock.writeLock().unlock();
+        }
+        ready = true;
+    }
+
+    private void applyCorrection(String key, long correction) {
+        if (key.startsWith(STATUS_PREFIX)) {
+            TaskStatus status = TaskStatus.valueOf(key.substring(STATUS_PREFIX.length()));
+            taskCounterRepository.increment(shardKey(status, 0), correction);
+        } else if (taskCounterRepository.increment(key, correction) == 0) {
+            ensureRow(key);
+            taskCounterRepository.increment(key, correction);
+        }
+    }
+
+    /**
+     * Só há valores confiáveis depois da primeira reconciliação.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Contagem de tarefas por status, lida do espelho em memória.
+     */
+    public Map<TaskStatus, Long> getStatusCounts() {
+        Map<String, LongAdder> current = mirror;
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            LongAdder adder = current.get(statusKey(status));
+            counts.put(status, adder != null ? adder.sum() : 0L);
+        }
+        return counts;
+    }
+
+    public long getUserCount(UUID userId) {
+        LongAdder adder = mirror.get(userKey(userId));
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    // "status:TODO:03" -> "status:TODO"; "user:<id>" permanece igual
+    private static String logicalKey(String rowKey) {
+        if (rowKey == null) {
+            return null;
+        }
+        if (rowKey.startsWith(USER_PREFIX)) {
+            return rowKey;
+        }
+        if (!rowKey.startsWith(STATUS_PREFIX)) {
+            return null;
+        }
+        int separator = rowKey.lastIndexOf(':');
+        return separator > STATUS_PREFIX.length() ? rowKey.substring(0, separator) : null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.topicosavancados.task_service.service;
+
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.repository.TaskSortField;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da listagem paginada: guarda a ordenação usada e a posição (valor do campo
+ * de ordenação + id) da última tarefa entregue. Codificado em Base64 URL-safe.
+ */
+public class TaskCursor {
+
+    private static final String VERSION = "1";
+    private static final String NULL_VALUE = "n";
+    private static final String PRESENT_VALUE = "v";
+
+    private final TaskSortField sortField;
+    private final boolean descending;
+    private final Object sortValue;
+    private final UUID id;
+
+    public TaskCursor(TaskSortField sortField, boolean descending, Object sortValue, UUID id) {
+        this.sortField = sortField;
+        this.descending = descending;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    public static TaskCursor after(Task task, TaskSortField sortField, boolean descending) {
+        return new TaskCursor(sortField, descending, sortField.valueOf(task), task.getId());
+    }
+
+    public String encode() {
+        String value = sortValue == null ? NULL_VALUE : PRESENT_VALUE + sortValue;
+        String raw = String.join(":", VERSION, sortField.name(), descending ? "desc" : "asc", id.toString(), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // O valor fica por último e pode conter ':' (ex.: títulos)
+            String[] parts = raw.split(":", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            TaskSortField sortField = TaskSortField.valueOf(parts[1]);
+            boolean descending = "desc".equals(parts[2]);
+            UUID id = UUID.fromString(parts[3]);
+            Object sortValue = parts[4].startsWith(PRESENT_VALUE) ? sortField.parse(parts[4].substring(1)) : null;
+            return new TaskCursor(sortField, descending, sortValue, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public TaskSortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
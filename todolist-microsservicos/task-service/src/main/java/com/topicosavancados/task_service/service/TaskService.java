@@ -1,32 +1,84 @@
 package com.topicosavancados.task_service.service;
 
+import com.topicosavancados.task_service.dto.TaskPageRequest;
+import com.topicosavancados.task_service.dto.TaskPageResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
 import com.topicosavancados.task_service.model.Task;
 import com.topicosavancados.task_service.model.TaskStatus;
+import com.topicosavancados.task_service.repository.TaskFilter;
 import com.topicosavancados.task_service.repository.TaskRepository;
+import com.topicosavancados.task_service.repository.TaskSortField;
+import com.topicosavancados.task_service.repository.TaskStatusCount;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
+@Profile("!reactive")
 public class TaskService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
+    private final TaskCounterService taskCounterService;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskCounterService taskCounterService) {
         this.taskRepository = taskRepository;
+        this.taskCounterService = taskCounterService;
     }
 
     public List<Task> getAllTasks(String username) {
         return taskRepository.findByUsername(username);
     }
 
+    /**
+     * Retorna uma página de tarefas do usuário. O cursor da resposta aponta para a última
+     * tarefa entregue; a próxima página continua a partir dela sem OFFSET.
+     */
+    public TaskPageResponse getTasksPage(String username, TaskPageRequest request) {
+        int limit = Math.max(1, Math.min(request.getLimit(), MAX_PAGE_SIZE));
+        TaskSortField sortField = TaskSortField.fromParam(request.getSort());
+        boolean descending = "desc".equalsIgnoreCase(request.getDirection());
+
+        Object afterValue = null;
+        UUID afterId = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            TaskCursor cursor = TaskCursor.decode(request.getCursor());
+            if (cursor.getSortField() != sortField || cursor.isDescending() != descending) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort order");
+            }
+            afterValue = cursor.getSortValue();
+            afterId = cursor.getId();
+        }
+
+        TaskFilter filter = new TaskFilter(request.getStatus(), request.getPriority(),
+                request.getDueFrom(), request.getDueTo());
+        // Busca uma linha a mais para saber se existe próxima página
+        List<Task> tasks = taskRepository.findPage(username, filter, sortField, descending,
+                afterValue, afterId, limit + 1);
+
+        boolean hasMore = tasks.size() > limit;
+        if (hasMore) {
+            tasks = tasks.subList(0, limit);
+        }
+        String nextCursor = hasMore
+                ? TaskCursor.after(tasks.get(tasks.size() - 1), sortField, descending).encode()
+                : null;
+        return new TaskPageResponse(tasks, nextCursor, hasMore);
+    }
+
     public List<Task> getTasksByDueDate(String username, LocalDate dueDate) {
         return taskRepository.findByUsernameAndDueDate(username, dueDate);
     }
 
+    @Transactional
     public Task createTask(Task task, Authentication authentication) {
         String username = authentication.getName();
         UUID userId = extractUserIdFromAuthentication(authentication);
@@ -39,11 +91,15 @@ public class TaskService {
             task.setStatus(TaskStatus.TODO);
         }
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        taskCounterService.onCreated(saved);
+        return saved;
     }
 
+    @Transactional
     public Task updateTask(UUID taskId, Task updatedTask) {
         return taskRepository.findById(taskId).map(existingTask -> {
+            taskCounterService.onStatusChanged(existingTask.getStatus(), updatedTask.getStatus());
             existingTask.setTitle(updatedTask.getTitle());
             existingTask.setDescription(updatedTask.getDescription());
             existingTask.setDueDate(updatedTask.getDueDate());
@@ -59,7 +115,9 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Task not found with ID: " + taskId));
     }
 
+    @Transactional
     public void deleteTask(UUID taskId) {
+        taskRepository.findById(taskId).ifPresent(taskCounterService::onDeleted);
         taskRepository.deleteById(taskId);
     }
 
@@ -72,23 +130,41 @@ public class TaskService {
     }
 
     // Admin statistics methods
-    public long getTotalTasks() {
-        return taskRepository.count();
-    }
-
-    public long getTasksByStatus(TaskStatus status) {
-        return taskRepository.countByStatus(status);
-    }
 
-    public long getPendingTasks() {
-        return getTasksByStatus(TaskStatus.TODO);
+    /**
+     * Estatísticas do painel admin. Lidas dos contadores incrementais (algumas dezenas de linhas); antes da
+     * primeira reconciliação, calculadas com um único GROUP BY status.
+     */
+    public TaskStatsResponse getTaskStats() {
+        if (taskCounterService.isReady()) {
+            Map<TaskStatus, Long> counts = taskCounterService.getStatusCounts();
+            return new TaskStatsResponse(counts.values().stream().mapToLong(Long::longValue).sum(),
+                    counts.getOrDefault(TaskStatus.TODO, 0L),
+                    counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L),
+                    counts.getOrDefault(TaskStatus.COMPLETED, 0L));
+        }
+        return toStats(taskRepository.countGroupedByStatus());
     }
 
-    public long getInProgressTasks() {
-        return getTasksByStatus(TaskStatus.IN_PROGRESS);
+    /**
+     * Contagem das tarefas de um usuário por status, em uma única consulta.
+     */
+    public TaskStatsResponse getUserTaskStats(String username) {
+        return toStats(taskRepository.countByUsernameGroupedByStatus(username));
     }
 
-    public long getCompletedTasks() {
-        return getTasksByStatus(TaskStatus.COMPLETED);
+    static TaskStatsResponse toStats(List<TaskStatusCount> counts) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (TaskStatusCount count : counts) {
+            if (count.getStatus() != null) {
+                byStatus.put(count.getStatus(), count.getTotal());
+            }
+            total += count.getTotal();
+        }
+        return new TaskStatsResponse(total,
+                byStatus.getOrDefault(TaskStatus.TODO, 0L),
+                byStatus.getOrDefault(TaskStatus.IN_PROGRESS, 0L),
+                byStatus.getOrDefault(TaskStatus.COMPLETED, 0L));
     }
 }
\ No newline at end of file
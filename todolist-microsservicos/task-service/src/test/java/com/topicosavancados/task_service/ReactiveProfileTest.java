@@ -0,0 +1,219 @@
+package com.topicosavancados.task_service;
+
+import com.topicosavancados.task_service.dto.TaskPageResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
+import com.topicosavancados.task_service.integration.TestJwtHelper;
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.model.TaskStatus;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sobe o task-service no perfil "reactive" (WebFlux + R2DBC sobre H2) e exercita a cadeia completa:
+ * WebFilter de JWT, controller reativo e repositório R2DBC.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=myVeryLongAndSecureSecretKeyForHS512AlgorithmThatMustBeAtLeast512BitsLongToMeetJWTSpecificationRequirements",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_tasks;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:schema-reactive.sql"
+})
+@ActiveProfiles({"test", "reactive"})
+class ReactiveProfileTest {
+
+    private static MockWebServer authService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @BeforeAll
+    static void startAuthService() throws IOException {
+        authService = new MockWebServer();
+        authService.start();
+    }
+
+    @AfterAll
+    static void stopAuthService() throws IOException {
+        authService.shutdown();
+    }
+
+    @DynamicPropertySource
+    static void authServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("auth-service.url", () -> authService.url("/").toString());
+    }
+
+    // Resposta de POST /api/auth/introspect para um lote de um token
+    private void enqueueValidToken() {
+        authService.enqueue(new MockResponse().setHeader("Content-Type", "application/json")
+                .setBody("{\"results\":[{\"active\":true}]}"));
+    }
+
+    @Test
+    void usesReactiveStackOnly() {
+        assertFalse(context.containsBean("taskService"));
+        assertFalse(context.containsBean("jwtValidationFilter"));
+        assertTrue(context.containsBean("reactiveTaskService"));
+    }
+
+    @Test
+    void validatesTokensWithBatchIntrospection() throws InterruptedException {
+        enqueueValidToken();
+        String token = TestJwtHelper.generateValidToken("introspected-user", UUID.randomUUID(), "USER");
+
+        webTestClient.get().uri("/api/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk();
+
+        // O servidor é compartilhado pelos testes: procura a chamada que levou este token
+        RecordedRequest request;
+        while ((request = authService.takeRequest(1, TimeUnit.SECONDS)) != null) {
+            if (request.getBody().readUtf8().contains(token)) {
+                break;
+            }
+        }
+        assertNotNull(request);
+        assertEquals("POST", request.getMethod());
+        assertEquals("/api/auth/introspect", request.getPath());
+    }
+
+    @Test
+    void requestWithoutToken_IsRejected() {
+        webTestClient.get().uri("/api/tasks").exchange().expectStatus().isForbidden();
+    }
+
+    @Test
+    void invalidToken_IsUnauthorized() {
+        webTestClient.get().uri("/api/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void createListUpdateAndDelete() {
+        enqueueValidToken();
+        String token = TestJwtHelper.generateValidToken("reactive-user", UUID.randomUUID(), "USER");
+
+        for (int i = 0; i < 3; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setPriority("HIGH");
+            task.setDueDate(i < 2 ? LocalDate.of(2025, 1, 1 + i) : null);
+            webTestClient.post().uri("/api/tasks")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(task)
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        TaskPageResponse firstPage = webTestClient.get().uri("/api/tasks?limit=2")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskPageResponse.class)
+                .returnResult().getResponseBody();
+        assertNotNull(firstPage);
+        assertEquals(2, firstPage.getItems().size());
+        assertTrue(firstPage.isHasMore());
+        assertEquals("Task 0", firstPage.getItems().get(0).getTitle());
+
+        TaskPageResponse secondPage = webTestClient.get()
+                .uri(uri -> uri.path("/api/tasks").queryParam("limit", 2)
+                        .queryParam("cursor", firstPage.getNextCursor()).build())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskPageResponse.class)
+                .returnResult().getResponseBody();
+        assertNotNull(secondPage);
+        assertEquals(1, secondPage.getItems().size());
+        assertFalse(secondPage.isHasMore());
+        // Tarefa sem data fica no fim
+        Task last = secondPage.getItems().get(0);
+        assertNull(last.getDueDate());
+
+        last.setStatus(TaskStatus.COMPLETED);
+        Task updated = webTestClient.put().uri("/api/tasks/edit/{id}", last.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(last)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Task.class)
+                .returnResult().getResponseBody();
+        assertNotNull(updated);
+        assertEquals(TaskStatus.COMPLETED, updated.getStatus());
+
+        webTestClient.delete().uri("/api/tasks/delete/{id}", last.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        TaskPageResponse remaining = webTestClient.get().uri("/api/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectBody(TaskPageResponse.class)
+                .returnResult().getResponseBody();
+        assertNotNull(remaining);
+        assertEquals(2, remaining.getItems().size());
+    }
+
+    @Test
+    void adminStats_RequireAdminRole() {
+        enqueueValidToken();
+        String userToken = TestJwtHelper.generateValidToken("plain-user", UUID.randomUUID(), "USER");
+        webTestClient.get().uri("/api/tasks/admin/stats")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken)
+                .exchange()
+                .expectStatus().isForbidden();
+
+        enqueueValidToken();
+        String adminToken = TestJwtHelper.generateValidToken("admin", UUID.randomUUID(), "ADMIN");
+        TaskStatsResponse stats = webTestClient.get().uri("/api/tasks/admin/stats")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskStatsResponse.class)
+                .returnResult().getResponseBody();
+        assertNotNull(stats);
+        assertEquals(stats.getTotalTasks(),
+                stats.getPendingTasks() + stats.getInProgressTasks() + stats.getCompletedTasks());
+    }
+
+    @Test
+    void invalidCursor_IsBadRequest() {
+        enqueueValidToken();
+        String token = TestJwtHelper.generateValidToken("cursor-user", UUID.randomUUID(), "USER");
+        webTestClient.get().uri("/api/tasks?cursor=not-a-cursor")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,80 @@
+package com.topicosavancados.task_service.benchmark;
+
+import com.topicosavancados.task_service.config.JwtTokenVerifier;
+import com.topicosavancados.task_service.config.TokenPrincipal;
+import com.topicosavancados.task_service.config.TokenPrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a verificação de um token criando chave e JwtParser a cada chamada (comportamento antigo
+ * dos filtros) com o JwtTokenVerifier, que reaproveita as instâncias, e com o cache de principals
+ * (token repetido não passa de novo pela verificação HMAC nem pelo parsing JSON).
+ *
+ * Executar com: mvn test-compile e depois
+ * java -cp target/test-classes:target/classes:&lt;classpath de teste&gt; org.openjdk.jmh.Main JwtParserBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtParserBenchmark {
+
+    private static final String SECRET = "myVeryLongAndSecureSecretKeyForHS512AlgorithmThatMustBeAtLeast512BitsLongToMeetJWTSpecificationRequirements";
+
+    private String token;
+    private JwtTokenVerifier verifier;
+
+    @Setup
+    public void setUp() {
+        token = Jwts.builder()
+                .setSubject("benchmark-user")
+                .claim("userId", UUID.randomUUID().toString())
+                .claim("role", "ROLE_USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 86400000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        verifier = new JwtTokenVerifier(SECRET, new TokenPrincipalCache(10000));
+    }
+
+    @Benchmark
+    public Claims perRequestParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims cachedParser() {
+        return verifier.parseClaims(token);
+    }
+
+    @Benchmark
+    public TokenPrincipal cachedPrincipal() {
+        return verifier.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtParserBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
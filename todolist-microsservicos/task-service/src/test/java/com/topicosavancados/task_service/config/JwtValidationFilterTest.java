@@ -1,5 +1,7 @@
 package com.topicosavancados.task_service.config;
 
+import com.topicosavancados.task_service.dto.RevocationEntryResponse;
+import com.topicosavancados.task_service.dto.RevocationFeedResponse;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,9 +12,9 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
-import java.util.function.Function;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,10 +23,7 @@ import static org.mockito.Mockito.*;
 class JwtValidationFilterTest {
 
     @Mock
-    private WebClient.Builder webClientBuilder;
-
-    @Mock
-    private WebClient webClient;
+    private TokenIntrospectionClient tokenIntrospectionClient;
 
     @Mock
     private HttpServletRequest request;
@@ -35,26 +34,23 @@ class JwtValidationFilterTest {
     @Mock
     private FilterChain chain;
 
-    @Mock
-    private WebClient.RequestHeadersUriSpec requestUriSpec;
-
-    @Mock
-    private WebClient.RequestHeadersSpec requestHeadersSpec;
+    private JwtValidationFilter jwtValidationFilter;
 
-    @Mock
-    private WebClient.ResponseSpec responseSpec;
+    private ValidatedTokenCache validatedTokenCache;
 
-    private JwtValidationFilter jwtValidationFilter;
+    private TokenRevocationList tokenRevocationList;
 
     @BeforeEach
     void setUp() {
         String authServiceUrl = "http://fake-auth-service";
         String secretKey = "MyUltraSecureSecretWithAtLeast32Bytes!!";  // >= 32 bytes
 
-        when(webClientBuilder.baseUrl(authServiceUrl)).thenReturn(webClientBuilder);
-        when(webClientBuilder.build()).thenReturn(webClient);
-
-        jwtValidationFilter = new JwtValidationFilter(webClientBuilder, authServiceUrl, secretKey);
+        validatedTokenCache = new ValidatedTokenCache(300, 100);
+        // Feed ainda não sincronizado: o filtro continua consultando o AuthService
+        tokenRevocationList = new TokenRevocationList(WebClient.builder(), authServiceUrl, "service-secret", true, 30000);
+        jwtValidationFilter = new JwtValidationFilter(
+                new JwtTokenVerifier(secretKey, new TokenPrincipalCache(100)), validatedTokenCache, tokenRevocationList,
+                tokenIntrospectionClient);
 
         SecurityContextHolder.clearContext();
     }
@@ -91,13 +87,10 @@ class JwtValidationFilterTest {
 
         JwtValidationFilter spyFilter = spy(jwtValidationFilter);
 
-        io.jsonwebtoken.Claims claimsMock = mock(io.jsonwebtoken.Claims.class);
-        when(claimsMock.getSubject()).thenReturn("testuser");
-        when(claimsMock.get("role", String.class)).thenReturn("ROLE_ADMIN");
-        when(claimsMock.get("userId", String.class))
-                .thenReturn("11111111-1111-1111-1111-111111111111");
+        TokenPrincipal principal = new TokenPrincipal("testuser", UUID.fromString("11111111-1111-1111-1111-111111111111"),
+                "ROLE_ADMIN", null, null, System.currentTimeMillis() + 60_000);
 
-        doReturn(claimsMock).when(spyFilter).extractClaimsFromToken("validToken");
+        doReturn(principal).when(spyFilter).extractPrincipalFromToken("validToken");
 
         doReturn(true).when(spyFilter).validateTokenWithAuthService("validToken");
 
@@ -113,41 +106,108 @@ class JwtValidationFilterTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    void testValidateTokenWithAuthService_ReturnsTrue() {
-        // O código real chama: webClient.get().uri(uriBuilder -> ...)...
-        // Precisamos mockar com coringa '?' e cast, pois
-        // uri(...) espera Function<UriBuilder, URI>, e a interface
-        // RequestHeadersUriSpec<?> é genérica.
+    void testDoFilterInternal_ValidTokenServedFromCache() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer validToken");
+
+        JwtValidationFilter spyFilter = spy(jwtValidationFilter);
+
+        TokenPrincipal principal = new TokenPrincipal("testuser", UUID.fromString("11111111-1111-1111-1111-111111111111"),
+                "ROLE_USER", null, null, System.currentTimeMillis() + 60_000);
+
+        doReturn(principal).when(spyFilter).extractPrincipalFromToken("validToken");
+        doReturn(true).when(spyFilter).validateTokenWithAuthService("validToken");
 
-        when(webClient.get()).thenReturn(requestUriSpec);
+        spyFilter.doFilterInternal(request, response, chain);
+        SecurityContextHolder.clearContext();
+        spyFilter.doFilterInternal(request, response, chain);
 
-        // 2) Cast explícito do 'thenReturn' para RequestHeadersSpec<?>
-        when(requestUriSpec.uri(any(Function.class)))
-                .thenReturn((WebClient.RequestHeadersSpec<?>) requestHeadersSpec);
+        // Segunda requisição com o mesmo token não consulta o AuthService
+        verify(spyFilter, times(1)).validateTokenWithAuthService("validToken");
+        verify(chain, times(2)).doFilter(request, response);
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, validatedTokenCache.getHitCount());
+        assertEquals(1, validatedTokenCache.getMissCount());
+    }
 
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+    @Test
+    void testDoFilterInternal_RejectedTokenIsNotCached() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer revokedToken");
 
-        // Precisamos retornar um Mono<Boolean> para bodyToMono:
-        Mono<Boolean> monoBool = Mono.just(true);
-        when(responseSpec.bodyToMono(Boolean.class)).thenReturn(monoBool);
+        JwtValidationFilter spyFilter = spy(jwtValidationFilter);
 
-        boolean result = jwtValidationFilter.validateTokenWithAuthService("anyToken");
+        TokenPrincipal principal = new TokenPrincipal("testuser", UUID.fromString("11111111-1111-1111-1111-111111111111"),
+                "ROLE_USER", null, null, System.currentTimeMillis() + 60_000);
+
+        doReturn(principal).when(spyFilter).extractPrincipalFromToken("revokedToken");
+        doReturn(false).when(spyFilter).validateTokenWithAuthService("revokedToken");
 
-        assertTrue(result, "Deveria retornar true quando AuthService retorna true");
+        spyFilter.doFilterInternal(request, response, chain);
+        spyFilter.doFilterInternal(request, response, chain);
+
+        verify(spyFilter, times(2)).validateTokenWithAuthService("revokedToken");
+        verify(response, times(2)).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(chain, never()).doFilter(request, response);
+        assertEquals(0, validatedTokenCache.size());
+    }
+
+    @Test
+    void testDoFilterInternal_RevocationFeedInSyncSkipsAuthService() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer validToken");
+        tokenRevocationList.apply(new RevocationFeedResponse(0L, List.of()));
+
+        JwtValidationFilter spyFilter = spy(jwtValidationFilter);
+
+        TokenPrincipal principal = new TokenPrincipal("testuser", UUID.fromString("11111111-1111-1111-1111-111111111111"),
+                "ROLE_USER", null, null, System.currentTimeMillis() + 60_000);
+
+        doReturn(principal).when(spyFilter).extractPrincipalFromToken("validToken");
+
+        spyFilter.doFilterInternal(request, response, chain);
+
+        verify(spyFilter, never()).validateTokenWithAuthService(anyString());
+        verify(chain).doFilter(request, response);
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testDoFilterInternal_RevokedTokenRejectedLocally() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer revokedToken");
+        UUID userId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        tokenRevocationList.apply(new RevocationFeedResponse(1L, List.of(
+                new RevocationEntryResponse(1L, "jti-1", userId, null, System.currentTimeMillis() + 60_000)
+        )));
+
+        JwtValidationFilter spyFilter = spy(jwtValidationFilter);
+
+        TokenPrincipal principal = new TokenPrincipal("testuser", userId,
+                "ROLE_USER", "jti-1", null, System.currentTimeMillis() + 60_000);
+
+        doReturn(principal).when(spyFilter).extractPrincipalFromToken("revokedToken");
+
+        spyFilter.doFilterInternal(request, response, chain);
+
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(spyFilter, never()).validateTokenWithAuthService(anyString());
+        verify(chain, never()).doFilter(request, response);
+    }
+
+    @Test
+    void testValidateTokenWithAuthService_ReturnsTrue() {
+        when(tokenIntrospectionClient.isActive("anyToken")).thenReturn(true);
+
+        boolean result = jwtValidationFilter.validateTokenWithAuthService("anyToken");
 
-        verify(webClient).get();
-        verify(requestUriSpec).uri(any(Function.class));
-        verify(requestHeadersSpec).retrieve();
+        assertTrue(result, "Deveria retornar true quando AuthService considera o token ativo");
+        verify(tokenIntrospectionClient).isActive("anyToken");
     }
 
     @Test
-    void testValidateTokenWithAuthService_ThrowsException() {
-        // Se por exemplo, a chamada "webClient.get()" lançar exceção, cai no catch e retorna false
-        when(webClient.get()).thenThrow(new RuntimeException("Simulated error"));
+    void testValidateTokenWithAuthService_ReturnsFalseWhenInactive() {
+        // Falhas de comunicação também chegam aqui como token inativo
+        when(tokenIntrospectionClient.isActive("anyToken")).thenReturn(false);
 
         boolean result = jwtValidationFilter.validateTokenWithAuthService("anyToken");
-        assertFalse(result, "Deveria retornar false se ocorrer exceção no try/catch");
+        assertFalse(result, "Deveria retornar false quando o AuthService não confirma o token");
     }
 
 }
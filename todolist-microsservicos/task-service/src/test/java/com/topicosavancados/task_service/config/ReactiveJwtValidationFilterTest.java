@@ -0,0 +1,151 @@
+package com.topicosavancados.task_service.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveJwtValidationFilterTest {
+
+    private static final String SECRET = "MyUltraSecureSecretWithAtLeast32Bytes!!";
+    private static final UUID USER_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+    private ReactiveJwtValidationFilter filter;
+
+    private TokenIntrospectionClient tokenIntrospectionClient;
+
+    private final AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+    private final AtomicInteger chainCalls = new AtomicInteger();
+
+    // Registra a autenticação visível para o restante da cadeia
+    private final WebFilterChain chain = exchange -> {
+        chainCalls.incrementAndGet();
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .doOnNext(seenAuthentication::set)
+                .then();
+    };
+
+    @BeforeEach
+    void setUp() {
+        // Feed ainda não sincronizado: o filtro continua consultando o AuthService
+        TokenRevocationList tokenRevocationList =
+                new TokenRevocationList(WebClient.builder(), "http://fake-auth-service", "service-secret", true, 30000);
+        tokenIntrospectionClient = mock(TokenIntrospectionClient.class);
+        filter = spy(new ReactiveJwtValidationFilter(
+                new JwtTokenVerifier(SECRET, new TokenPrincipalCache(100)),
+                new ValidatedTokenCache(300, 100), tokenRevocationList, tokenIntrospectionClient));
+    }
+
+    private static String token(String role) {
+        return Jwts.builder()
+                .setSubject("testuser")
+                .claim("userId", USER_ID.toString())
+                .claim("role", role)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static MockServerWebExchange exchange(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/tasks");
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    @Test
+    void testFilter_TokenMissing() {
+        MockServerWebExchange exchange = exchange(null);
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(1, chainCalls.get());
+        assertNull(seenAuthentication.get());
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void testFilter_InvalidToken() {
+        MockServerWebExchange exchange = exchange("Bearer invalidToken");
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals(0, chainCalls.get());
+    }
+
+    @Test
+    void testFilter_ValidTokenAuthServiceOk() {
+        String token = token("ADMIN");
+        doReturn(Mono.just(true)).when(filter).validateTokenWithAuthService(token);
+
+        filter.filter(exchange("Bearer " + token), chain).block();
+
+        assertEquals(1, chainCalls.get());
+        Authentication authentication = seenAuthentication.get();
+        assertNotNull(authentication);
+        assertEquals("testuser", authentication.getName());
+        assertEquals(USER_ID, authentication.getDetails());
+        assertTrue(authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    @Test
+    void testFilter_ValidTokenServedFromCache() {
+        String token = token("USER");
+        doReturn(Mono.just(true)).when(filter).validateTokenWithAuthService(token);
+
+        filter.filter(exchange("Bearer " + token), chain).block();
+        filter.filter(exchange("Bearer " + token), chain).block();
+
+        // Segunda requisição com o mesmo token não consulta o AuthService
+        verify(filter, times(1)).validateTokenWithAuthService(token);
+        assertEquals(2, chainCalls.get());
+    }
+
+    @Test
+    void testFilter_AuthServiceRejectsToken() {
+        String token = token("USER");
+        doReturn(Mono.just(false)).when(filter).validateTokenWithAuthService(token);
+        MockServerWebExchange exchange = exchange("Bearer " + token);
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals(0, chainCalls.get());
+    }
+
+    @Test
+    void testFilter_ValidatesThroughBatchIntrospection() {
+        String token = token("USER");
+        when(tokenIntrospectionClient.isActiveAsync(token)).thenReturn(Mono.just(true));
+
+        filter.filter(exchange("Bearer " + token), chain).block();
+
+        verify(tokenIntrospectionClient).isActiveAsync(token);
+        assertEquals(1, chainCalls.get());
+    }
+}
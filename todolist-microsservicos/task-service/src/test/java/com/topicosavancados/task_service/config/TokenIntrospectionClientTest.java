@@ -0,0 +1,110 @@
+package com.topicosavancados.task_service.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenIntrospectionClientTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private TokenIntrospectionClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    private TokenIntrospectionClient client(String responseBody, int maxBatchSize, long windowMillis) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(responseBody)
+                    .build());
+        });
+        client = new TokenIntrospectionClient(builder, "http://fake-auth-service", maxBatchSize, windowMillis, 2000);
+        return client;
+    }
+
+    @Test
+    void testConcurrentValidationsAreCollapsedIntoOneBatch() throws Exception {
+        client("{\"results\":[{\"active\":true},{\"active\":false}]}", 2, 60_000);
+
+        CompletableFuture<Boolean> first = client.enqueue("tokenA");
+        CompletableFuture<Boolean> duplicate = client.enqueue("tokenA");
+        // Segundo token distinto completa o lote e dispara o envio
+        CompletableFuture<Boolean> second = client.enqueue("tokenB");
+
+        assertSame(first, duplicate);
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+        assertFalse(second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1, client.getBatchCount());
+        assertEquals(1, client.getCollapsedCount());
+        assertEquals(3, client.getRequestCount());
+    }
+
+    @Test
+    void testBatchWindowFlushesPartialBatch() {
+        client("{\"results\":[{\"active\":true}]}", 50, 5);
+
+        assertTrue(client.isActive("tokenA"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testServerErrorMarksWholeBatchInactive() {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        });
+        client = new TokenIntrospectionClient(builder, "http://fake-auth-service", 50, 5, 2000);
+
+        assertFalse(client.isActive("tokenA"));
+        // Um novo pedido após a falha gera outra chamada (nada fica preso no mapa de pendentes)
+        assertFalse(client.isActive("tokenA"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testLaterRequestForSameTokenGetsItsOwnResult() throws Exception {
+        client("{\"results\":[{\"active\":true}]}", 50, 60_000);
+
+        CompletableFuture<Boolean> first = client.enqueue("tokenA");
+        client.flush();
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+
+        // O lote anterior já terminou: o novo pedido fica pendente até o próprio lote
+        CompletableFuture<Boolean> second = client.enqueue("tokenA");
+        assertNotSame(first, second);
+        assertFalse(second.isDone());
+        client.flush();
+        assertTrue(second.get(1, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testEmptyResponseMarksBatchInactive() {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        });
+        client = new TokenIntrospectionClient(builder, "http://fake-auth-service", 50, 5, 2000);
+
+        assertFalse(client.isActive("tokenA"));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,77 @@
+package com.topicosavancados.task_service.config;
+
+import com.topicosavancados.task_service.dto.RevocationEntryResponse;
+import com.topicosavancados.task_service.dto.RevocationFeedResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+class TokenRevocationListTest {
+
+    private TokenRevocationList tokenRevocationList;
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(WebClient.builder(), "http://fake-auth-service", "service-secret", true, 30000);
+    }
+
+    private TokenPrincipal principal(String jti, Date issuedAt) {
+        return new TokenPrincipal("testuser", userId, "ROLE_USER", jti,
+                issuedAt.getTime(), System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    void testNotInSyncBeforeFirstFeed() {
+        assertFalse(tokenRevocationList.isInSync());
+
+        tokenRevocationList.apply(new RevocationFeedResponse(0L, List.of()));
+
+        assertTrue(tokenRevocationList.isInSync());
+    }
+
+    @Test
+    void testDisabledListIsNeverInSync() {
+        TokenRevocationList disabled = new TokenRevocationList(WebClient.builder(), "http://fake-auth-service", "service-secret", false, 30000);
+
+        disabled.apply(new RevocationFeedResponse(0L, List.of()));
+
+        assertFalse(disabled.isInSync());
+    }
+
+    @Test
+    void testRevokedByJti() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        tokenRevocationList.apply(new RevocationFeedResponse(3L, List.of(
+                new RevocationEntryResponse(3L, "jti-1", userId, null, expiresAt)
+        )));
+
+        assertTrue(tokenRevocationList.isRevoked(principal("jti-1", new Date())));
+        assertFalse(tokenRevocationList.isRevoked(principal("jti-2", new Date())));
+        assertEquals(3L, tokenRevocationList.getVersion());
+    }
+
+    @Test
+    void testRevokedByUserWatermark() {
+        long now = System.currentTimeMillis();
+        tokenRevocationList.apply(new RevocationFeedResponse(4L, List.of(
+                new RevocationEntryResponse(4L, null, userId, now, now + 60_000)
+        )));
+
+        assertTrue(tokenRevocationList.isRevoked(principal("old", new Date(now - 10_000))));
+        assertFalse(tokenRevocationList.isRevoked(principal("new", new Date(now + 1_000))));
+    }
+
+    @Test
+    void testVersionNeverGoesBackwards() {
+        tokenRevocationList.apply(new RevocationFeedResponse(10L, List.of()));
+        tokenRevocationList.apply(new RevocationFeedResponse(5L, List.of()));
+
+        assertEquals(10L, tokenRevocationList.getVersion());
+    }
+}
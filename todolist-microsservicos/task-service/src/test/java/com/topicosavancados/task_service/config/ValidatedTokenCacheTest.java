@@ -0,0 +1,94 @@
+package com.topicosavancados.task_service.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatedTokenCacheTest {
+
+    @Test
+    void testMarkValidatedThenHit() {
+        ValidatedTokenCache cache = new ValidatedTokenCache(300, 10);
+
+        assertFalse(cache.isValidated("token-a"));
+        cache.markValidated("token-a", new Date(System.currentTimeMillis() + 60_000));
+
+        assertTrue(cache.isValidated("token-a"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testMetricsReportCounters() {
+        ValidatedTokenCache cache = new ValidatedTokenCache(300, 10);
+        cache.markValidated("token-a", new Date(System.currentTimeMillis() + 60_000));
+        cache.isValidated("token-a");
+        cache.isValidated("token-b");
+
+        Map<String, Object> metrics = cache.getMetrics();
+        assertEquals(1, metrics.get("size"));
+        assertEquals(10, metrics.get("maxSize"));
+        assertEquals(300_000L, metrics.get("ttlMs"));
+        assertEquals(1L, metrics.get("hits"));
+        assertEquals(1L, metrics.get("misses"));
+    }
+
+    @Test
+    void testExpiredTokenIsNotStored() {
+        ValidatedTokenCache cache = new ValidatedTokenCache(300, 10);
+
+        cache.markValidated("token-a", new Date(System.currentTimeMillis() - 1_000));
+
+        assertFalse(cache.isValidated("token-a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testEntryExpiresWithTokenExpClaim() throws InterruptedException {
+        ValidatedTokenCache cache = new ValidatedTokenCache(300, 10);
+
+        cache.markValidated("token-a", new Date(System.currentTimeMillis() + 50));
+        assertTrue(cache.isValidated("token-a"));
+
+        Thread.sleep(100);
+
+        assertFalse(cache.isValidated("token-a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        ValidatedTokenCache cache = new ValidatedTokenCache(300, 2);
+        Date exp = new Date(System.currentTimeMillis() + 60_000);
+
+        cache.markValidated("token-a", exp);
+        cache.markValidated("token-b", exp);
+        cache.isValidated("token-a");
+        cache.markValidated("token-c", exp);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.isValidated("token-a"));
+        assertFalse(cache.isValidated("token-b"));
+        assertTrue(cache.isValidated("token-c"));
+    }
+
+    @Test
+    void testDisabledCacheStoresNothing() {
+        ValidatedTokenCache cache = new ValidatedTokenCache(0, 10);
+
+        cache.markValidated("token-a", null);
+
+        assertFalse(cache.isValidated("token-a"));
+    }
+
+    @Test
+    void testHashDoesNotExposeToken() {
+        String hash = ValidatedTokenCache.hash("secret-token");
+
+        assertEquals(64, hash.length());
+        assertFalse(hash.contains("secret-token"));
+    }
+}
@@ -1,16 +1,17 @@
 package com.topicosavancados.task_service.controller;
 
+import com.topicosavancados.task_service.config.ValidatedTokenCache;
+import com.topicosavancados.task_service.dto.HomeDashboardResponse;
 import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.service.HomeDashboardService;
+import com.topicosavancados.task_service.service.QuoteProvider;
 import com.topicosavancados.task_service.service.TaskService;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -21,56 +22,24 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class HomeControllerTest {
 
-    // Mocks para *teste da lógica principal (getUserInfo, getTodayTasks)*
-    // e para o *teste adicional* do fetchQuoteFromFavQs()
     @Mock
-    private WebClient.Builder webClientBuilder;
+    private QuoteProvider quoteProvider;
 
     @Mock
     private TaskService taskService;
 
-    // Mocks específicos para o WebClient chain
     @Mock
-    private WebClient webClient; // result de webClientBuilder.build()
+    private HomeDashboardService homeDashboardService;
 
-    // Em vez de usar generics complicados, usamos tipos raw:
-    @SuppressWarnings("rawtypes")
     @Mock
-    private WebClient.RequestHeadersUriSpec requestUriSpec;
+    private ValidatedTokenCache validatedTokenCache;
 
-    @SuppressWarnings("rawtypes")
-    @Mock
-    private WebClient.RequestHeadersSpec requestHeadersSpec;
-
-    @Mock
-    private WebClient.ResponseSpec responseSpec;
-
-    // Controller principal usado nos testes de getUserInfo() e getTodayTasks()
-    private HomeController homeControllerSpy;
-
-    // Controller sem "spy" que testará diretamente o método fetchQuoteFromFavQs()
-    private HomeController homeControllerReal;
-
-    @BeforeEach
-    void setUp() {
-        // Toda vez que chamamos baseUrl(...), retorna o próprio builder mock
-        when(webClientBuilder.baseUrl("https://favqs.com/api")).thenReturn(webClientBuilder);
-
-        // Quando chamamos build(), retorna webClient (mock)
-        when(webClientBuilder.build()).thenReturn(webClient);
-
-        // Controller real
-        HomeController realController = new HomeController(webClientBuilder, taskService);
-        homeControllerSpy = spy(realController);
-
-        // **Outra instância** real para testar fetchQuoteFromFavQs() sem spy
-        // (poderíamos usar a mesma, mas aqui separamos para clareza).
-        homeControllerReal = new HomeController(webClientBuilder, taskService);
-    }
+    @InjectMocks
+    private HomeController homeController;
 
     @Test
     void getUserInfo_WithAuthenticationAdmin() {
-        doReturn("Testing is awesome!").when(homeControllerSpy).fetchQuoteFromFavQs();
+        when(quoteProvider.currentQuote()).thenReturn("Testing is awesome!");
 
         Authentication auth = mock(Authentication.class);
         when(auth.getName()).thenReturn("adminUser");
@@ -78,8 +47,7 @@ class HomeControllerTest {
                 List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
         );
 
-        // Chamamos o método real (que chamará o spy no fetchQuoteFromFavQs)
-        Map<String, Object> result = homeControllerSpy.getUserInfo(auth);
+        Map<String, Object> result = homeController.getUserInfo(auth);
 
         assertNotNull(result);
         assertEquals("adminUser", result.get("username"));
@@ -90,7 +58,7 @@ class HomeControllerTest {
     @Test
     void getUserInfo_WithoutAuthentication_ThrowsException() {
         assertThrows(IllegalStateException.class, () ->
-                homeControllerSpy.getUserInfo(null)
+                homeController.getUserInfo(null)
         );
     }
 
@@ -105,45 +73,43 @@ class HomeControllerTest {
 
         when(taskService.getTasksByDueDate("someUser", LocalDate.now())).thenReturn(mockTasks);
 
-        List<Task> result = homeControllerSpy.getTodayTasks(auth);
+        List<Task> result = homeController.getTodayTasks(auth);
         assertEquals(2, result.size());
         assertEquals("Task 1", result.get(0).getTitle());
         assertEquals("Task 2", result.get(1).getTitle());
     }
 
     @Test
-    void testFetchQuoteFromFavQs_Success() {
-        // Monta a cadeia de mocks do WebClient:
-        when(webClient.get()).thenReturn(requestUriSpec);
-        when(requestUriSpec.uri("/qotd")).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-
-        // Precisamos retornar um Mono<FavQuoteResponse> real para
-        // permitir .map(...).block() sem complicações.
-        HomeController.FavQuoteResponse mockResponse = new HomeController.FavQuoteResponse();
-        HomeController.FavQuoteResponse.Quote quoteObj = new HomeController.FavQuoteResponse.Quote();
-        quoteObj.setBody("Here is a nice quote.");
-        mockResponse.setQuote(quoteObj);
-
-        // Retornamos um Mono.just(...) ao bodyToMono(...):
-        when(responseSpec.bodyToMono(HomeController.FavQuoteResponse.class))
-                .thenReturn(Mono.just(mockResponse));
-
-        // Chama o método real
-        String result = homeControllerReal.fetchQuoteFromFavQs();
-
-        // Verifica se obtemos a citação do objeto
-        assertEquals("Here is a nice quote.", result);
+    void getQuoteMetrics_DelegatesToProvider() {
+        Map<String, Object> metrics = Map.of("source", "favqs", "cacheHits", 3L);
+        when(quoteProvider.getMetrics()).thenReturn(metrics);
+
+        assertEquals(metrics, homeController.getQuoteMetrics());
+    }
+
+    @Test
+    void getCacheMetrics_ReportsValidatedTokenCache() {
+        Map<String, Object> metrics = Map.of("hits", 5L, "misses", 2L);
+        when(validatedTokenCache.getMetrics()).thenReturn(metrics);
+
+        assertEquals(Map.of("validatedTokens", metrics), homeController.getCacheMetrics());
     }
 
     @Test
-    void testFetchQuoteFromFavQs_Exception() {
-        // Simular que ao chamar webClient.get() (ou em qualquer passo) vai lançar
-        // uma RuntimeException. Assim, cai no catch e retorna "Failed to load..."
-        when(webClient.get()).thenThrow(new RuntimeException("Simulated error"));
+    void getDashboard_PassesUsernameAndRole() {
+        Authentication auth = mock(Authentication.class);
+        when(auth.getName()).thenReturn("someUser");
+        when(auth.getAuthorities()).thenAnswer(inv -> List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        HomeDashboardResponse dashboard = new HomeDashboardResponse();
+        when(homeDashboardService.getDashboard("someUser", "USER")).thenReturn(dashboard);
 
-        String result = homeControllerReal.fetchQuoteFromFavQs();
-        assertEquals("Failed to load ideas. Please try again later.", result);
+        assertSame(dashboard, homeController.getDashboard(auth));
+    }
+
+    @Test
+    void getDashboard_WithoutAuthentication_ThrowsException() {
+        assertThrows(IllegalStateException.class, () -> homeController.getDashboard(null));
+        verifyNoInteractions(homeDashboardService);
     }
 
 }
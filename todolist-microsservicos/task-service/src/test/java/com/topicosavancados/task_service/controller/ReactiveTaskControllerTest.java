@@ -0,0 +1,110 @@
+package com.topicosavancados.task_service.controller;
+
+import com.topicosavancados.task_service.dto.TaskPageRequest;
+import com.topicosavancados.task_service.dto.TaskPageResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.service.ReactiveTaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskControllerTest {
+
+    @Mock
+    private ReactiveTaskService taskService;
+
+    @Mock
+    private Authentication authentication;
+
+    @InjectMocks
+    private ReactiveTaskController taskController;
+
+    @Test
+    void testGetTasks() {
+        when(authentication.getName()).thenReturn("testuser");
+
+        Task t1 = new Task(); t1.setTitle("Task 1");
+        Task t2 = new Task(); t2.setTitle("Task 2");
+
+        TaskPageRequest pageRequest = new TaskPageRequest();
+        when(taskService.getTasksPage("testuser", pageRequest))
+                .thenReturn(Mono.just(new TaskPageResponse(List.of(t1, t2), "next", true)));
+
+        StepVerifier.create(taskController.getTasks(pageRequest, authentication))
+                .assertNext(result -> {
+                    assertEquals(2, result.getItems().size());
+                    assertEquals("next", result.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testCreateTask() {
+        Task newTask = new Task();
+        newTask.setTitle("New Task");
+        when(taskService.createTask(newTask, authentication)).thenReturn(Mono.just(newTask));
+
+        StepVerifier.create(taskController.createTask(newTask, authentication))
+                .assertNext(result -> assertEquals("New Task", result.getTitle()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testUpdateTask() {
+        UUID taskId = UUID.randomUUID();
+        Task updatedTask = new Task();
+        updatedTask.setTitle("Updated Task");
+        when(taskService.updateTask(taskId, updatedTask)).thenReturn(Mono.just(updatedTask));
+
+        StepVerifier.create(taskController.updateTask(taskId, updatedTask))
+                .assertNext(result -> assertEquals("Updated Task", result.getTitle()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetTaskById_NotFound() {
+        UUID taskId = UUID.randomUUID();
+        when(taskService.getTaskById(taskId)).thenReturn(Mono.error(new RuntimeException("Task not found with ID: " + taskId)));
+
+        StepVerifier.create(taskController.getTaskById(taskId))
+                .expectErrorMessage("Task not found with ID: " + taskId)
+                .verify();
+    }
+
+    @Test
+    void testDeleteTask() {
+        UUID taskId = UUID.randomUUID();
+        when(taskService.deleteTask(taskId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(taskController.deleteTask(taskId)).verifyComplete();
+        verify(taskService).deleteTask(taskId);
+    }
+
+    @Test
+    void testGetTaskStats() {
+        TaskStatsResponse stats = new TaskStatsResponse(10L, 4L, 1L, 5L);
+        when(taskService.getTaskStats()).thenReturn(Mono.just(stats));
+
+        StepVerifier.create(taskController.getTaskStats())
+                .assertNext(result -> assertSame(stats, result))
+                .verifyComplete();
+    }
+
+    @Test
+    void testHandleBadRequest() {
+        assertEquals(400, taskController.handleBadRequest(new IllegalArgumentException("bad cursor"))
+                .getStatusCode().value());
+    }
+}
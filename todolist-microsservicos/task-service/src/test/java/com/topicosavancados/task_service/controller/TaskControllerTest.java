@@ -1,5 +1,8 @@
 package com.topicosavancados.task_service.controller;
 
+import com.topicosavancados.task_service.dto.TaskPageRequest;
+import com.topicosavancados.task_service.dto.TaskPageResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
 import com.topicosavancados.task_service.model.Task;
 import com.topicosavancados.task_service.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,11 +38,14 @@ class TaskControllerTest {
         Task t2 = new Task(); t2.setTitle("Task 2");
         List<Task> tasks = List.of(t1, t2);
 
-        when(taskService.getAllTasks("testuser")).thenReturn(tasks);
+        TaskPageRequest pageRequest = new TaskPageRequest();
+        when(taskService.getTasksPage("testuser", pageRequest))
+                .thenReturn(new TaskPageResponse(tasks, "next", true));
 
-        List<Task> result = taskController.getTasks(authentication);
-        assertEquals(2, result.size());
-        verify(taskService).getAllTasks("testuser");
+        TaskPageResponse result = taskController.getTasks(pageRequest, authentication);
+        assertEquals(2, result.getItems().size());
+        assertEquals("next", result.getNextCursor());
+        verify(taskService).getTasksPage("testuser", pageRequest);
     }
 
     @Test
@@ -84,4 +90,15 @@ class TaskControllerTest {
         verify(taskService).deleteTask(taskId);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testGetTaskStats() {
+        TaskStatsResponse stats = new TaskStatsResponse(10L, 4L, 1L, 5L);
+        when(taskService.getTaskStats()).thenReturn(stats);
+
+        TaskStatsResponse result = taskController.getTaskStats();
+
+        assertSame(stats, result);
+        verify(taskService).getTaskStats();
+        verifyNoMoreInteractions(taskService);
+    }
+}
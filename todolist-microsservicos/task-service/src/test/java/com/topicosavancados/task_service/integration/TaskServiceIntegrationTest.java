@@ -69,6 +69,7 @@ class TaskServiceIntegrationTest {
         
         // Configure mock auth service URL
         registry.add("auth-service.url", () -> "http://localhost:" + mockAuthService.getPort());
+        registry.add("auth-service.revocation-feed.enabled", () -> "false");
     }
 
     @Autowired
@@ -157,9 +158,10 @@ class TaskServiceIntegrationTest {
         mockMvc.perform(get("/api/tasks")
                         .header("Authorization", "Bearer " + validJwtToken))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].title").value("Updated Integration Test Task"));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Updated Integration Test Task"))
+                .andExpect(jsonPath("$.hasMore").value(false));
 
         // 4. Get task by ID
         mockMvc.perform(get("/api/tasks/" + taskId)
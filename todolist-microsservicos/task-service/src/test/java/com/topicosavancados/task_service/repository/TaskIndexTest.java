@@ -0,0 +1,108 @@
+package com.topicosavancados.task_service.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Confere, via EXPLAIN do H2 sobre o SQL que o Hibernate realmente gera, que as consultas
+ * de tarefas buscam pelos índices declarados em Task (e não só filtram depois de ler o usuário inteiro).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.topicosavancados.task_service.repository.SqlCapture")
+class TaskIndexTest {
+
+    private static final String USERNAME = "u";
+    private static final TaskFilter NO_FILTER = new TaskFilter(null, null, null, null);
+    private static final LocalDate DUE_DATE = LocalDate.of(2025, 1, 1);
+    private static final int LIMIT = 50;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.clear();
+    }
+
+    private String explain(String sql, Object... args) {
+        // O H2 quebra o plano em várias linhas; os asserts comparam a condição de busca numa linha só
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args)
+                .replaceAll("\\s+", " ")
+                .toUpperCase();
+    }
+
+    @Test
+    void testFindByUsernameAndDueDateUsesIndex() {
+        taskRepository.findByUsernameAndDueDate(USERNAME, DUE_DATE);
+
+        String plan = explain(SqlCapture.selects().get(0), USERNAME, DUE_DATE);
+
+        assertTrue(plan.contains("IDX_TASKS_USERNAME_DUE_DATE"), plan);
+        assertTrue(plan.contains("USERNAME = ?1 AND DUE_DATE = ?2"), plan);
+    }
+
+    @Test
+    void testKeysetPageByDueDateSeeksFromCursorThenReadsNullTail() {
+        UUID afterId = UUID.randomUUID();
+        taskRepository.findPage(USERNAME, NO_FILTER, TaskSortField.DUE_DATE, false, DUE_DATE, afterId, LIMIT);
+
+        List<String> selects = SqlCapture.selects();
+        assertEquals(2, selects.size(), selects.toString());
+
+        String valuePlan = explain(selects.get(0), USERNAME, DUE_DATE, DUE_DATE, afterId, LIMIT);
+        assertTrue(valuePlan.contains("IDX_TASKS_USERNAME_DUE_DATE"), valuePlan);
+        assertTrue(valuePlan.contains("USERNAME = ?1 AND DUE_DATE >= ?2"), valuePlan);
+
+        String nullPlan = explain(selects.get(1), USERNAME, LIMIT);
+        assertTrue(nullPlan.contains("IDX_TASKS_USERNAME_DUE_DATE"), nullPlan);
+        assertTrue(nullPlan.contains("USERNAME = ?1 AND DUE_DATE IS NULL"), nullPlan);
+    }
+
+    @Test
+    void testKeysetPageByTitleDescendingSeeksFromCursor() {
+        UUID afterId = UUID.randomUUID();
+        taskRepository.findPage(USERNAME, NO_FILTER, TaskSortField.TITLE, true, "m", afterId, LIMIT);
+
+        List<String> selects = SqlCapture.selects();
+        String valuePlan = explain(selects.get(0), USERNAME, "m", "m", afterId, LIMIT);
+        assertTrue(valuePlan.contains("IDX_TASKS_USERNAME_TITLE"), valuePlan);
+        assertTrue(valuePlan.contains("USERNAME = ?1 AND TITLE <= ?2"), valuePlan);
+
+        String nullPlan = explain(selects.get(1), USERNAME, LIMIT);
+        assertTrue(nullPlan.contains("IDX_TASKS_USERNAME_TITLE"), nullPlan);
+        assertTrue(nullPlan.contains("USERNAME = ?1 AND TITLE IS NULL"), nullPlan);
+    }
+
+    @Test
+    void testFirstPageSeeksByUsername() {
+        taskRepository.findPage(USERNAME, NO_FILTER, TaskSortField.TITLE, false, null, null, LIMIT);
+
+        // Sem cursor só o username delimita a faixa; o H2 não escolhe índice pela ordenação
+        String plan = explain(SqlCapture.selects().get(0), USERNAME, LIMIT);
+        assertTrue(plan.contains("IDX_TASKS_USERNAME_"), plan);
+        assertTrue(plan.contains("USERNAME = ?1"), plan);
+    }
+
+    @Test
+    void testDueDateRangeFilterSkipsNullTail() {
+        TaskFilter filter = new TaskFilter(null, null, DUE_DATE, null);
+        taskRepository.findPage(USERNAME, filter, TaskSortField.DUE_DATE, false, null, null, LIMIT);
+
+        List<String> selects = SqlCapture.selects();
+        assertEquals(1, selects.size(), selects.toString());
+        String plan = explain(selects.get(0), USERNAME, DUE_DATE, LIMIT);
+        assertTrue(plan.contains("IDX_TASKS_USERNAME_DUE_DATE"), plan);
+    }
+}
@@ -0,0 +1,112 @@
+package com.topicosavancados.task_service.repository;
+
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TaskRepositoryTest {
+
+    private static final String USERNAME = "pager";
+    private static final TaskFilter NO_FILTER = new TaskFilter(null, null, null, null);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 7; i++) {
+            // Datas repetidas e nulas para exercitar o desempate por id e o "nulls last"
+            LocalDate dueDate = i < 5 ? LocalDate.of(2025, 1, 1 + i / 2) : null;
+            TaskStatus status = i % 2 == 0 ? TaskStatus.TODO : TaskStatus.COMPLETED;
+            taskRepository.save(new Task(null, "Task " + i, null, dueDate, status, "HIGH", USERNAME, userId));
+        }
+        taskRepository.save(new Task(null, "Other", null, LocalDate.of(2025, 1, 1), TaskStatus.TODO,
+                "HIGH", "someone-else", UUID.randomUUID()));
+    }
+
+    private List<Task> readAllPages(TaskFilter filter, TaskSortField sortField, boolean descending, int pageSize) {
+        List<Task> all = new ArrayList<>();
+        Object afterValue = null;
+        UUID afterId = null;
+        while (true) {
+            List<Task> page = taskRepository.findPage(USERNAME, filter, sortField, descending, afterValue, afterId, pageSize);
+            all.addAll(page);
+            if (page.size() < pageSize) {
+                return all;
+            }
+            Task last = page.get(page.size() - 1);
+            afterValue = sortField.valueOf(last);
+            afterId = last.getId();
+        }
+    }
+
+    @Test
+    void testKeysetPagesCoverEveryTaskOnceInOrder() {
+        List<Task> paged = readAllPages(NO_FILTER, TaskSortField.DUE_DATE, false, 2);
+        List<Task> single = taskRepository.findPage(USERNAME, NO_FILTER, TaskSortField.DUE_DATE, false, null, null, 100);
+
+        assertEquals(7, paged.size());
+        assertEquals(single.stream().map(Task::getId).toList(), paged.stream().map(Task::getId).toList());
+        // Tarefas sem data ficam no fim
+        assertNull(paged.get(5).getDueDate());
+        assertNull(paged.get(6).getDueDate());
+        for (int i = 1; i < 5; i++) {
+            assertFalse(paged.get(i).getDueDate().isBefore(paged.get(i - 1).getDueDate()));
+        }
+    }
+
+    @Test
+    void testKeysetPagesDescending() {
+        List<Task> paged = readAllPages(NO_FILTER, TaskSortField.TITLE, true, 3);
+
+        assertEquals(List.of("Task 6", "Task 5", "Task 4", "Task 3", "Task 2", "Task 1", "Task 0"),
+                paged.stream().map(Task::getTitle).toList());
+    }
+
+    @Test
+    void testFilters() {
+        TaskFilter todo = new TaskFilter(List.of(TaskStatus.TODO), null, null, null);
+        TaskFilter dueRange = new TaskFilter(null, "HIGH", LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3));
+
+        List<Task> todoTasks = readAllPages(todo, TaskSortField.DUE_DATE, false, 2);
+        List<Task> inRange = readAllPages(dueRange, TaskSortField.DUE_DATE, false, 2);
+
+        assertEquals(4, todoTasks.size());
+        assertTrue(todoTasks.stream().allMatch(t -> t.getStatus() == TaskStatus.TODO));
+        assertEquals(3, inRange.size());
+    }
+
+    @Test
+    void testCountGroupedByStatus() {
+        List<TaskStatusCount> counts = taskRepository.countGroupedByStatus();
+
+        long todo = counts.stream().filter(c -> c.getStatus() == TaskStatus.TODO).mapToLong(TaskStatusCount::getTotal).sum();
+        long completed = counts.stream().filter(c -> c.getStatus() == TaskStatus.COMPLETED).mapToLong(TaskStatusCount::getTotal).sum();
+
+        assertEquals(2, counts.size());
+        assertEquals(5, todo);
+        assertEquals(3, completed);
+    }
+
+    @Test
+    void testCountByUsernameGroupedByStatus() {
+        List<TaskStatusCount> counts = taskRepository.countByUsernameGroupedByStatus(USERNAME);
+
+        assertEquals(2, counts.size());
+        for (TaskStatusCount count : counts) {
+            assertEquals(count.getStatus() == TaskStatus.TODO ? 4L : 3L, count.getTotal());
+        }
+    }
+}
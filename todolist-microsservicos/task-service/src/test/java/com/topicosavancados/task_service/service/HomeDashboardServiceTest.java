@@ -0,0 +1,124 @@
+package com.topicosavancados.task_service.service;
+
+import com.topicosavancados.task_service.dto.HomeDashboardResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
+import com.topicosavancados.task_service.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HomeDashboardServiceTest {
+
+    private static final long SOURCE_TIMEOUT_MS = 1000;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private QuoteProvider quoteProvider;
+
+    private HomeDashboardService homeDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        homeDashboardService = new HomeDashboardService(taskService, quoteProvider, SOURCE_TIMEOUT_MS, 4, false);
+        when(quoteProvider.currentQuote()).thenReturn("Keep going.");
+    }
+
+    @AfterEach
+    void tearDown() {
+        homeDashboardService.shutdown();
+    }
+
+    @Test
+    void getDashboard_AllSourcesAvailable() {
+        Task task = new Task();
+        task.setTitle("Today");
+        TaskStatsResponse counts = new TaskStatsResponse(3, 1, 1, 1);
+        when(taskService.getTasksByDueDate("user1", LocalDate.now())).thenReturn(List.of(task));
+        when(taskService.getUserTaskStats("user1")).thenReturn(counts);
+
+        HomeDashboardResponse dashboard = homeDashboardService.getDashboard("user1", "USER");
+
+        assertEquals("user1", dashboard.getUsername());
+        assertEquals("USER", dashboard.getRole());
+        assertEquals("Keep going.", dashboard.getIdea());
+        assertEquals(List.of(task), dashboard.getTodayTasks());
+        assertSame(counts, dashboard.getTaskCounts());
+        assertFalse(dashboard.isPartial());
+    }
+
+    @Test
+    void getDashboard_SourcesRunConcurrently() {
+        // Cada fonte leva ~300 ms; em sequência seriam ~600 ms
+        when(taskService.getTasksByDueDate(eq("user1"), any())).thenAnswer(inv -> {
+            Thread.sleep(300);
+            return List.of();
+        });
+        when(taskService.getUserTaskStats("user1")).thenAnswer(inv -> {
+            Thread.sleep(300);
+            return new TaskStatsResponse();
+        });
+
+        long start = System.nanoTime();
+        HomeDashboardResponse dashboard = homeDashboardService.getDashboard("user1", "USER");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(dashboard.isPartial());
+        assertTrue(elapsedMillis < 550, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void getDashboard_SlowSource_ReturnsPartialResult() {
+        when(taskService.getTasksByDueDate(eq("user1"), any())).thenAnswer(inv -> {
+            Thread.sleep(SOURCE_TIMEOUT_MS * 3);
+            return List.of();
+        });
+        when(taskService.getUserTaskStats("user1")).thenReturn(new TaskStatsResponse(1, 1, 0, 0));
+
+        HomeDashboardResponse dashboard = homeDashboardService.getDashboard("user1", "USER");
+
+        assertTrue(dashboard.isPartial());
+        assertEquals(List.of(HomeDashboardService.TODAY_TASKS), dashboard.getUnavailable());
+        assertNull(dashboard.getTodayTasks());
+        assertEquals(1L, dashboard.getTaskCounts().getTotalTasks());
+        assertEquals("Keep going.", dashboard.getIdea());
+    }
+
+    @Test
+    void getDashboard_FailingSource_ReturnsPartialResult() {
+        when(taskService.getTasksByDueDate(eq("user1"), any())).thenReturn(List.of());
+        when(taskService.getUserTaskStats("user1")).thenThrow(new RuntimeException("database down"));
+
+        HomeDashboardResponse dashboard = homeDashboardService.getDashboard("user1", "USER");
+
+        assertEquals(List.of(HomeDashboardService.TASK_COUNTS), dashboard.getUnavailable());
+        assertNull(dashboard.getTaskCounts());
+        assertEquals(List.of(), dashboard.getTodayTasks());
+    }
+
+    @Test
+    void getDashboard_VirtualThreadsFlagWorksOnAnyRuntime() {
+        // Em Java < 21 a flag é ignorada e o pool de plataforma continua sendo usado
+        HomeDashboardService service = new HomeDashboardService(taskService, quoteProvider, SOURCE_TIMEOUT_MS, 4, true);
+        when(taskService.getTasksByDueDate(eq("user1"), any())).thenReturn(List.of());
+        when(taskService.getUserTaskStats("user1")).thenReturn(new TaskStatsResponse());
+
+        try {
+            HomeDashboardResponse dashboard = service.getDashboard("user1", "USER");
+            assertFalse(dashboard.isPartial());
+        } finally {
+            service.shutdown();
+        }
+    }
+}
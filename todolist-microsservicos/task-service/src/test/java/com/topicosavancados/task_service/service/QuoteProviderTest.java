@@ -0,0 +1,109 @@
+package com.topicosavancados.task_service.service;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuoteProviderTest {
+
+    private MockWebServer favQs;
+    private QuoteProvider quoteProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        favQs = new MockWebServer();
+        favQs.start();
+        quoteProvider = new QuoteProvider(WebClient.builder(), favQs.url("/api").toString(), 2000, true);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        favQs.shutdown();
+    }
+
+    @Test
+    void currentQuote_BeforeFirstRefresh_ServesFallbackCorpus() {
+        String quote = quoteProvider.currentQuote();
+
+        assertNotNull(quote);
+        assertFalse(quote.isBlank());
+        assertEquals(0, favQs.getRequestCount());
+
+        Map<String, Object> metrics = quoteProvider.getMetrics();
+        assertEquals("fallback", metrics.get("source"));
+        assertEquals(-1L, metrics.get("cacheAgeMs"));
+        assertEquals(1L, metrics.get("fallbackHits"));
+    }
+
+    @Test
+    void refresh_Success_ServesQuoteFromCache() throws InterruptedException {
+        favQs.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"quote\":{\"body\":\"Here is a nice quote.\"}}"));
+
+        quoteProvider.refresh().block(Duration.ofSeconds(10));
+
+        assertEquals("/api/qotd", favQs.takeRequest(1, TimeUnit.SECONDS).getPath());
+        assertEquals("Here is a nice quote.", quoteProvider.currentQuote());
+        assertEquals("Here is a nice quote.", quoteProvider.currentQuote());
+        // Leituras não voltam à API
+        assertEquals(1, favQs.getRequestCount());
+
+        Map<String, Object> metrics = quoteProvider.getMetrics();
+        assertEquals("favqs", metrics.get("source"));
+        assertEquals(2L, metrics.get("cacheHits"));
+        assertEquals(1L, metrics.get("refreshSuccesses"));
+        assertTrue((Long) metrics.get("cacheAgeMs") >= 0);
+    }
+
+    @Test
+    void refresh_ServerError_KeepsPreviousQuote() {
+        favQs.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"quote\":{\"body\":\"First quote.\"}}"));
+        favQs.enqueue(new MockResponse().setResponseCode(503));
+
+        quoteProvider.refresh().block(Duration.ofSeconds(10));
+        quoteProvider.refresh().block(Duration.ofSeconds(10));
+
+        assertEquals("First quote.", quoteProvider.currentQuote());
+        assertEquals(1L, quoteProvider.getMetrics().get("refreshFailures"));
+    }
+
+    @Test
+    void refresh_SlowServer_TimesOutAndFallsBack() {
+        favQs.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"quote\":{\"body\":\"Too late.\"}}")
+                .setHeadersDelay(4, TimeUnit.SECONDS));
+
+        quoteProvider.refresh().block(Duration.ofSeconds(10));
+
+        assertNotEquals("Too late.", quoteProvider.currentQuote());
+        Map<String, Object> metrics = quoteProvider.getMetrics();
+        assertEquals(1L, metrics.get("refreshFailures"));
+        assertEquals("fallback", metrics.get("source"));
+    }
+
+    @Test
+    void refresh_EmptyBody_CountsAsFailure() {
+        favQs.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"quote\":{}}"));
+
+        quoteProvider.refresh().block(Duration.ofSeconds(10));
+
+        assertEquals(1L, quoteProvider.getMetrics().get("refreshFailures"));
+        assertEquals(0L, quoteProvider.getMetrics().get("refreshSuccesses"));
+    }
+}
@@ -0,0 +1,158 @@
+package com.topicosavancados.task_service.service;
+
+import com.topicosavancados.task_service.model.Task;
+import com.topicosavancados.task_service.model.TaskCounter;
+import com.topicosavancados.task_service.model.TaskStatus;
+import com.topicosavancados.task_service.repository.TaskCounterRepository;
+import com.topicosavancados.task_service.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A reconciliação agendada não deve rodar durante os testes (o teste a chama diretamente)
+@DataJpaTest(properties = {"task-counters.reconcile-initial-delay-ms=3600000", "task-counters.shards=2"})
+@Import(TaskCounterService.class)
+class TaskCounterServiceTest {
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private TaskCounterRepository taskCounterRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Task task(UUID userId, TaskStatus status) {
+        return taskRepository.save(new Task(null, "Task", null, null, status, "LOW", "user", userId));
+    }
+
+    // Soma direto no banco: os incrementos são UPDATEs em lote que não passam pelo contexto de persistência
+    private long stored(TaskStatus status) {
+        Long total = jdbcTemplate.queryForObject("SELECT SUM(counter_value) FROM task_counters WHERE counter_key LIKE ?",
+                Long.class, "status:" + status.name() + "%");
+        return total != null ? total : 0L;
+    }
+
+    private long storedUser(UUID userId) {
+        Long total = jdbcTemplate.queryForObject("SELECT SUM(counter_value) FROM task_counters WHERE counter_key = ?",
+                Long.class, TaskCounterService.userKey(userId));
+        return total != null ? total : 0L;
+    }
+
+    @Test
+    void testReconcileAppliesCorrectionToCounters() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        task(alice, TaskStatus.TODO);
+        task(alice, TaskStatus.COMPLETED);
+        task(bob, TaskStatus.TODO);
+        // Valores desatualizados: uma linha de status, um usuário sem tarefas e um usuário sem contador
+        taskCounterRepository.save(new TaskCounter(TaskCounterService.shardKey(TaskStatus.IN_PROGRESS, 1), 42L));
+        taskCounterRepository.save(new TaskCounter(TaskCounterService.userKey(alice), 5L));
+        UUID ghost = UUID.randomUUID();
+        taskCounterRepository.save(new TaskCounter(TaskCounterService.userKey(ghost), 3L));
+
+        taskCounterService.reconcile();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertTrue(taskCounterService.isReady());
+        assertEquals(2L, taskCounterService.getStatusCounts().get(TaskStatus.TODO));
+        assertEquals(0L, taskCounterService.getStatusCounts().get(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, taskCounterService.getStatusCounts().get(TaskStatus.COMPLETED));
+        assertEquals(2L, taskCounterService.getUserCount(alice));
+        assertEquals(1L, taskCounterService.getUserCount(bob));
+        assertEquals(0L, taskCounterService.getUserCount(ghost));
+        assertEquals(0L, stored(TaskStatus.IN_PROGRESS));
+        assertEquals(2L, storedUser(alice));
+        assertEquals(1L, storedUser(bob));
+        assertEquals(0L, storedUser(ghost));
+        // Todas as linhas de cada status já existem depois da reconciliação
+        assertTrue(taskCounterRepository.existsById(TaskCounterService.shardKey(TaskStatus.TODO, 1)));
+    }
+
+    @Test
+    void testIncrementalUpdatesPersistCounters() {
+        UUID userId = UUID.randomUUID();
+        taskCounterService.reconcile();
+
+        Task created = task(userId, TaskStatus.TODO);
+        taskCounterService.onCreated(created);
+        taskCounterService.onStatusChanged(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+        taskCounterService.onCreated(task(userId, TaskStatus.TODO));
+
+        assertEquals(1L, stored(TaskStatus.TODO));
+        assertEquals(1L, stored(TaskStatus.IN_PROGRESS));
+        assertEquals(2L, storedUser(userId));
+
+        created.setStatus(TaskStatus.IN_PROGRESS);
+        taskCounterService.onDeleted(created);
+
+        assertEquals(0L, stored(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, storedUser(userId));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testConcurrentFirstWritesDoNotFail() throws Exception {
+        jdbcTemplate.update("DELETE FROM task_counters");
+        taskCounterService.reconcile();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int writers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // Como TaskService.createTask: a tarefa e o contador na mesma transação
+                    return transaction.execute(tx -> {
+                        taskCounterService.onCreated(task(UUID.randomUUID(), TaskStatus.TODO));
+                        return null;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+
+            assertEquals(writers, stored(TaskStatus.TODO));
+            // O espelho recebeu cada delta após o commit, sem nova reconciliação
+            assertEquals(writers, taskCounterService.getStatusCounts().get(TaskStatus.TODO));
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM tasks");
+            jdbcTemplate.update("DELETE FROM task_counters");
+        }
+    }
+}
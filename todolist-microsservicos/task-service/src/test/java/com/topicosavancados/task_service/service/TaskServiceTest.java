@@ -1,8 +1,13 @@
 package com.topicosavancados.task_service.service;
 
+import com.topicosavancados.task_service.dto.TaskPageRequest;
+import com.topicosavancados.task_service.dto.TaskPageResponse;
+import com.topicosavancados.task_service.dto.TaskStatsResponse;
 import com.topicosavancados.task_service.model.Task;
 import com.topicosavancados.task_service.model.TaskStatus;
 import com.topicosavancados.task_service.repository.TaskRepository;
+import com.topicosavancados.task_service.repository.TaskSortField;
+import com.topicosavancados.task_service.repository.TaskStatusCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +28,9 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskCounterService taskCounterService;
+
     @Mock
     private Authentication authentication;
 
@@ -99,6 +107,7 @@ class TaskServiceTest {
         assertEquals(username, result.getUsername());
         assertEquals(userId, result.getUserId());
         verify(taskRepository, times(1)).save(task);
+        verify(taskCounterService).onCreated(task);
     }
 
     @Test
@@ -135,6 +144,7 @@ class TaskServiceTest {
         assertEquals(TaskStatus.COMPLETED, result.getStatus());
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).save(existingTask);
+        verify(taskCounterService).onStatusChanged(TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED);
     }
 
     @Test
@@ -168,50 +178,140 @@ class TaskServiceTest {
 
         assertDoesNotThrow(() -> taskService.deleteTask(taskId));
         verify(taskRepository, times(1)).deleteById(taskId);
+        verify(taskCounterService, never()).onDeleted(any());
     }
 
     @Test
-    void testGetTotalTasks() {
-        long expectedCount = 10L;
-        when(taskRepository.count()).thenReturn(expectedCount);
+    void testDeleteTaskDecrementsCounters() {
+        UUID taskId = UUID.randomUUID();
+        Task existingTask = new Task(taskId, "Task", null, null, TaskStatus.TODO, "LOW", "user1", UUID.randomUUID());
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        taskService.deleteTask(taskId);
 
-        long result = taskService.getTotalTasks();
+        verify(taskCounterService).onDeleted(existingTask);
+        verify(taskRepository).deleteById(taskId);
+    }
 
-        assertEquals(expectedCount, result);
-        verify(taskRepository, times(1)).count();
+    @Test
+    void testGetTasksPage_ReturnsCursorWhenMoreRowsExist() {
+        String username = "user1";
+        Task first = new Task(UUID.randomUUID(), "Task 1", null, LocalDate.of(2025, 1, 1),
+                TaskStatus.TODO, "HIGH", username, UUID.randomUUID());
+        Task second = new Task(UUID.randomUUID(), "Task 2", null, LocalDate.of(2025, 1, 2),
+                TaskStatus.TODO, "HIGH", username, UUID.randomUUID());
+        Task extra = new Task(UUID.randomUUID(), "Task 3", null, LocalDate.of(2025, 1, 3),
+                TaskStatus.TODO, "HIGH", username, UUID.randomUUID());
+        TaskPageRequest request = new TaskPageRequest();
+        request.setLimit(2);
+
+        when(taskRepository.findPage(eq(username), any(), eq(TaskSortField.DUE_DATE), eq(false),
+                isNull(), isNull(), eq(3))).thenReturn(List.of(first, second, extra));
+
+        TaskPageResponse page = taskService.getTasksPage(username, request);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(second.getId(), cursor.getId());
+        assertEquals(second.getDueDate(), cursor.getSortValue());
     }
 
     @Test
-    void testGetPendingTasks() {
-        long expectedCount = 5L;
-        when(taskRepository.countByStatus(TaskStatus.TODO)).thenReturn(expectedCount);
+    void testGetTasksPage_ContinuesFromCursor() {
+        String username = "user1";
+        UUID lastId = UUID.randomUUID();
+        TaskPageRequest request = new TaskPageRequest();
+        request.setSort("title");
+        request.setDirection("desc");
+        request.setCursor(new TaskCursor(TaskSortField.TITLE, true, "Task: B", lastId).encode());
+
+        when(taskRepository.findPage(eq(username), any(), eq(TaskSortField.TITLE), eq(true),
+                eq("Task: B"), eq(lastId), eq(51))).thenReturn(List.of());
+
+        TaskPageResponse page = taskService.getTasksPage(username, request);
+
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
 
-        long result = taskService.getPendingTasks();
+    @Test
+    void testGetTasksPage_RejectsCursorFromAnotherSortOrder() {
+        TaskPageRequest request = new TaskPageRequest();
+        request.setCursor(new TaskCursor(TaskSortField.TITLE, false, "a", UUID.randomUUID()).encode());
 
-        assertEquals(expectedCount, result);
-        verify(taskRepository, times(1)).countByStatus(TaskStatus.TODO);
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasksPage("user1", request));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
-    void testGetInProgressTasks() {
-        long expectedCount = 3L;
-        when(taskRepository.countByStatus(TaskStatus.IN_PROGRESS)).thenReturn(expectedCount);
+    void testGetTasksPage_RejectsMalformedCursor() {
+        TaskPageRequest request = new TaskPageRequest();
+        request.setCursor("not-a-cursor");
 
-        long result = taskService.getInProgressTasks();
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasksPage("user1", request));
+    }
 
-        assertEquals(expectedCount, result);
-        verify(taskRepository, times(1)).countByStatus(TaskStatus.IN_PROGRESS);
+    private TaskStatusCount statusCount(TaskStatus status, long total) {
+        return new TaskStatusCount() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
     }
 
     @Test
-    void testGetCompletedTasks() {
-        long expectedCount = 7L;
-        when(taskRepository.countByStatus(TaskStatus.COMPLETED)).thenReturn(expectedCount);
+    void testGetTaskStats_SingleGroupedQuery() {
+        when(taskRepository.countGroupedByStatus()).thenReturn(List.of(
+                statusCount(TaskStatus.TODO, 4L),
+                statusCount(TaskStatus.COMPLETED, 6L)
+        ));
+
+        TaskStatsResponse stats = taskService.getTaskStats();
 
-        long result = taskService.getCompletedTasks();
+        assertEquals(10L, stats.getTotalTasks());
+        assertEquals(4L, stats.getPendingTasks());
+        assertEquals(0L, stats.getInProgressTasks());
+        assertEquals(6L, stats.getCompletedTasks());
+        verify(taskRepository, times(1)).countGroupedByStatus();
+        verify(taskRepository, never()).count();
+    }
 
-        assertEquals(expectedCount, result);
-        verify(taskRepository, times(1)).countByStatus(TaskStatus.COMPLETED);
+    @Test
+    void testGetTaskStats_FromCountersWhenReady() {
+        when(taskCounterService.isReady()).thenReturn(true);
+        when(taskCounterService.getStatusCounts()).thenReturn(Map.of(
+                TaskStatus.TODO, 2L, TaskStatus.IN_PROGRESS, 3L, TaskStatus.COMPLETED, 4L));
+
+        TaskStatsResponse stats = taskService.getTaskStats();
+
+        assertEquals(9L, stats.getTotalTasks());
+        assertEquals(2L, stats.getPendingTasks());
+        assertEquals(3L, stats.getInProgressTasks());
+        assertEquals(4L, stats.getCompletedTasks());
+        verifyNoInteractions(taskRepository);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testGetUserTaskStats_GroupedByUser() {
+        when(taskRepository.countByUsernameGroupedByStatus("user1")).thenReturn(List.of(
+                statusCount(TaskStatus.IN_PROGRESS, 2L),
+                statusCount(TaskStatus.COMPLETED, 1L)
+        ));
+
+        TaskStatsResponse stats = taskService.getUserTaskStats("user1");
+
+        assertEquals(3L, stats.getTotalTasks());
+        assertEquals(0L, stats.getPendingTasks());
+        assertEquals(2L, stats.getInProgressTasks());
+        assertEquals(1L, stats.getCompletedTasks());
+        verifyNoInteractions(taskCounterService);
+    }
+}
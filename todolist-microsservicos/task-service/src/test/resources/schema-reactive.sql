@@ -0,0 +1,11 @@
+-- Tabela tasks para os testes do perfil "reactive" (na versão JPA o Hibernate cria a tabela)
+CREATE TABLE IF NOT EXISTS tasks (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    due_date DATE,
+    status VARCHAR(32),
+    priority VARCHAR(255),
+    username VARCHAR(255) NOT NULL,
+    user_id UUID NOT NULL
+);
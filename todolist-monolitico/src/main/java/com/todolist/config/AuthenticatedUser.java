@@ -0,0 +1,25 @@
+package com.todolist.config;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Principal autenticado: o UserDetails padrão do Spring Security acrescido do id do usuário,
+ * para que os controllers não precisem buscar o User pelo nome a cada requisição.
+ */
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final UUID id;
+
+    public AuthenticatedUser(UUID id, String username, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -2,13 +2,17 @@ package com.todolist.config;
 
 import com.todolist.model.User;
 import com.todolist.repository.UserRepository;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -22,12 +26,28 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
 
-        // Retorna um objeto UserDetails do Spring Security
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword()) // Certifique-se que a senha está codificada
-                .roles(user.getRole())        // Ou autoridades, se for mais complexo
-                .build();
+        return toUserDetails(user);
+    }
+
+    /**
+     * Chamado pelo DaoAuthenticationProvider após um login válido cujo hash está sem prefixo ou com custo
+     * desatualizado: grava o novo hash, calculado a partir da senha que acabou de ser conferida.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        return toUserDetails(userRepository.save(user));
+    }
+
+    private static UserDetails toUserDetails(User user) {
+        // Retorna o principal com o id do usuário, evitando novas buscas por nome nos controllers
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(), // Certifique-se que a senha está codificada
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())));
     }
 
 }
@@ -1,65 +1,49 @@
 package com.todolist.controller;
 
-import com.todolist.model.Task;
+import com.todolist.config.AuthenticatedUser;
+import com.todolist.dto.TaskView;
+import com.todolist.service.QuoteProvider;
 import com.todolist.service.TaskService;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 public class HomeController {
 
-    private final WebClient webClient;
+    private final QuoteProvider quoteProvider;
     private final TaskService taskService;
 
-    // Injeta o WebClient configurado e o serviço de tarefas
-    public HomeController(WebClient.Builder webClientBuilder, TaskService taskService) {
-        this.webClient = webClientBuilder.baseUrl("https://favqs.com/api").build();
+    // Injeta o provedor de frases e o serviço de tarefas
+    public HomeController(QuoteProvider quoteProvider, TaskService taskService) {
+        this.quoteProvider = quoteProvider;
         this.taskService = taskService;
     }
 
     @GetMapping("/home")
-    public String getHomePage(Authentication authentication, Model model) {
-        String username = authentication.getName();
-        model.addAttribute("username", username);
+    public String getHomePage(@AuthenticationPrincipal AuthenticatedUser user, Model model) {
+        model.addAttribute("username", user.getUsername());
 
-        // Busca frase motivadora
-        String idea = webClient.get()
-                .uri("/qotd")
-                .retrieve()
-                .bodyToMono(FavQuoteResponse.class)
-                .map(response -> response.getQuote().getBody())
-                .onErrorReturn("Failed to load ideas. Please try again later.")
-                .block();
-        model.addAttribute("idea", idea);
+        // Frase motivadora vem do cache em memória (atualizado em segundo plano)
+        model.addAttribute("idea", quoteProvider.currentQuote());
 
-        // Busca as tarefas do dia
-        List<Task> todayTasks = taskService.getTasksByDueDate(username, LocalDate.now());
+        // Busca as tarefas do dia pelo id do principal (uma única consulta)
+        List<TaskView> todayTasks = taskService.getTasksByDueDate(user.getId(), LocalDate.now());
         model.addAttribute("todayTasks", todayTasks);
 
         return "home"; // Renderiza o arquivo "home.html"
     }
 
-    // Classe para mapear a resposta da API FavQs
-    static class FavQuoteResponse {
-        private Quote quote;
-
-        static class Quote {
-            private String body;
-
-            public String getBody() {
-                return body;
-            }
-
-        }
-
-        public Quote getQuote() {
-            return quote;
-        }
+    // Protegido pela regra /admin/** do SecurityConfig
+    @GetMapping("/admin/quote-metrics")
+    @ResponseBody
+    public Map<String, Object> getQuoteMetrics() {
+        return quoteProvider.getMetrics();
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,10 @@
 package com.todolist.controller;
 
+import com.todolist.config.AuthenticatedUser;
 import com.todolist.model.Task;
 import com.todolist.service.TaskService;
-import com.todolist.service.UserService;
 import jakarta.validation.Valid;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -16,21 +16,15 @@ import java.util.UUID;
 public class TaskPageController {
 
     private final TaskService taskService;
-    private final UserService userService;
 
-    public TaskPageController(TaskService taskService, UserService userService) {
+    public TaskPageController(TaskService taskService) {
         this.taskService = taskService;
-        this.userService = userService;
     }
 
     // Página inicial de tarefas
     @GetMapping
-    public String getTasksPage(Authentication authentication, Model model) {
-        // Obtém o usuário autenticado
-        String username = authentication.getName();
-        var user = userService.getUserByUsername(username);
-
-        // Adiciona as tarefas do usuário ao modelo
+    public String getTasksPage(@AuthenticationPrincipal AuthenticatedUser user, Model model) {
+        // Adiciona as tarefas do usuário autenticado ao modelo (o id vem do principal, sem consultar users)
         model.addAttribute("tasks", taskService.getAllTasks(user.getId()));
 
         // Adiciona uma nova tarefa vazia para o modal
@@ -41,9 +35,7 @@ public class TaskPageController {
 
     // Processa a criação de uma nova tarefa
     @PostMapping
-    public String createTask(@ModelAttribute @Valid Task task, Authentication authentication) {
-        String username = authentication.getName();
-        var user = userService.getUserByUsername(username);
+    public String createTask(@ModelAttribute @Valid Task task, @AuthenticationPrincipal AuthenticatedUser user) {
         taskService.createTask(task, user.getId());
         return "redirect:/tasks";
     }
@@ -0,0 +1,47 @@
+package com.todolist.dto;
+
+import com.todolist.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projeção de Task usada nas páginas tasks.html e home.html. Montada direto pela consulta JPQL,
+ * só com as colunas exibidas, então a renderização nunca toca a associação LAZY Task.user.
+ */
+public class TaskView {
+
+    private final UUID id;
+    private final String title;
+    private final String description;
+    private final LocalDate dueDate;
+    private final TaskStatus status;
+
+    public TaskView(UUID id, String title, String description, LocalDate dueDate, TaskStatus status) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+}
@@ -1,7 +1,10 @@
 package com.todolist.repository;
 
+import com.todolist.dto.TaskView;
 import com.todolist.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -10,7 +13,12 @@ import java.util.UUID;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
-    List<Task> findByUserId(UUID userId);
-    List<Task> findByUserIdAndDueDate(UUID userId, LocalDate dueDate);
-}
+    // Projeções pelo id do usuário autenticado: t.user.id usa a coluna user_id, sem JOIN em users
+    @Query("SELECT new com.todolist.dto.TaskView(t.id, t.title, t.description, t.dueDate, t.status) "
+            + "FROM Task t WHERE t.user.id = :userId")
+    List<TaskView> findViewsByUserId(@Param("userId") UUID userId);
 
+    @Query("SELECT new com.todolist.dto.TaskView(t.id, t.title, t.description, t.dueDate, t.status) "
+            + "FROM Task t WHERE t.user.id = :userId AND t.dueDate = :dueDate")
+    List<TaskView> findViewsByUserIdAndDueDate(@Param("userId") UUID userId, @Param("dueDate") LocalDate dueDate);
+}
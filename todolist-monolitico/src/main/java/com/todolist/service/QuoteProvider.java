@@ -0,0 +1,171 @@
+package com.todolist.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Frase do dia da FavQs servida a partir de memória. A busca na API acontece em segundo plano
+ * (agendada), então as requisições da home nunca esperam pela rede. Enquanto não houver
+ * nenhuma frase baixada, usa o corpus local em quotes/fallback-quotes.txt.
+ */
+@Component
+public class QuoteProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuoteProvider.class);
+    private static final String FALLBACK_RESOURCE = "quotes/fallback-quotes.txt";
+
+    private final WebClient webClient;
+    private final Duration fetchTimeout;
+    private final boolean enabled;
+    private final List<String> fallbackQuotes;
+
+    private final AtomicReference<CachedQuote> cachedQuote = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong fallbackHits = new AtomicLong();
+    private final AtomicLong refreshSuccesses = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+
+    public QuoteProvider(WebClient.Builder webClientBuilder,
+                         @Value("${quotes.favqs.base-url:https://favqs.com/api}") String baseUrl,
+                         @Value("${quotes.fetch-timeout-ms:5000}") long fetchTimeoutMillis,
+                         @Value("${quotes.enabled:true}") boolean enabled) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.fetchTimeout = Duration.ofMillis(fetchTimeoutMillis);
+        this.enabled = enabled;
+        this.fallbackQuotes = loadFallbackQuotes();
+    }
+
+    @Scheduled(fixedDelayString = "${quotes.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh().subscribe();
+        }
+    }
+
+    /**
+     * Busca uma nova frase. Não lança erro: falhas só incrementam o contador e mantêm a frase atual.
+     * Se já houver uma busca em andamento, não dispara outra.
+     */
+    public Mono<Void> refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+        return webClient.get()
+                .uri("/qotd")
+                .retrieve()
+                .bodyToMono(FavQuoteResponse.class)
+                .timeout(fetchTimeout)
+                .flatMap(response -> response.getQuote() != null && response.getQuote().getBody() != null
+                        && !response.getQuote().getBody().isBlank()
+                        ? Mono.just(response.getQuote().getBody())
+                        : Mono.error(new IllegalStateException("Empty quote in FavQs response")))
+                .doOnNext(body -> {
+                    cachedQuote.set(new CachedQuote(body, System.currentTimeMillis()));
+                    refreshSuccesses.incrementAndGet();
+                })
+                .onErrorResume(e -> {
+                    refreshFailures.incrementAndGet();
+                    logger.warn("Could not refresh quote from FavQs: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                // Libera antes de sinalizar o término, para que quem aguardou possa disparar outra busca
+                .doOnTerminate(() -> refreshing.set(false))
+                .doOnCancel(() -> refreshing.set(false))
+                .then();
+    }
+
+    /**
+     * Frase atual, sem I/O.
+     */
+    public String currentQuote() {
+        CachedQuote quote = cachedQuote.get();
+        if (quote != null) {
+            cacheHits.incrementAndGet();
+            return quote.body();
+        }
+        fallbackHits.incrementAndGet();
+        return fallbackQuote();
+    }
+
+    public Map<String, Object> getMetrics() {
+        CachedQuote quote = cachedQuote.get();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("source", quote != null ? "favqs" : "fallback");
+        metrics.put("cacheAgeMs", quote != null ? System.currentTimeMillis() - quote.fetchedAt() : -1L);
+        metrics.put("cacheHits", cacheHits.get());
+        metrics.put("fallbackHits", fallbackHits.get());
+        metrics.put("refreshSuccesses", refreshSuccesses.get());
+        metrics.put("refreshFailures", refreshFailures.get());
+        return metrics;
+    }
+
+    private String fallbackQuote() {
+        // Mesma frase durante o dia inteiro, como a "frase do dia" da API
+        return fallbackQuotes.get(LocalDate.now().getDayOfYear() % fallbackQuotes.size());
+    }
+
+    private static List<String> loadFallbackQuotes() {
+        ClassPathResource resource = new ClassPathResource(FALLBACK_RESOURCE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> quotes = reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+            if (!quotes.isEmpty()) {
+                return quotes;
+            }
+        } catch (IOException e) {
+            logger.warn("Could not load fallback quotes: {}", e.getMessage());
+        }
+        return List.of("The secret of getting ahead is getting started.");
+    }
+
+    private record CachedQuote(String body, long fetchedAt) {
+    }
+
+    static class FavQuoteResponse {
+        private Quote quote;
+
+        static class Quote {
+            private String body;
+
+            public String getBody() {
+                return body;
+            }
+
+            public void setBody(String body) {
+                this.body = body;
+            }
+        }
+
+        public Quote getQuote() {
+            return quote;
+        }
+
+        public void setQuote(Quote quote) {
+            this.quote = quote;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.todolist.service;
 
+import com.todolist.dto.TaskView;
 import com.todolist.exception.ResourceNotFoundException;
 import com.todolist.model.Task;
-import com.todolist.model.User;
 import com.todolist.repository.TaskRepository;
 import org.springframework.stereotype.Service;
 
@@ -21,18 +21,17 @@ public class TaskService {
         this.userService = userService;
     }
 
-    public List<Task> getAllTasks(UUID userId) {
-        return taskRepository.findByUserId(userId);
+    public List<TaskView> getAllTasks(UUID userId) {
+        return taskRepository.findViewsByUserId(userId);
     }
 
-    public List<Task> getTasksByDueDate(String username, LocalDate date) {
-        User user = userService.getUserByUsername(username);
-        return taskRepository.findByUserIdAndDueDate(user.getId(), date);
+    public List<TaskView> getTasksByDueDate(UUID userId, LocalDate date) {
+        return taskRepository.findViewsByUserIdAndDueDate(userId, date);
     }
 
     public void createTask(Task task, UUID userId) {
-        User user = userService.getUserById(userId);
-        task.setUser(user);
+        // Proxy do usuário: o INSERT só precisa da chave estrangeira, sem SELECT em users
+        task.setUser(userService.getUserReference(userId));
         taskRepository.save(task);
     }
 
@@ -37,6 +37,11 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    // Referência (proxy) ao usuário, sem consultar o banco; para associações como Task.user
+    public User getUserReference(UUID id) {
+        return userRepository.getReferenceById(id);
+    }
+
     // Busca usuário por nome de usuário
     public User getUserByUsername(String username) {
         return userRepository.findByUsername(username)